@@ -3,6 +3,7 @@ plugins {
     alias(libs.plugins.spring.boot)
     alias(libs.plugins.spring.dependency.management)
     id("jacoco")
+    alias(libs.plugins.jmh)
 }
 
 configurations {
@@ -15,6 +16,14 @@ allprojects {
     group = property("app.group").toString()
 }
 
+// load test source set (src/loadtest/java, 애플리케이션 클래스와 런타임 의존성을 그대로 사용)
+val loadtest: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+configurations[loadtest.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[loadtest.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get())
+
 dependencyManagement {
     imports {
         mavenBom(libs.spring.cloud.dependencies.get().toString())
@@ -23,10 +32,13 @@ dependencyManagement {
 
 dependencies {
     implementation(libs.spring.boot.starter.web)
+    implementation(libs.spring.boot.starter.actuator)
+    runtimeOnly(libs.micrometer.registry.prometheus)
     compileOnly(libs.lombok)
     annotationProcessor(libs.lombok)
     annotationProcessor(libs.spring.boot.configuration.processor)
     testImplementation(libs.spring.boot.starter.test)
+    "loadtestImplementation"(libs.hdrhistogram)
 }
 
 // about source and compilation
@@ -38,6 +50,25 @@ with(extensions.getByType(JacocoPluginExtension::class.java)) {
     toolVersion = "0.8.7"
 }
 
+// benchmark tasks (src/jmh/java, 결과는 build/reports/jmh/results.json)
+jmh {
+    jmhVersion = libs.versions.jmh.get()
+    fork = 1
+    warmupIterations = 2
+    iterations = 3
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("reports/jmh/results.json")
+}
+
+// load test task (./gradlew loadTest -Dloadtest.duration-seconds=60 -Dloadtest.distribution=zipfian ...)
+tasks.register<JavaExec>("loadTest") {
+    group = "verification"
+    description = "애플리케이션을 임의의 포트로 띄우고 HTTP 부하를 준 뒤 지연 시간 분포와 잔액 일치 여부를 출력합니다."
+    classpath = loadtest.runtimeClasspath
+    mainClass.set("io.hhplus.loadtest.PointLoadTest")
+    systemProperties(System.getProperties().filterKeys { it.toString().startsWith("loadtest.") }.mapKeys { it.key.toString() })
+}
+
 // bundling tasks
 tasks.getByName("bootJar") {
     enabled = true
@@ -50,3 +81,17 @@ tasks.test {
     ignoreFailures = true
     useJUnitPlatform()
 }
+
+// 플랫폼/가상 스레드 조회 처리량 비교 (./gradlew readConcurrencyLoadTest -Dloadtest.concurrency=200)
+// Java 21 toolchain 으로 실행하며, 가상 스레드가 캐리어 스레드에 고정되면 스택을 출력하고 실패
+tasks.register<JavaExec>("readConcurrencyLoadTest") {
+    group = "verification"
+    description = "애플리케이션을 플랫폼 스레드와 가상 스레드로 각각 띄워 같은 조건에서 포인트 조회 처리량을 비교하고 가상 스레드 고정 여부를 확인합니다."
+    classpath = loadtest.runtimeClasspath
+    mainClass.set("io.hhplus.loadtest.ReadConcurrencyLoadTest")
+    javaLauncher.set(javaToolchains.launcherFor {
+        languageVersion.set(JavaLanguageVersion.of(21))
+    })
+    jvmArgs("-Djdk.tracePinnedThreads=full")
+    systemProperties(System.getProperties().filterKeys { it.toString().startsWith("loadtest.") }.mapKeys { it.key.toString() })
+}
@@ -5,6 +5,11 @@ pluginManagement {
     }
 }
 
+// readConcurrencyLoadTest 의 Java 21 toolchain 이 설치되어 있지 않으면 내려받음
+plugins {
+    id("org.gradle.toolchains.foojay-resolver-convention") version "0.7.0"
+}
+
 dependencyResolutionManagement {
     @Suppress("UnstableApiUsage")
     repositories {
@@ -0,0 +1,142 @@
+package io.hhplus.benchmark;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.domain.PointCommand;
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.enums.TransactionType;
+import io.hhplus.tdd.point.lock.PointServiceLock;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryRepositoryImpl;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.UserPointRepositoryImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 서로 다른 유저 16명의 충전 처리량을 전역 락과 유저별 락(PointServiceLock)으로 비교
+ * - 스레드마다 다른 유저를 사용하므로 유저별 락끼리는 경쟁하지 않습니다.
+ * - storage=table : 실제 UserPointTable / PointHistoryTable 을 저장소 구현체로 사용합니다.
+ *   두 테이블은 thread-safe 하지 않아 저장소가 테이블 쓰기를 한 번에 하나씩만 허용하므로,
+ *   유저별 락을 써도 처리량은 두 테이블 쓰기 시간(평균 150ms 씩)에 묶입니다.
+ * - storage=thread-safe : 테이블과 같은 평균 지연(조회 100ms, 저장 150ms)을 sleep 하되 동시 쓰기가 가능한 저장소입니다.
+ *   유저별 락만의 효과(락을 나눈 만큼 병렬로 처리)를 보여줍니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 3, time = 10)
+public class DistinctUserWriteBenchmark {
+
+    @Param({"table", "thread-safe"})
+    public String storage;
+
+    private UserPointRepository userPointRepository;
+    private PointHistoryRepository pointHistoryRepository;
+    private PointServiceLock pointServiceLock;
+    private final ReentrantLock globalLock = new ReentrantLock(true);
+    private final AtomicLong userIdSequence = new AtomicLong();
+
+    @State(Scope.Thread)
+    public static class UserState {
+        public long userId;
+
+        @Setup
+        public void setUp(DistinctUserWriteBenchmark benchmark) {
+            userId = benchmark.userIdSequence.incrementAndGet();
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        if (storage.equals("table")) {
+            userPointRepository = new UserPointRepositoryImpl(new UserPointTable());
+            pointHistoryRepository = new PointHistoryRepositoryImpl(new PointHistoryTable());
+        } else {
+            userPointRepository = new SleepingUserPointRepository();
+            pointHistoryRepository = new SleepingPointHistoryRepository();
+        }
+        pointServiceLock = new PointServiceLock();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public UserPoint globalLock(UserState userState) {
+        globalLock.lock();
+        try {
+            return PointCommand.charge(userState.userId, 1L).execute(userPointRepository, pointHistoryRepository);
+        } finally {
+            globalLock.unlock();
+        }
+    }
+
+    @Benchmark
+    @Threads(16)
+    public UserPoint perUserLock(UserState userState) {
+        pointServiceLock.lock(userState.userId);
+        try {
+            return PointCommand.charge(userState.userId, 1L).execute(userPointRepository, pointHistoryRepository);
+        } finally {
+            pointServiceLock.unLock(userState.userId);
+        }
+    }
+
+    // 테이블과 같은 범위(0 ~ millis)의 무작위 지연
+    private static void throttle(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep((long) (Math.random() * millis));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class SleepingUserPointRepository implements UserPointRepository {
+        private final ConcurrentHashMap<Long, UserPoint> table = new ConcurrentHashMap<>();
+
+        @Override
+        public UserPoint findById(Long id) {
+            throttle(200);
+            return table.getOrDefault(id, UserPoint.empty(id));
+        }
+
+        @Override
+        public UserPoint saveOrUpdate(Long id, Long amount) {
+            throttle(300);
+            UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+            table.put(id, userPoint);
+            return userPoint;
+        }
+    }
+
+    private static final class SleepingPointHistoryRepository implements PointHistoryRepository {
+        private final AtomicLong cursor = new AtomicLong();
+
+        @Override
+        public PointHistory save(long userId, long amount, TransactionType type, long updateMillis) {
+            throttle(300);
+            return new PointHistory(cursor.incrementAndGet(), userId, amount, type, updateMillis);
+        }
+
+        @Override
+        public List<PointHistory> findAllByUserId(long userId) {
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package io.hhplus.benchmark;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.repository.HedgedReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 헤지 조회 전후의 조회 지연 분포(p50/p99)를 지연 모델별로 측정 (SampleTime 결과의 백분위를 비교)
+ * - table : 기존 UserPointTable 의 조회 지연 (0~200ms 균등 분포)
+ *   지연의 상한이 정해져 있어 늦게 보낸 조회가 먼저 끝날 여지가 적으므로 꼬리 지연은 거의 줄지 않습니다.
+ * - heavyTail : 대부분 빠르고(95% 는 0~20ms) 가끔 크게 늦어지는(5% 는 300ms) 조회
+ *   p90 이후 헤지로 p99 가 크게 줄어듭니다.
+ * - hedge : none(헤지 없음), p90(추가 조회 20% 한도), p50(추가 조회 50% 한도)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(32)
+public class HedgedReadBenchmark {
+
+    @Param({"table", "heavyTail"})
+    public String latency;
+
+    @Param({"none", "p90", "p50"})
+    public String hedge;
+
+    private final UserPointTable userPointTable = new UserPointTable();
+    private HedgedReader hedgedReader;
+
+    @Setup
+    public void setUp() {
+        hedgedReader = switch (hedge) {
+            case "p90" -> new HedgedReader(0.9, 50, 0.2, 16);
+            case "p50" -> new HedgedReader(0.5, 50, 0.5, 16);
+            default -> null;
+        };
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (hedgedReader != null) {
+            hedgedReader.shutdown();
+        }
+    }
+
+    @Benchmark
+    public UserPoint read() {
+        return hedgedReader == null ? select() : hedgedReader.read(this::select);
+    }
+
+    private UserPoint select() {
+        if ("table".equals(latency)) {
+            return userPointTable.selectById(1L);
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(ThreadLocalRandom.current().nextDouble() < 0.05
+                    ? 300 : ThreadLocalRandom.current().nextLong(20));
+        } catch (InterruptedException ignored) {
+            // 헤지 조회가 먼저 끝나 깨운 경우
+        }
+        return UserPoint.empty(1L);
+    }
+}
@@ -0,0 +1,120 @@
+package io.hhplus.benchmark;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.domain.PointCommand;
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.enums.TransactionType;
+import io.hhplus.tdd.point.executor.OptimisticPointCommandExecutor;
+import io.hhplus.tdd.point.lock.PointServiceLock;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepositoryImpl;
+import io.hhplus.tdd.point.repository.VersionedUserPointRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 유저 수(경쟁 정도)에 따른 비관적 락(PointServiceLock)과 낙관적 CAS(OptimisticPointCommandExecutor) 충전 처리량 비교
+ * - 16 개 스레드가 userCount 명의 유저 중 무작위로 골라 1 포인트씩 충전합니다.
+ *   userCount=1 은 모든 요청이 한 유저에 몰리는 경우, 1024 는 경쟁이 거의 없는 경우입니다.
+ * - 테이블은 sleep 없이 메모리에 저장하고, writeNanos 만큼 바쁜 대기하여 테이블 쓰기 지연을 흉내냅니다.
+ *   락 방식은 이 지연 동안 락을 잡고 있고, 낙관적 방식은 CAS 이후에 테이블에 쓰므로 충돌 구간에 포함되지 않습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OptimisticContentionBenchmark {
+
+    @Param({"1", "16", "1024"})
+    public int userCount;
+
+    @Param({"0", "10000"})
+    public long writeNanos;
+
+    private UserPointRepositoryImpl userPointRepository;
+    private PointHistoryRepository pointHistoryRepository;
+    private PointServiceLock pointServiceLock;
+    private OptimisticPointCommandExecutor optimisticExecutor;
+
+    @Setup
+    public void setUp() {
+        userPointRepository = new UserPointRepositoryImpl(new InMemoryUserPointTable(writeNanos));
+        pointHistoryRepository = new NoOpPointHistoryRepository();
+        pointServiceLock = new PointServiceLock();
+        optimisticExecutor = new OptimisticPointCommandExecutor(
+                new VersionedUserPointRepository(userPointRepository), pointHistoryRepository, 16, 50, 5000);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public UserPoint pessimisticLock() {
+        PointCommand command = PointCommand.charge(nextUserId(), 1L);
+        pointServiceLock.lock(command.userId());
+        try {
+            return command.execute(userPointRepository, pointHistoryRepository);
+        } finally {
+            pointServiceLock.unLock(command.userId());
+        }
+    }
+
+    @Benchmark
+    @Threads(16)
+    public UserPoint optimisticCas() {
+        return optimisticExecutor.execute(PointCommand.charge(nextUserId(), 1L), null);
+    }
+
+    private long nextUserId() {
+        return ThreadLocalRandom.current().nextInt(userCount);
+    }
+
+    // sleep 대신 지정한 시간만큼 바쁜 대기하는 메모리 테이블
+    private static final class InMemoryUserPointTable extends UserPointTable {
+        private final ConcurrentHashMap<Long, UserPoint> table = new ConcurrentHashMap<>();
+        private final long writeNanos;
+
+        private InMemoryUserPointTable(long writeNanos) {
+            this.writeNanos = writeNanos;
+        }
+
+        @Override
+        public UserPoint selectById(Long id) {
+            return table.getOrDefault(id, UserPoint.empty(id));
+        }
+
+        @Override
+        public UserPoint insertOrUpdate(long id, long amount) {
+            long deadline = System.nanoTime() + writeNanos;
+            while (System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+            table.put(id, userPoint);
+            return userPoint;
+        }
+    }
+
+    // 히스토리 저장 비용은 두 방식에서 같으므로 제외
+    private static final class NoOpPointHistoryRepository implements PointHistoryRepository {
+        @Override
+        public PointHistory save(long userId, long amount, TransactionType type, long updateMillis) {
+            return new PointHistory(0L, userId, amount, type, updateMillis);
+        }
+
+        @Override
+        public List<PointHistory> findAllByUserId(long userId) {
+            return List.of();
+        }
+    }
+}
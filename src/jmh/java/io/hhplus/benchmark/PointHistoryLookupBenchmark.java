@@ -0,0 +1,87 @@
+package io.hhplus.benchmark;
+
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.enums.TransactionType;
+import io.hhplus.tdd.point.repository.PointHistoryIndex;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전체 히스토리 건수에 따른 유저별 히스토리 조회 비용 측정
+ * - PointHistoryTable 은 insert 마다 sleep 하므로, 같은 방식으로 전체 리스트를 순회하는 저장소를
+ *   PointHistoryRepository 로 구현하여 sleep 없이 채워서 비교합니다.
+ * - 조회 대상 유저의 내역 수는 TARGET_HISTORY_COUNT 로 고정하고 나머지는 다른 유저의 내역으로 채우므로,
+ *   인덱스 조회 시간은 tableSize 와 관계없이 일정하고 전체 순회 조회 시간은 tableSize 에 비례해야 합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PointHistoryLookupBenchmark {
+
+    private static final int USER_COUNT = 10_000;
+    private static final long TARGET_USER_ID = 0L;
+    private static final int TARGET_HISTORY_COUNT = 100;
+
+    @Param({"10000", "100000", "1000000", "2000000"})
+    public int tableSize;
+
+    private ScanPointHistoryRepository scanRepository;
+    private PointHistoryIndex pointHistoryIndex;
+
+    @Setup
+    public void setUp() {
+        scanRepository = new ScanPointHistoryRepository();
+        pointHistoryIndex = new PointHistoryIndex();
+        long targetInterval = tableSize / TARGET_HISTORY_COUNT; // 대상 유저의 내역을 전체 기간에 고르게 섞음
+        for (long id = 1; id <= tableSize; id++) {
+            long userId = id % targetInterval == 0 ? TARGET_USER_ID : 1 + id % USER_COUNT;
+            PointHistory pointHistory = new PointHistory(id, userId, 100L, TransactionType.CHARGE, id);
+            scanRepository.table.add(pointHistory);
+            pointHistoryIndex.add(pointHistory);
+        }
+    }
+
+    // PointHistoryTable.selectAllByUserId 와 같은 전체 순회 조회
+    @Benchmark
+    public List<PointHistory> selectAllByUserId_scan() {
+        return scanRepository.findAllByUserId(TARGET_USER_ID);
+    }
+
+    @Benchmark
+    public List<PointHistory> findAllByUserId_index() {
+        return pointHistoryIndex.findAllByUserId(TARGET_USER_ID);
+    }
+
+    @Benchmark
+    public List<PointHistory> findAllByUserIdBetween_index() {
+        return pointHistoryIndex.findAllByUserIdBetween(TARGET_USER_ID, tableSize / 2, tableSize / 2 + tableSize / 10);
+    }
+
+    // sleep 없이 PointHistoryTable 과 같은 방식으로 동작하는 저장소
+    private static final class ScanPointHistoryRepository implements PointHistoryRepository {
+        private final List<PointHistory> table = new ArrayList<>();
+
+        @Override
+        public PointHistory save(long userId, long amount, TransactionType type, long updateMillis) {
+            PointHistory pointHistory = new PointHistory(table.size() + 1, userId, amount, type, updateMillis);
+            table.add(pointHistory);
+            return pointHistory;
+        }
+
+        @Override
+        public List<PointHistory> findAllByUserId(long userId) {
+            return table.stream().filter(pointHistory -> pointHistory.userId() == userId).toList();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package io.hhplus.benchmark;
+
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.enums.TransactionType;
+import io.hhplus.tdd.point.repository.ColumnarPointHistoryStore;
+import io.hhplus.tdd.point.repository.PointHistoryIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PointHistoryTable(+ PointHistoryIndex) 구조와 ColumnarPointHistoryStore 의 내역당 힙 사용량과 집계 비용 비교
+ * - 힙 사용량(내역당 byte)은 Setup 에서 측정하여 출력합니다.
+ * - 벤치마크는 무작위 유저 한 명의 충전 금액 합계를 구하는 비용을 측정합니다.
+ * - 1천만 건은 -Xmx4g 이상에서 실행해야 합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PointHistoryStorageBenchmark {
+
+    private static final int USER_COUNT = 100_000;
+
+    @Param({"1000000", "10000000"})
+    public int rowCount;
+
+    private List<PointHistory> table;
+    private PointHistoryIndex pointHistoryIndex;
+    private ColumnarPointHistoryStore columnarStore;
+
+    @Setup
+    public void setUp() {
+        long before = usedHeap();
+        table = new ArrayList<>();
+        pointHistoryIndex = new PointHistoryIndex();
+        for (int i = 0; i < rowCount; i++) {
+            PointHistory pointHistory = new PointHistory(i + 1, i % USER_COUNT, i, typeOf(i), i);
+            table.add(pointHistory);
+            pointHistoryIndex.add(pointHistory);
+        }
+        report("table+index", before);
+
+        before = usedHeap();
+        columnarStore = new ColumnarPointHistoryStore();
+        for (int i = 0; i < rowCount; i++) {
+            columnarStore.insert(i % USER_COUNT, i, typeOf(i), i);
+        }
+        report("columnar", before);
+    }
+
+    @Benchmark
+    public long indexChargeSum() {
+        long sum = 0;
+        for (PointHistory pointHistory : pointHistoryIndex.findAllByUserId(randomUserId())) {
+            if (pointHistory.type() == TransactionType.CHARGE) {
+                sum += pointHistory.amount();
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long columnarChargeSum() {
+        return columnarStore.sumAmount(randomUserId(), TransactionType.CHARGE, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    private static long randomUserId() {
+        return ThreadLocalRandom.current().nextInt(USER_COUNT);
+    }
+
+    private static TransactionType typeOf(int i) {
+        return i % 2 == 0 ? TransactionType.CHARGE : TransactionType.USE;
+    }
+
+    private void report(String name, long before) {
+        long used = usedHeap() - before;
+        System.out.printf("%n[%s] rows=%d heap=%dMB (%.1f bytes/row)%n", name, rowCount, used >> 20, (double) used / rowCount);
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,76 @@
+package io.hhplus.benchmark;
+
+import io.hhplus.tdd.point.enums.TransactionType;
+import io.hhplus.tdd.point.journal.JournalDurability;
+import io.hhplus.tdd.point.journal.JournalRecord;
+import io.hhplus.tdd.point.journal.PointJournal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 저널 durability 모드별 초당 기록 건수(transactions/sec) 측정
+ * - NONE : 디스크 반영을 기다리지 않음
+ * - GROUP : 백그라운드 group commit 을 기다림 (동시에 기록하는 스레드가 많을수록 force 한 번에 여러 건이 묶임)
+ * - SYNC : 기록마다 force
+ * - 결과는 저장 장치의 fsync 비용에 크게 좌우되므로 실제 운영 디스크에서 측정해야 의미가 있습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PointJournalBenchmark {
+
+    @Param({"NONE", "GROUP", "SYNC"})
+    public JournalDurability durability;
+
+    private Path directory;
+    private PointJournal pointJournal;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("point-journal-benchmark");
+        pointJournal = new PointJournal(directory.toString(), 64 * 1024 * 1024, durability, 10);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException, IOException {
+        pointJournal.close();
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void append_1thread() {
+        append();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public void append_16threads() {
+        append();
+    }
+
+    private void append() {
+        pointJournal.append(new JournalRecord(JournalRecord.Kind.HISTORY, Thread.currentThread().getId(), 100L,
+                TransactionType.CHARGE, System.currentTimeMillis()));
+    }
+}
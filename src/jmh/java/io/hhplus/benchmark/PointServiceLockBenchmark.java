@@ -0,0 +1,89 @@
+package io.hhplus.benchmark;
+
+import io.hhplus.tdd.point.lock.PointServiceLock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * PointServiceLock 획득/해제 비용을 스레드 수와 공정/비공정 모드별로 측정
+ * - sameUser : 모든 스레드가 같은 유저의 락을 두고 경쟁
+ * - distinctUser : 스레드마다 다른 유저의 락을 사용 (경쟁 없음)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PointServiceLockBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class LockState {
+        @Param({"true", "false"})
+        public boolean fair;
+
+        public PointServiceLock pointServiceLock;
+
+        private final AtomicLong userIdSequence = new AtomicLong();
+
+        @Setup
+        public void setUp() {
+            pointServiceLock = new PointServiceLock(fair);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class UserState {
+        public long userId;
+
+        @Setup
+        public void setUp(LockState lockState) {
+            userId = lockState.userIdSequence.incrementAndGet();
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void sameUser_1thread(LockState lockState) {
+        lockAndUnlock(lockState.pointServiceLock, 0L);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void sameUser_4threads(LockState lockState) {
+        lockAndUnlock(lockState.pointServiceLock, 0L);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public void sameUser_16threads(LockState lockState) {
+        lockAndUnlock(lockState.pointServiceLock, 0L);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void distinctUser_4threads(LockState lockState, UserState userState) {
+        lockAndUnlock(lockState.pointServiceLock, userState.userId);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public void distinctUser_16threads(LockState lockState, UserState userState) {
+        lockAndUnlock(lockState.pointServiceLock, userState.userId);
+    }
+
+    private void lockAndUnlock(PointServiceLock pointServiceLock, long userId) {
+        pointServiceLock.lock(userId);
+        try {
+            // 락 안에서는 아무 작업도 하지 않고 획득/해제 비용만 측정
+        } finally {
+            pointServiceLock.unLock(userId);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package io.hhplus.benchmark;
+
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.enums.TransactionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 포인트 도메인 객체의 충전/사용/히스토리 생성 비용 측정
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserPointBenchmark {
+
+    private final UserPoint userPoint = new UserPoint(1L, 50_000L, System.currentTimeMillis());
+
+    @Benchmark
+    public UserPoint addPoints() {
+        return userPoint.addPoints(100L);
+    }
+
+    @Benchmark
+    public UserPoint subtractPoints() {
+        return userPoint.subtractPoints(100L);
+    }
+
+    @Benchmark
+    public PointHistory createPointHistory() {
+        return PointHistory.create(1L, 100L, TransactionType.CHARGE);
+    }
+}
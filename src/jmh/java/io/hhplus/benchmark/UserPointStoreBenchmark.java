@@ -0,0 +1,89 @@
+package io.hhplus.benchmark;
+
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.repository.PrimitiveUserPointStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 유저 수별 HashMap<Long, UserPoint>(UserPointTable 과 같은 구조) 와 PrimitiveUserPointStore 비교
+ * - 채우는 동안의 힙 사용량(유저당 byte)과 GC 시간은 Setup 에서 측정하여 출력합니다.
+ * - 벤치마크는 무작위 유저 조회 비용을 측정합니다. (-prof gc 로 조회당 할당량도 함께 확인 가능)
+ * - 10M 유저는 -Xmx4g 이상에서 실행해야 합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserPointStoreBenchmark {
+
+    @Param({"1000000", "10000000"})
+    public int userCount;
+
+    private Map<Long, UserPoint> hashMap;
+    private PrimitiveUserPointStore primitiveStore;
+
+    @Setup
+    public void setUp() {
+        long before = usedHeap();
+        long gcBefore = gcMillis();
+        hashMap = new HashMap<>();
+        for (long id = 0; id < userCount; id++) {
+            hashMap.put(id, new UserPoint(id, id, System.currentTimeMillis()));
+        }
+        report("hashMap", before, gcBefore);
+
+        before = usedHeap();
+        gcBefore = gcMillis();
+        primitiveStore = new PrimitiveUserPointStore(1024);
+        for (long id = 0; id < userCount; id++) {
+            primitiveStore.insertOrUpdate(id, id);
+        }
+        report("primitive", before, gcBefore);
+    }
+
+    @Benchmark
+    public UserPoint hashMapLookup() {
+        long id = ThreadLocalRandom.current().nextInt(userCount);
+        return hashMap.getOrDefault(id, UserPoint.empty(id));
+    }
+
+    @Benchmark
+    public UserPoint primitiveLookup() {
+        return primitiveStore.findById(ThreadLocalRandom.current().nextInt(userCount));
+    }
+
+    private void report(String name, long before, long gcBefore) {
+        long used = usedHeap() - before;
+        System.out.printf("%n[%s] users=%d heap=%dMB (%.1f bytes/user) gc=%dms%n",
+                name, userCount, used >> 20, (double) used / userCount, gcMillis() - gcBefore);
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static long gcMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += bean.getCollectionTime();
+        }
+        return total;
+    }
+}
@@ -0,0 +1,79 @@
+package io.hhplus.loadtest;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * 부하 테스트 설정 (시스템 프로퍼티 loadtest.* 로 지정)
+ * - 예: ./gradlew loadTest -Dloadtest.duration-seconds=60 -Dloadtest.distribution=zipfian
+ *       -Dloadtest.mix=point:50,histories:10,charge:30,use:10 -Dloadtest.app.point.execution.mode=actor
+ * - loadtest.app.* 는 접두사를 뗀 뒤 애플리케이션 설정으로 그대로 전달합니다.
+ */
+record LoadTestOptions(
+        int durationSeconds,
+        int warmupSeconds,
+        int concurrency,
+        int users,
+        String distribution,
+        double zipfTheta,
+        Map<PointLoadTest.Endpoint, Integer> mix,
+        long maxChargeAmount,
+        long maxUseAmount,
+        int rate,
+        boolean printDistribution,
+        Map<String, Object> appProperties
+) {
+    private static final String PREFIX = "loadtest.";
+    private static final String APP_PREFIX = PREFIX + "app.";
+
+    static LoadTestOptions from(Properties properties) {
+        Map<String, Object> appProperties = new LinkedHashMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            if (name.startsWith(APP_PREFIX)) {
+                appProperties.put(name.substring(APP_PREFIX.length()), properties.getProperty(name));
+            }
+        }
+        appProperties.put("server.port", "0"); // 항상 임의의 포트로 기동
+
+        return new LoadTestOptions(
+                Integer.parseInt(get(properties, "duration-seconds", "30")),
+                Integer.parseInt(get(properties, "warmup-seconds", "5")),
+                Integer.parseInt(get(properties, "concurrency", "32")),
+                Integer.parseInt(get(properties, "users", "1000")),
+                get(properties, "distribution", "uniform"),
+                Double.parseDouble(get(properties, "zipf-theta", "0.99")),
+                parseMix(get(properties, "mix", "point:40,histories:20,charge:25,use:15")),
+                Long.parseLong(get(properties, "max-charge-amount", "1000")),
+                Long.parseLong(get(properties, "max-use-amount", "1000")),
+                Integer.parseInt(get(properties, "rate", "0")),
+                Boolean.parseBoolean(get(properties, "print-distribution", "false")),
+                appProperties
+        );
+    }
+
+    private static String get(Properties properties, String name, String defaultValue) {
+        return properties.getProperty(PREFIX + name, defaultValue);
+    }
+
+    // "point:40,histories:20,charge:25,use:15" 형식의 요청 비율
+    private static Map<PointLoadTest.Endpoint, Integer> parseMix(String mix) {
+        Map<PointLoadTest.Endpoint, Integer> weights = new EnumMap<>(PointLoadTest.Endpoint.class);
+        for (String token : mix.split(",")) {
+            String[] pair = token.trim().split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("요청 비율 형식이 잘못되었습니다. mix:" + mix);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("요청 비율은 0 이상이어야 합니다. mix:" + mix);
+            }
+            weights.put(PointLoadTest.Endpoint.fromKey(pair[0].trim()), weight);
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("요청 비율의 합은 0보다 커야 합니다. mix:" + mix);
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,330 @@
+package io.hhplus.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.TddApplication;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 애플리케이션을 임의의 포트로 띄운 뒤 JDK HttpClient 로 포인트 API 에 부하를 주는 테스트 (./gradlew loadTest)
+ * - 설정한 비율로 포인트 조회/히스토리 조회/충전/사용 요청을 섞어서 보내고,
+ *   측정 구간의 처리량과 p50/p99/p999 지연 시간을 엔드포인트별로 출력합니다.
+ * - rate 를 지정하지 않으면 각 스레드가 응답을 받는 즉시 다음 요청을 보냅니다. (closed loop)
+ *   rate 를 지정하면 정해진 간격으로 요청을 보내고, 지연 시간을 예정된 전송 시각부터 측정하여
+ *   서버가 밀릴 때 기다린 시간까지 포함합니다. (coordinated omission 보정)
+ * - 종료 후 유저별 성공한 충전/사용 합계와 실제 잔액이 일치하는지 검증하고, 불일치가 있으면 1 로 종료합니다.
+ *   (응답을 받지 못한 충전/사용이 있는 유저는 반영 여부를 알 수 없으므로 검증에서 제외)
+ */
+public class PointLoadTest {
+
+    enum Endpoint {
+        POINT("point", "GET /point/{id}"),
+        HISTORIES("histories", "GET /point/{id}/histories"),
+        CHARGE("charge", "PATCH /point/{id}/charge"),
+        USE("use", "PATCH /point/{id}/use");
+
+        private final String key;
+        private final String label;
+
+        Endpoint(String key, String label) {
+            this.key = key;
+            this.label = label;
+        }
+
+        static Endpoint fromKey(String key) {
+            for (Endpoint endpoint : values()) {
+                if (endpoint.key.equals(key)) {
+                    return endpoint;
+                }
+            }
+            throw new IllegalArgumentException("지원하지 않는 엔드포인트입니다. key:" + key);
+        }
+    }
+
+    private final LoadTestOptions options;
+    private final URI baseUri;
+    private final HttpClient httpClient;
+    private final UserIdSampler userIdSampler;
+    private final Endpoint[] endpoints;
+    private final int[] cumulativeWeights;
+
+    // 유저별 성공한 충전 - 사용 합계와, 응답을 받지 못해 반영 여부를 알 수 없는 유저
+    private final ConcurrentHashMap<Long, LongAdder> expectedBalances = new ConcurrentHashMap<>();
+    private final Set<Long> uncertainUsers = ConcurrentHashMap.newKeySet();
+
+    PointLoadTest(LoadTestOptions options, URI baseUri) {
+        this.options = options;
+        this.baseUri = baseUri;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.userIdSampler = UserIdSampler.of(options.distribution(), options.users(), options.zipfTheta());
+
+        List<Endpoint> weighted = new ArrayList<>();
+        List<Integer> cumulative = new ArrayList<>();
+        int sum = 0;
+        for (Map.Entry<Endpoint, Integer> entry : options.mix().entrySet()) {
+            if (entry.getValue() > 0) {
+                sum += entry.getValue();
+                weighted.add(entry.getKey());
+                cumulative.add(sum);
+            }
+        }
+        this.endpoints = weighted.toArray(Endpoint[]::new);
+        this.cumulativeWeights = cumulative.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.from(System.getProperties());
+        boolean verified;
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TddApplication.class)
+                .properties(options.appProperties())
+                .run(args)) {
+            String port = context.getEnvironment().getProperty("local.server.port");
+            verified = new PointLoadTest(options, URI.create("http://localhost:" + port)).run();
+        }
+        System.exit(verified ? 0 : 1);
+    }
+
+    boolean run() throws Exception {
+        int concurrency = options.concurrency();
+        ExecutorService executorService = Executors.newFixedThreadPool(concurrency);
+        try {
+            long startNanos = System.nanoTime();
+            long warmupEndNanos = startNanos + TimeUnit.SECONDS.toNanos(options.warmupSeconds());
+            long endNanos = warmupEndNanos + TimeUnit.SECONDS.toNanos(options.durationSeconds());
+            long intervalNanos = options.rate() > 0 ? TimeUnit.SECONDS.toNanos(1) * concurrency / options.rate() : 0;
+
+            List<Future<WorkerStats>> futures = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                long firstNanos = startNanos + intervalNanos * i / concurrency; // 스레드별 전송 시각을 고르게 분산
+                futures.add(executorService.submit(() -> drive(firstNanos, warmupEndNanos, endNanos, intervalNanos)));
+            }
+            WorkerStats total = new WorkerStats();
+            for (Future<WorkerStats> future : futures) {
+                total.add(future.get());
+            }
+            report(total);
+            return verifyBalances(executorService);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private WorkerStats drive(long firstNanos, long warmupEndNanos, long endNanos, long intervalNanos)
+            throws InterruptedException {
+        WorkerStats stats = new WorkerStats();
+        boolean measuring = false;
+        long intendedNanos = firstNanos;
+        while (true) {
+            long now = System.nanoTime();
+            if (intervalNanos == 0) {
+                intendedNanos = now;
+            } else if (intendedNanos > now) {
+                LockSupport.parkNanos(intendedNanos - now);
+            }
+            if (intendedNanos >= endNanos) {
+                return stats;
+            }
+            if (!measuring && intendedNanos >= warmupEndNanos) {
+                stats.reset(); // 워밍업 구간의 기록은 버림 (잔액 검증용 합계는 유지)
+                measuring = true;
+            }
+
+            Endpoint endpoint = nextEndpoint();
+            long userId = userIdSampler.next();
+            Outcome outcome = send(endpoint, userId);
+            stats.record(endpoint, outcome, System.nanoTime() - intendedNanos);
+            intendedNanos += intervalNanos;
+        }
+    }
+
+    private Endpoint nextEndpoint() {
+        int value = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return endpoints[i];
+            }
+        }
+        throw new IllegalStateException("요청 비율 계산이 잘못되었습니다.");
+    }
+
+    private Outcome send(Endpoint endpoint, long userId) throws InterruptedException {
+        long amount = switch (endpoint) {
+            case CHARGE -> ThreadLocalRandom.current().nextLong(1, options.maxChargeAmount() + 1);
+            case USE -> ThreadLocalRandom.current().nextLong(1, options.maxUseAmount() + 1);
+            default -> 0L;
+        };
+        HttpRequest request = switch (endpoint) {
+            case POINT -> get("/point/" + userId);
+            case HISTORIES -> get("/point/" + userId + "/histories");
+            case CHARGE -> patch("/point/" + userId + "/charge", amount);
+            case USE -> patch("/point/" + userId + "/use", amount);
+        };
+        boolean mutating = endpoint == Endpoint.CHARGE || endpoint == Endpoint.USE;
+        LongAdder expected = mutating ? expectedBalances.computeIfAbsent(userId, key -> new LongAdder()) : null;
+
+        try {
+            int status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            if (status / 100 != 2) {
+                return Outcome.FAILED; // 잔액 부족 등으로 거절된 요청은 잔액에 반영되지 않음
+            }
+            if (mutating) {
+                expected.add(endpoint == Endpoint.CHARGE ? amount : -amount);
+            }
+            return Outcome.SUCCEEDED;
+        } catch (IOException e) {
+            if (mutating) {
+                uncertainUsers.add(userId);
+            }
+            return Outcome.ERROR;
+        }
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path)).GET().build();
+    }
+
+    private HttpRequest patch(String path, long amount) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString("{\"amount\":" + amount + "}"))
+                .build();
+    }
+
+    private void report(WorkerStats stats) {
+        double seconds = options.durationSeconds();
+        System.out.printf("%n=== 포인트 API 부하 테스트 (측정 %ds, 워밍업 %ds, 동시성 %d, 유저 %d명 %s, 요청 비율 %s, rate %s) ===%n",
+                options.durationSeconds(), options.warmupSeconds(), options.concurrency(), options.users(),
+                options.distribution().equals("zipfian") ? "zipfian(" + options.zipfTheta() + ")" : options.distribution(),
+                options.mix(), options.rate() > 0 ? options.rate() + "/s" : "closed loop");
+        System.out.printf("%-28s %9s %9s %7s %7s %11s %9s %9s %9s %9s%n",
+                "endpoint", "count", "ok", "fail", "error", "req/s", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+
+        Histogram all = new Histogram(3);
+        long[] totals = new long[Outcome.values().length];
+        for (Endpoint endpoint : Endpoint.values()) {
+            Histogram histogram = stats.histograms.get(endpoint);
+            long[] counts = stats.counts.get(endpoint);
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            printRow(endpoint.label, histogram, counts, seconds);
+            all.add(histogram);
+            for (int i = 0; i < totals.length; i++) {
+                totals[i] += counts[i];
+            }
+        }
+        printRow("TOTAL", all, totals, seconds);
+
+        if (options.printDistribution()) {
+            for (Endpoint endpoint : Endpoint.values()) {
+                Histogram histogram = stats.histograms.get(endpoint);
+                if (histogram.getTotalCount() > 0) {
+                    System.out.printf("%n--- %s 지연 시간 분포 (ms) ---%n", endpoint.label);
+                    histogram.outputPercentileDistribution(System.out, 1000.0); // 마이크로초 -> 밀리초
+                }
+            }
+        }
+    }
+
+    private static void printRow(String label, Histogram histogram, long[] counts, double seconds) {
+        System.out.printf("%-28s %9d %9d %7d %7d %11.1f %9.2f %9.2f %9.2f %9.2f%n",
+                label, histogram.getTotalCount(),
+                counts[Outcome.SUCCEEDED.ordinal()], counts[Outcome.FAILED.ordinal()], counts[Outcome.ERROR.ordinal()],
+                histogram.getTotalCount() / seconds,
+                histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getValueAtPercentile(99.9) / 1000.0,
+                histogram.getMaxValue() / 1000.0);
+    }
+
+    // 충전/사용을 요청한 모든 유저의 실제 잔액을 조회하여 성공한 요청 합계와 비교
+    private boolean verifyBalances(ExecutorService executorService) throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        Map<Long, Future<Long>> actualBalances = new HashMap<>();
+        for (Long userId : expectedBalances.keySet()) {
+            if (!uncertainUsers.contains(userId)) {
+                actualBalances.put(userId, executorService.submit(() -> {
+                    String body = httpClient.send(get("/point/" + userId), HttpResponse.BodyHandlers.ofString()).body();
+                    return objectMapper.readTree(body).get("point").asLong();
+                }));
+            }
+        }
+
+        int mismatches = 0;
+        for (Map.Entry<Long, Future<Long>> entry : actualBalances.entrySet()) {
+            long expected = expectedBalances.get(entry.getKey()).sum();
+            long actual = entry.getValue().get();
+            if (expected != actual) {
+                mismatches++;
+                System.out.printf("잔액 불일치 userId:%d, expected:%d, actual:%d%n", entry.getKey(), expected, actual);
+            }
+        }
+        System.out.printf("%n잔액 검증: 유저 %d명 중 불일치 %d명 (응답 없는 요청으로 제외된 유저 %d명)%n",
+                actualBalances.size(), mismatches, uncertainUsers.size());
+        return mismatches == 0;
+    }
+
+    private enum Outcome {
+        SUCCEEDED, FAILED, ERROR
+    }
+
+    // 스레드별 기록 (스레드 하나에서만 쓰고, 종료 후 합산)
+    private static final class WorkerStats {
+        private final Map<Endpoint, Histogram> histograms = new EnumMap<>(Endpoint.class);
+        private final Map<Endpoint, long[]> counts = new EnumMap<>(Endpoint.class);
+
+        private WorkerStats() {
+            for (Endpoint endpoint : Endpoint.values()) {
+                histograms.put(endpoint, new Histogram(3)); // 유효 숫자 3자리, 범위는 자동 확장
+                counts.put(endpoint, new long[Outcome.values().length]);
+            }
+        }
+
+        private void record(Endpoint endpoint, Outcome outcome, long latencyNanos) {
+            histograms.get(endpoint).recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+            counts.get(endpoint)[outcome.ordinal()]++;
+        }
+
+        private void reset() {
+            histograms.values().forEach(Histogram::reset);
+            counts.values().forEach(count -> Arrays.fill(count, 0));
+        }
+
+        private void add(WorkerStats other) {
+            for (Endpoint endpoint : Endpoint.values()) {
+                histograms.get(endpoint).add(other.histograms.get(endpoint));
+                long[] target = counts.get(endpoint);
+                long[] source = other.counts.get(endpoint);
+                for (int i = 0; i < target.length; i++) {
+                    target[i] += source[i];
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package io.hhplus.loadtest;
+
+import io.hhplus.tdd.TddApplication;
+import io.hhplus.tdd.point.config.VirtualThreads;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 플랫폼 스레드와 가상 스레드에서 GET /point/{id} 처리량을 비교하는 부하 테스트 (./gradlew readConcurrencyLoadTest)
+ * - 애플리케이션을 플랫폼 스레드, 가상 스레드 순서로 두 번 띄우고 같은 조건으로 PointLoadTest 의 조회 부하(point:100)를 줍니다.
+ * - 조회가 매번 테이블을 거치도록 캐시와 스냅샷은 끄고, 두 실행 모두 비동기 스레드 풀(point.async.parallelism)과
+ *   Tomcat 스레드 수를 동시성(loadtest.concurrency)과 같게 맞춥니다. (가상 스레드 실행은 작업마다 스레드를 만들므로 풀 크기를 사용하지 않음)
+ * - 가상 스레드 실행 중에는 JFR 의 jdk.VirtualThreadPinned 이벤트를 수집하여 캐리어 스레드에 고정된 횟수와 위치를 출력하고,
+ *   한 번이라도 고정되었다면 1 로 종료합니다. (태스크는 -Djdk.tracePinnedThreads=full 로 실행하여 고정된 스택도 함께 출력)
+ * - 가상 스레드는 Java 21 이상에서만 지원되므로 그보다 낮은 버전에서는 측정하지 않고 1 로 종료합니다.
+ */
+public class ReadConcurrencyLoadTest {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    public static void main(String[] args) throws Exception {
+        if (!VirtualThreads.isSupported()) {
+            System.out.println("가상 스레드를 지원하지 않는 Java 버전입니다. Java 21 이상에서 실행해야 합니다.");
+            System.exit(1);
+        }
+        LoadTestOptions options = LoadTestOptions.from(System.getProperties());
+
+        run(options, false, args);
+        long pinnedCount = run(options, true, args);
+
+        System.out.printf("%n가상 스레드 고정(%s): %d회%n", PINNED_EVENT, pinnedCount);
+        System.exit(pinnedCount == 0 ? 0 : 1);
+    }
+
+    // 가상 스레드 실행이라면 캐리어 스레드에 고정된 횟수를 반환
+    private static long run(LoadTestOptions base, boolean virtualThreads, String[] args) throws Exception {
+        LoadTestOptions options = readOnly(base, virtualThreads);
+        System.out.printf("%n##### %s 스레드 (비동기 스레드 풀/Tomcat 스레드 %d) #####%n",
+                virtualThreads ? "가상" : "플랫폼", options.concurrency());
+
+        Map<String, LongAdder> pinnedFrames = new ConcurrentHashMap<>();
+        LongAdder pinnedCount = new LongAdder();
+        try (RecordingStream recording = new RecordingStream()) {
+            if (virtualThreads) {
+                recording.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+                recording.onEvent(PINNED_EVENT, event -> {
+                    pinnedCount.increment();
+                    pinnedFrames.computeIfAbsent(topApplicationFrame(event), key -> new LongAdder()).increment();
+                });
+                recording.startAsync();
+            }
+
+            try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TddApplication.class)
+                    .properties(options.appProperties())
+                    .run(args)) {
+                String port = context.getEnvironment().getProperty("local.server.port");
+                new PointLoadTest(options, URI.create("http://localhost:" + port)).run();
+            }
+        }
+
+        pinnedFrames.forEach((frame, count) -> System.out.printf("고정 위치 %s : %d회%n", frame, count.sum()));
+        return pinnedCount.sum();
+    }
+
+    // 조회만 보내고, 두 실행의 스레드 수를 동시성과 같게 맞춘 설정
+    private static LoadTestOptions readOnly(LoadTestOptions base, boolean virtualThreads) {
+        Map<PointLoadTest.Endpoint, Integer> mix = new EnumMap<>(PointLoadTest.Endpoint.class);
+        mix.put(PointLoadTest.Endpoint.POINT, 100);
+
+        Map<String, Object> appProperties = new LinkedHashMap<>(base.appProperties());
+        appProperties.put("point.virtual-threads.enabled", String.valueOf(virtualThreads));
+        appProperties.put("point.cache.enabled", "false");
+        appProperties.put("point.snapshot.enabled", "false");
+        appProperties.put("point.async.parallelism", String.valueOf(base.concurrency()));
+        appProperties.put("server.tomcat.threads.max", String.valueOf(base.concurrency()));
+
+        return new LoadTestOptions(base.durationSeconds(), base.warmupSeconds(), base.concurrency(), base.users(),
+                base.distribution(), base.zipfTheta(), mix, base.maxChargeAmount(), base.maxUseAmount(), base.rate(),
+                base.printDistribution(), appProperties);
+    }
+
+    // 고정된 지점에서 가장 가까운 애플리케이션 코드 위치 (없으면 가장 위의 프레임)
+    private static String topApplicationFrame(RecordedEvent event) {
+        if (event.getStackTrace() == null || event.getStackTrace().getFrames().isEmpty()) {
+            return "unknown";
+        }
+        for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+            if (frame.getMethod().getType().getName().startsWith("io.hhplus")) {
+                return describe(frame);
+            }
+        }
+        return describe(event.getStackTrace().getFrames().get(0));
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
@@ -0,0 +1,67 @@
+package io.hhplus.loadtest;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 부하 테스트에서 요청을 보낼 유저 ID 를 고르는 분포
+ * - uniform: 1 ~ users 를 같은 확률로 선택합니다.
+ * - zipfian: 작은 ID 일수록 자주 선택합니다. (theta 가 클수록 소수 유저에게 요청이 몰림)
+ */
+interface UserIdSampler {
+
+    long next();
+
+    static UserIdSampler of(String distribution, int users, double theta) {
+        return switch (distribution) {
+            case "uniform" -> () -> ThreadLocalRandom.current().nextLong(1, users + 1L);
+            case "zipfian" -> new Zipfian(users, theta);
+            default -> throw new IllegalArgumentException("지원하지 않는 유저 분포입니다. distribution:" + distribution);
+        };
+    }
+
+    /**
+     * Gray 등의 "Quickly Generating Billion-Record Synthetic Databases" 방식의 Zipfian 생성기 (YCSB 와 같은 방식)
+     * - 생성 시 zeta(n) 을 한 번 계산하고, 이후에는 난수 하나로 O(1) 에 ID 를 고릅니다.
+     */
+    final class Zipfian implements UserIdSampler {
+        private final int items;
+        private final double theta;
+        private final double alpha;
+        private final double zetaN;
+        private final double eta;
+
+        Zipfian(int items, double theta) {
+            if (items <= 0 || theta <= 0 || theta >= 1) {
+                throw new IllegalArgumentException("Zipfian 분포는 유저 수가 0보다 크고 theta 가 0과 1 사이여야 합니다.");
+            }
+            this.items = items;
+            this.theta = theta;
+            this.alpha = 1.0 / (1.0 - theta);
+            this.zetaN = zeta(items, theta);
+            double zeta2 = zeta(2, theta);
+            this.eta = (1 - Math.pow(2.0 / items, 1 - theta)) / (1 - zeta2 / zetaN);
+        }
+
+        @Override
+        public long next() {
+            double u = ThreadLocalRandom.current().nextDouble();
+            double uz = u * zetaN;
+            if (uz < 1.0) {
+                return 1L;
+            }
+            if (uz < 1.0 + Math.pow(0.5, theta)) {
+                return 2L;
+            }
+            long rank = (long) (items * Math.pow(eta * u - eta + 1, alpha));
+            return Math.min(rank, items - 1L) + 1L;
+        }
+
+        private static double zeta(long n, double theta) {
+            double sum = 0;
+            for (long i = 1; i <= n; i++) {
+                sum += 1 / Math.pow(i, theta);
+            }
+            return sum;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package io.hhplus.tdd.point.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 크기가 제한된 Segmented LRU 캐시입니다.
+ * - 처음 들어온 항목은 probation 구간에 들어가고, 한 번 더 조회되면 protected 구간으로 승격됩니다.
+ * - 공간이 부족하면 probation 구간의 가장 오래된 항목부터 제거되므로,
+ *   한 번만 조회되고 마는 항목들이 자주 조회되는 항목을 밀어내지 못합니다.
+ * - protected 구간이 가득 차면 가장 오래된 항목은 probation 구간으로 강등됩니다.
+ */
+public class SegmentedLruCache<K, V> {
+    private final int maximumSize;
+    private final int protectedSize;
+    private final LinkedHashMap<K, V> probation = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<K, V> protectedSegment = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    public SegmentedLruCache(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("캐시 크기는 0보다 커야 합니다.");
+        }
+        this.maximumSize = maximumSize;
+        this.protectedSize = Math.max(1, (int) (maximumSize * 0.8));
+    }
+
+    public synchronized V get(K key) {
+        V value = protectedSegment.get(key);
+        if (value != null) {
+            hitCount.increment();
+            return value;
+        }
+
+        value = probation.remove(key);
+        if (value == null) {
+            missCount.increment();
+            return null;
+        }
+
+        // 두 번째 조회이므로 protected 구간으로 승격
+        hitCount.increment();
+        protectedSegment.put(key, value);
+        demoteIfNecessary();
+        return value;
+    }
+
+    public synchronized void put(K key, V value) {
+        if (protectedSegment.containsKey(key)) {
+            protectedSegment.put(key, value);
+            return;
+        }
+        probation.put(key, value);
+        evictIfNecessary();
+    }
+
+    public synchronized void putIfAbsent(K key, V value) {
+        if (!containsKey(key)) {
+            put(key, value);
+        }
+    }
+
+    public synchronized boolean containsKey(K key) {
+        return protectedSegment.containsKey(key) || probation.containsKey(key);
+    }
+
+    public synchronized void invalidate(K key) {
+        protectedSegment.remove(key);
+        probation.remove(key);
+    }
+
+    public synchronized int size() {
+        return protectedSegment.size() + probation.size();
+    }
+
+    public long hitCount() {
+        return hitCount.sum();
+    }
+
+    public long missCount() {
+        return missCount.sum();
+    }
+
+    public long evictionCount() {
+        return evictionCount.sum();
+    }
+
+    private void demoteIfNecessary() {
+        if (protectedSegment.size() <= protectedSize) {
+            return;
+        }
+        Iterator<Map.Entry<K, V>> eldest = protectedSegment.entrySet().iterator();
+        Map.Entry<K, V> entry = eldest.next();
+        eldest.remove();
+        probation.put(entry.getKey(), entry.getValue());
+        evictIfNecessary();
+    }
+
+    private void evictIfNecessary() {
+        while (size() > maximumSize) {
+            LinkedHashMap<K, V> victimSegment = probation.isEmpty() ? protectedSegment : probation;
+            Iterator<K> eldest = victimSegment.keySet().iterator();
+            eldest.next();
+            eldest.remove();
+            evictionCount.increment();
+        }
+    }
+}
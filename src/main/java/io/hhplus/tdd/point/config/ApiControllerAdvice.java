@@ -1,12 +1,36 @@
 package io.hhplus.tdd.point.config;
 
+import io.hhplus.tdd.point.deadline.RequestDeadlineExceededException;
+import io.hhplus.tdd.point.executor.UnsupportedExecutionModeException;
+import io.hhplus.tdd.point.idempotency.IdempotencyKeyConflictException;
+import io.hhplus.tdd.point.limit.ConcurrencyLimitExceededException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+import java.util.concurrent.RejectedExecutionException;
+
 @RestControllerAdvice
 class ApiControllerAdvice extends ResponseEntityExceptionHandler {
+    // 기한 안에 처리를 시작하지 못했거나 동시 처리 한도, 비동기 대기열 한도로 거절된 요청 (포인트가 변경되지 않았으므로 재시도 가능)
+    @ExceptionHandler(value = {RequestDeadlineExceededException.class, ConcurrencyLimitExceededException.class, RejectedExecutionException.class})
+    public ResponseEntity<ErrorResponse> handleOverloaded(RuntimeException e) {
+        return ResponseEntity.status(503).body(new ErrorResponse("503", "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요."));
+    }
+
+    // 이미 다른 요청에 사용된 Idempotency-Key
+    @ExceptionHandler(value = IdempotencyKeyConflictException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyConflict(IdempotencyKeyConflictException e) {
+        return ResponseEntity.status(409).body(new ErrorResponse("409", "이미 다른 요청에 사용된 Idempotency-Key 입니다."));
+    }
+
+    // 현재 실행 방식에서 지원하지 않는 요청 (서버 설정이 바뀌기 전까지는 재시도해도 같은 결과)
+    @ExceptionHandler(value = UnsupportedExecutionModeException.class)
+    public ResponseEntity<ErrorResponse> handleUnsupportedExecutionMode(UnsupportedExecutionModeException e) {
+        return ResponseEntity.status(422).body(new ErrorResponse("422", e.getMessage()));
+    }
+
     @ExceptionHandler(value = Exception.class)
     public ResponseEntity<ErrorResponse> handleException(Exception e) {
         return ResponseEntity.status(500).body(new ErrorResponse("500", "에러가 발생했습니다."));
@@ -0,0 +1,76 @@
+package io.hhplus.tdd.point.config;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 포인트 서비스 내부에서 사용하는 스레드 풀 모음
+ * - Executor 타입 빈으로 등록하면 스프링 기본 applicationTaskExecutor 가 생성되지 않으므로 이 컴포넌트가 직접 보관합니다.
+ * - point.virtual-threads.enabled=true 이고 가상 스레드를 지원하면 작업마다 가상 스레드를 사용합니다.
+ * - 비동기 스레드 풀의 대기열은 point.async.queue-capacity 로 제한하며, 가득 차면 RejectedExecutionException 으로 거절합니다. (503 응답)
+ */
+@Component
+public class PointExecutors {
+    private final boolean virtualThreads;
+    private final ExecutorService batchExecutor;
+    private final ExecutorService asyncExecutor;
+
+    public PointExecutors(
+            @Value("${point.virtual-threads.enabled:false}") boolean virtualThreadsEnabled,
+            @Value("${point.batch.parallelism:16}") int batchParallelism,
+            @Value("${point.async.parallelism:64}") int asyncParallelism,
+            @Value("${point.async.queue-capacity:1000}") int asyncQueueCapacity
+    ) {
+        this.virtualThreads = virtualThreadsEnabled && VirtualThreads.isSupported();
+        this.batchExecutor = virtualThreads
+                ? VirtualThreads.newVirtualThreadPerTaskExecutor("point-batch-")
+                : Executors.newFixedThreadPool(batchParallelism, namedThreadFactory("point-batch-"));
+        this.asyncExecutor = virtualThreads
+                ? VirtualThreads.newVirtualThreadPerTaskExecutor("point-async-")
+                : new ThreadPoolExecutor(asyncParallelism, asyncParallelism, 0L, TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(asyncQueueCapacity), namedThreadFactory("point-async-"),
+                        (runnable, executor) -> {
+                            // 대기열에서 오래 기다린 요청은 어차피 기한을 넘기므로 쌓아두지 않고 바로 거절
+                            throw new RejectedExecutionException("비동기 처리 대기열(" + asyncQueueCapacity + ")이 가득 차 요청을 거절했습니다.");
+                        });
+    }
+
+    // 일괄 처리 요청에서 서로 다른 유저의 명령을 병렬로 실행하는 스레드 풀
+    public ExecutorService batch() {
+        return batchExecutor;
+    }
+
+    // 비동기 서비스(AsyncPointService)의 조회/충전/사용을 실행하는 스레드 풀
+    public ExecutorService async() {
+        return asyncExecutor;
+    }
+
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        batchExecutor.shutdown();
+        asyncExecutor.shutdown();
+    }
+
+    private static ThreadFactory namedThreadFactory(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,56 @@
+package io.hhplus.tdd.point.config;
+
+import io.hhplus.tdd.point.deadline.RequestDeadline;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * 요청마다 처리 기한을 정해 요청 스레드에 설정합니다.
+ * - X-Request-Timeout 헤더(밀리초)가 있으면 그 값을, 없거나 잘못된 값이면 point.deadline.default-timeout-millis 를 사용합니다.
+ * - 기본값이 0 이하이고 헤더도 없다면 기한 없이 처리합니다.
+ * - 요청이 끝나면(비동기 처리로 넘어간 경우 포함) 스레드에서 기한을 제거합니다.
+ */
+@Component
+public class RequestDeadlineInterceptor implements AsyncHandlerInterceptor {
+    public static final String TIMEOUT_HEADER = "X-Request-Timeout";
+
+    private final long defaultTimeoutMillis;
+
+    public RequestDeadlineInterceptor(@Value("${point.deadline.default-timeout-millis:3000}") long defaultTimeoutMillis) {
+        this.defaultTimeoutMillis = defaultTimeoutMillis;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        long timeoutMillis = timeoutMillis(request.getHeader(TIMEOUT_HEADER));
+        if (timeoutMillis > 0) {
+            RequestDeadline.set(RequestDeadline.after(timeoutMillis));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestDeadline.clear();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        RequestDeadline.clear();
+    }
+
+    private long timeoutMillis(String header) {
+        if (header == null) {
+            return defaultTimeoutMillis;
+        }
+        try {
+            long timeoutMillis = Long.parseLong(header.trim());
+            return timeoutMillis > 0 ? timeoutMillis : defaultTimeoutMillis;
+        } catch (NumberFormatException e) {
+            return defaultTimeoutMillis;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package io.hhplus.tdd.point.config;
+
+import org.apache.coyote.ProtocolHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * point.virtual-threads.enabled=true 일 때 Tomcat 요청 처리를 가상 스레드에서 실행합니다.
+ * - 요청 처리 시간 대부분이 테이블의 sleep 이므로, 플랫폼 스레드 풀 크기에 묶이지 않고 동시 요청 수를 늘릴 수 있습니다.
+ * - Java 21 미만에서 실행되면 경고만 남기고 기존 스레드 풀을 사용합니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "point.virtual-threads.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadConfig.class);
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> {
+            if (!VirtualThreads.isSupported()) {
+                log.warn("가상 스레드를 지원하지 않는 Java 버전입니다. 플랫폼 스레드로 요청을 처리합니다. version:{}",
+                        Runtime.version());
+                return;
+            }
+            protocolHandler.setExecutor(VirtualThreads.newVirtualThreadPerTaskExecutor("tomcat-handler-"));
+        };
+    }
+}
@@ -1,16 +1,34 @@
 package io.hhplus.tdd.point.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.point.domain.PointCommand;
 import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.PointHistoryCursor;
+import io.hhplus.tdd.point.domain.PointSummary;
+import io.hhplus.tdd.point.domain.PointTransfer;
 import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.dto.req.PointBatchReqDTO;
 import io.hhplus.tdd.point.dto.req.PointChargeReqDTO;
+import io.hhplus.tdd.point.dto.req.PointTransferReqDTO;
 import io.hhplus.tdd.point.dto.req.PointUseReqDTO;
+import io.hhplus.tdd.point.dto.res.PointBatchResDTO;
+import io.hhplus.tdd.point.dto.res.PointHistoryPageResDTO;
+import io.hhplus.tdd.point.enums.TransactionType;
+import io.hhplus.tdd.point.idempotency.IdempotencyStore;
+import io.hhplus.tdd.point.service.AsyncPointService;
 import io.hhplus.tdd.point.service.PointService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 @RestController
 @RequestMapping("/point")
@@ -18,51 +36,149 @@ import java.util.List;
 public class PointController {
 
     private static final Logger log = LoggerFactory.getLogger(PointController.class);
+    private static final int STREAM_CHUNK_SIZE = 500; // 스트리밍 시 한 번에 조회/전송하는 내역 수
+
     private final PointService pointService;
+    private final AsyncPointService asyncPointService; // 조회/충전/사용은 비동기로 처리하여 서블릿 스레드를 바로 반환
+    private final ObjectMapper objectMapper;
+    private final IdempotencyStore idempotencyStore;
 
     /**
      * TODO - 특정 유저의 포인트를 조회하는 기능을 작성해주세요.
      */
     @GetMapping("{id}")
-    public UserPoint point(
+    public CompletableFuture<UserPoint> point(
             @PathVariable long id
     ) {
         log.info("point 조회 요청 id:{}", id);
-        return pointService.getUserPoint(id);
+        return asyncPointService.getUserPoint(id);
     }
 
     /**
      * TODO - 특정 유저의 포인트 충전/이용 내역을 조회하는 기능을 작성해주세요.
      */
     @GetMapping("{id}/histories")
-    public List<PointHistory> history(
+    public CompletableFuture<List<PointHistory>> history(
             @PathVariable long id
     ) {
         log.info("point 충전/이용 내역 조회 요청 id:{}", id);
-        return pointService.getUserPointHistory(id);
+        return asyncPointService.getUserPointHistory(id);
+    }
+
+    /**
+     * 특정 유저의 포인트 충전/이용 내역을 커서 기반으로 나누어 조회합니다.
+     * - cursor 가 없으면 첫 페이지부터, 응답의 nextCursor 가 null 이면 마지막 페이지입니다.
+     */
+    @GetMapping(value = "{id}/histories", params = {"limit", "!stream"})
+    public PointHistoryPageResDTO historyPage(
+            @PathVariable long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam int limit,
+            @RequestParam(required = false) TransactionType type
+    ) {
+        log.info("point 충전/이용 내역 페이지 조회 요청 id:{}, cursor:{}, limit:{}, type:{}", id, cursor, limit, type);
+        return PointHistoryPageResDTO.from(
+                pointService.getUserPointHistoryPage(id, PointHistoryCursor.decode(cursor), limit, type));
+    }
+
+    /**
+     * 특정 유저의 포인트 충전/이용 내역을 NDJSON 으로 스트리밍합니다.
+     * - 전체 목록을 메모리에 올리지 않고 일정 개수씩 조회하여 한 줄에 하나씩 전송합니다.
+     */
+    @GetMapping(value = "{id}/histories", params = "stream=true", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> historyStream(
+            @PathVariable long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) TransactionType type
+    ) {
+        log.info("point 충전/이용 내역 스트리밍 요청 id:{}, cursor:{}, type:{}", id, cursor, type);
+        Stream<PointHistory> histories =
+                pointService.streamUserPointHistory(id, PointHistoryCursor.decode(cursor), type, STREAM_CHUNK_SIZE);
+
+        StreamingResponseBody body = outputStream -> {
+            try (histories) {
+                Iterator<PointHistory> iterator = histories.iterator();
+                int written = 0;
+                while (iterator.hasNext()) {
+                    outputStream.write(objectMapper.writeValueAsBytes(iterator.next()));
+                    outputStream.write('\n');
+                    if (++written % STREAM_CHUNK_SIZE == 0) {
+                        outputStream.flush();
+                    }
+                }
+                outputStream.flush();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    /**
+     * 특정 유저의 포인트 충전/사용 합계와 횟수, 최근 days 일의 일자별 합계를 조회합니다.
+     * - 내역을 다시 읽지 않고 충전/사용 시점에 갱신된 집계를 반환합니다.
+     */
+    @GetMapping("{id}/summary")
+    public PointSummary summary(
+            @PathVariable long id,
+            @RequestParam(defaultValue = "7") int days
+    ) {
+        log.info("point 집계 조회 요청 id:{}, days:{}", id, days);
+        return pointService.getUserPointSummary(id, days);
     }
 
     /**
      * TODO - 특정 유저의 포인트를 충전하는 기능을 작성해주세요.
+     * - Idempotency-Key 헤더가 있으면 같은 키의 재시도는 다시 충전하지 않고 처음 결과를 반환합니다.
      */
     @PatchMapping("{id}/charge")
-    public UserPoint charge(
+    public CompletableFuture<UserPoint> charge(
             @PathVariable long id,
-            @RequestBody PointChargeReqDTO dto
+            @RequestBody PointChargeReqDTO dto,
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey
     ) {
-        log.info("point 충천 요청 id:{}, amount:{}", id, dto.amount());
-        return pointService.chargeUserPoint(id, dto.amount());
+        log.info("point 충천 요청 id:{}, amount:{}, idempotencyKey:{}", id, dto.amount(), idempotencyKey);
+        return idempotencyStore.executeAsync(idempotencyKey, PointCommand.charge(id, dto.amount()),
+                () -> asyncPointService.chargeUserPoint(id, dto.amount()));
     }
 
     /**
      * TODO - 특정 유저의 포인트를 사용하는 기능을 작성해주세요.
+     * - Idempotency-Key 헤더가 있으면 같은 키의 재시도는 다시 사용하지 않고 처음 결과를 반환합니다.
      */
     @PatchMapping("{id}/use")
-    public UserPoint use(
+    public CompletableFuture<UserPoint> use(
             @PathVariable long id,
-            @RequestBody PointUseReqDTO dto
+            @RequestBody PointUseReqDTO dto,
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey
+    ) {
+        log.info("point 사용 요청 id:{}, amount:{}, idempotencyKey:{}", id, dto.amount(), idempotencyKey);
+        return idempotencyStore.executeAsync(idempotencyKey, PointCommand.use(id, dto.amount()),
+                () -> asyncPointService.useUserPoint(id, dto.amount()));
+    }
+
+    /**
+     * 한 유저의 포인트를 다른 유저에게 전송합니다.
+     * - 보내는 유저의 차감과 받는 유저의 충전이 함께 반영되며, 검증에 실패하면 어느 쪽도 변경되지 않습니다.
+     */
+    @PostMapping("transfer")
+    public PointTransfer transfer(
+            @RequestBody PointTransferReqDTO dto
+    ) {
+        log.info("point 전송 요청 from:{}, to:{}, amount:{}", dto.fromUserId(), dto.toUserId(), dto.amount());
+        return pointService.transfer(dto.fromUserId(), dto.toUserId(), dto.amount());
+    }
+
+    /**
+     * 여러 유저의 포인트 충전/사용 요청을 한 번에 처리합니다.
+     * - 요청 순서대로 각 요청의 성공 여부와 처리 후 포인트를 반환합니다.
+     */
+    @PostMapping("batch")
+    public List<PointBatchResDTO> batch(
+            @RequestBody PointBatchReqDTO dto
     ) {
-        log.info("point 사용 요청 id:{}, amount:{}", id, dto.amount());
-        return pointService.useUserPoint(id, dto.amount());
+        List<PointCommand> commands = dto.toCommands();
+        log.info("point 일괄 처리 요청 count:{}", commands.size());
+        return pointService.executeBatch(commands).stream()
+                .map(PointBatchResDTO::from)
+                .toList();
     }
 }
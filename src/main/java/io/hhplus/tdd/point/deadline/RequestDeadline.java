@@ -0,0 +1,60 @@
+package io.hhplus.tdd.point.deadline;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청을 처리해야 하는 기한
+ * - 웹 요청은 인터셉터가 요청 스레드에 기한을 설정하고, 서비스는 현재 스레드의 기한을 읽어 락 대기 시간을 제한합니다.
+ * - 다른 스레드로 넘겨 처리하는 경우(일괄 처리 등)에는 호출한 쪽에서 current() 로 꺼내 함께 전달해야 합니다.
+ * - 기한이 설정되지 않은 경우(테스트, 내부 호출 등) current() 는 null 이며 기존처럼 무기한 대기합니다.
+ */
+public final class RequestDeadline {
+    private static final ThreadLocal<RequestDeadline> CURRENT = new ThreadLocal<>();
+
+    private final long timeoutMillis;
+    private final long deadlineNanos;
+
+    private RequestDeadline(long timeoutMillis) {
+        this.timeoutMillis = timeoutMillis;
+        this.deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    }
+
+    // 지금부터 timeoutMillis 뒤가 기한
+    public static RequestDeadline after(long timeoutMillis) {
+        if (timeoutMillis <= 0) {
+            throw new IllegalArgumentException("요청 기한은 0보다 커야 합니다.");
+        }
+        return new RequestDeadline(timeoutMillis);
+    }
+
+    public static RequestDeadline current() {
+        return CURRENT.get();
+    }
+
+    public static void set(RequestDeadline deadline) {
+        CURRENT.set(deadline);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public long timeoutMillis() {
+        return timeoutMillis;
+    }
+
+    public long remainingNanos() {
+        return deadlineNanos - System.nanoTime();
+    }
+
+    public boolean isExpired() {
+        return remainingNanos() <= 0;
+    }
+
+    // 이미 기한이 지난 요청은 작업을 시작하지 않고 포기
+    public void checkNotExpired() {
+        if (isExpired()) {
+            throw new RequestDeadlineExceededException(RequestDeadlineExceededException.Stage.BEFORE_START, timeoutMillis);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package io.hhplus.tdd.point.deadline;
+
+import io.hhplus.tdd.point.metrics.PointMetrics;
+
+/**
+ * 요청 기한 안에 처리를 시작하지 못해 포기한 경우의 예외
+ * - 포인트 변경이 일어나기 전에만 발생하므로 클라이언트는 같은 요청을 안전하게 재시도할 수 있습니다.
+ */
+public class RequestDeadlineExceededException extends RuntimeException {
+
+    public enum Stage {
+        BEFORE_START,  // 처리를 시작하기 전에 이미 기한이 지남
+        LOCK_WAIT,     // 유저 락을 기다리는 동안 기한이 지남
+        DUPLICATE_WAIT // 같은 Idempotency-Key 로 실행 중인 요청의 결과를 기다리는 동안 기한이 지남
+    }
+
+    private final Stage stage;
+
+    public RequestDeadlineExceededException(Stage stage, long timeoutMillis) {
+        super("요청 처리 기한(" + timeoutMillis + "ms)이 지났습니다.");
+        this.stage = stage;
+        PointMetrics.deadlineExceeded(this);
+    }
+
+    public Stage stage() {
+        return stage;
+    }
+}
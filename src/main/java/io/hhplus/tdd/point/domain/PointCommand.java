@@ -0,0 +1,93 @@
+package io.hhplus.tdd.point.domain;
+
+import io.hhplus.tdd.point.enums.TransactionType;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 유저 포인트 충전/사용 명령
+ * - 실행 방식(락, 샤드 등)과 관계없이 하나의 명령이 적용되는 순서를 책임집니다.
+ */
+public record PointCommand(
+        long userId,
+        TransactionType type,
+        long amount
+) {
+    public static PointCommand charge(long userId, long amount) {
+        return new PointCommand(userId, TransactionType.CHARGE, amount);
+    }
+
+    public static PointCommand use(long userId, long amount) {
+        return new PointCommand(userId, TransactionType.USE, amount);
+    }
+
+    // 현재 포인트에 명령을 적용한 결과 (검증 로직은 UserPoint 객체로 위임)
+    public UserPoint applyTo(UserPoint userPoint) {
+        return switch (type) {
+            case CHARGE -> userPoint.addPoints(amount);
+            case USE -> userPoint.subtractPoints(amount);
+        };
+    }
+
+    // 조회 -> 검증 -> 히스토리 저장 -> 포인트 저장 순서로 명령을 실행 (동시성 제어는 호출하는 쪽의 책임)
+    public UserPoint execute(UserPointRepository userPointRepository, PointHistoryRepository pointHistoryRepository) {
+        // 유저 포인트 조회를 UserPoint 객체로 위임
+        UserPoint userPoint = UserPoint.findById(userId, userPointRepository);
+
+        // 포인트 충전/사용 로직을 UserPoint 객체로 위임
+        UserPoint updatedUserPoint = applyTo(userPoint);
+
+        // 포인트 히스토리 저장
+        PointHistory pointHistory = PointHistory.create(userId, amount, type);
+        pointHistory.save(pointHistoryRepository);
+
+        // 업데이트된 포인트 저장
+        userPointRepository.saveOrUpdate(userId, updatedUserPoint.point());
+
+        return updatedUserPoint;
+    }
+
+    /**
+     * 같은 유저의 명령 여러 건을 포인트 조회/저장 한 번으로 묶어 실행합니다. (동시성 제어는 호출하는 쪽의 책임)
+     * - 명령은 순서대로 검증/적용되며, 검증에 실패한 명령만 개별적으로 실패합니다.
+     * - 히스토리는 성공한 명령마다 저장하고, 포인트는 마지막 결과로 한 번만 저장합니다.
+     * - 조회나 저장이 실패하면 예외를 그대로 던집니다.
+     */
+    public static List<PointCommandResult> executeAll(long userId, List<PointCommand> commands,
+                                                      UserPointRepository userPointRepository,
+                                                      PointHistoryRepository pointHistoryRepository) {
+        // 유저 포인트는 한 번만 조회
+        UserPoint userPoint = UserPoint.findById(userId, userPointRepository);
+
+        // 요청 순서대로 검증 및 적용
+        List<PointCommandResult> results = new ArrayList<>(commands.size());
+        boolean updated = false;
+        for (PointCommand command : commands) {
+            try {
+                userPoint = command.applyTo(userPoint);
+                results.add(PointCommandResult.success(command, userPoint));
+                updated = true;
+            } catch (RuntimeException e) {
+                results.add(PointCommandResult.failure(command, e));
+            }
+        }
+        if (!updated) {
+            return results;
+        }
+
+        // 포인트 히스토리는 성공한 명령마다 저장
+        for (PointCommandResult result : results) {
+            if (result.success()) {
+                PointCommand command = result.command();
+                PointHistory.create(userId, command.amount(), command.type()).save(pointHistoryRepository);
+            }
+        }
+
+        // 업데이트된 포인트는 마지막 결과로 한 번만 저장
+        userPointRepository.saveOrUpdate(userId, userPoint.point());
+        return results;
+    }
+}
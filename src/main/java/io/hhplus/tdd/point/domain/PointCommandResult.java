@@ -0,0 +1,30 @@
+package io.hhplus.tdd.point.domain;
+
+import java.util.List;
+
+/**
+ * 포인트 명령 실행 결과
+ * - 성공 시 처리 후 포인트를, 실패 시 발생한 예외를 담습니다.
+ */
+public record PointCommandResult(
+        PointCommand command,
+        UserPoint userPoint,
+        RuntimeException error
+) {
+    public static PointCommandResult success(PointCommand command, UserPoint userPoint) {
+        return new PointCommandResult(command, userPoint, null);
+    }
+
+    public static PointCommandResult failure(PointCommand command, RuntimeException error) {
+        return new PointCommandResult(command, null, error);
+    }
+
+    // 저장 실패 등으로 명령 전체가 실패한 경우
+    public static List<PointCommandResult> failAll(List<PointCommand> commands, RuntimeException error) {
+        return commands.stream().map(command -> failure(command, error)).toList();
+    }
+
+    public boolean success() {
+        return error == null;
+    }
+}
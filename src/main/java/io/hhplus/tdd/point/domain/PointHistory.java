@@ -17,6 +17,16 @@ public record PointHistory(
         return pointHistoryRepository.findAllByUserId(userId);
     }
 
+    // point 히스토리 페이지 조회 메서드 (limit + 1 건을 조회하여 다음 페이지 존재 여부 판단)
+    public static PointHistoryPage findPageByUserId(long userId, PointHistoryCursor cursor, int limit, TransactionType type,
+                                                    PointHistoryRepository pointHistoryRepository) {
+        if (limit < 1 || limit > 1000) {
+            throw new IllegalArgumentException("조회 개수는 1 이상 1000 이하여야 합니다.");
+        }
+        List<PointHistory> fetched = pointHistoryRepository.findPageByUserId(userId, cursor, limit + 1, type);
+        return PointHistoryPage.of(fetched, limit);
+    }
+
     // PointHistory를 저장하는 메서드
     public void save(PointHistoryRepository pointHistoryRepository) {
         pointHistoryRepository.save(this.userId, this.amount, this.type, this.updateMillis);
@@ -0,0 +1,47 @@
+package io.hhplus.tdd.point.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 포인트 히스토리 페이지 조회용 커서
+ * - 마지막으로 조회한 내역의 (updateMillis, id) 를 담고, 다음 페이지는 그 이후의 내역부터 조회합니다.
+ * - 외부에는 Base64 로 인코딩한 문자열로만 노출합니다.
+ */
+public record PointHistoryCursor(
+        long updateMillis,
+        long id
+) {
+    public static final PointHistoryCursor FIRST = new PointHistoryCursor(Long.MIN_VALUE, Long.MIN_VALUE);
+
+    public static PointHistoryCursor after(PointHistory pointHistory) {
+        return new PointHistoryCursor(pointHistory.updateMillis(), pointHistory.id());
+    }
+
+    // 커서 문자열 해석 (비어있으면 첫 페이지)
+    public static PointHistoryCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] values = decoded.split(":");
+            return new PointHistoryCursor(Long.parseLong(values[0]), Long.parseLong(values[1]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String value = updateMillis + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서 이후의 내역인지 여부
+    public boolean isBefore(PointHistory pointHistory) {
+        if (pointHistory.updateMillis() != updateMillis) {
+            return pointHistory.updateMillis() > updateMillis;
+        }
+        return pointHistory.id() > id;
+    }
+}
@@ -0,0 +1,25 @@
+package io.hhplus.tdd.point.domain;
+
+import java.util.List;
+
+/**
+ * 포인트 히스토리 페이지 조회 결과
+ * - nextCursor 가 null 이면 마지막 페이지입니다.
+ */
+public record PointHistoryPage(
+        List<PointHistory> histories,
+        PointHistoryCursor nextCursor
+) {
+    // limit + 1 건을 조회한 결과로 다음 페이지 존재 여부를 판단
+    public static PointHistoryPage of(List<PointHistory> fetched, int limit) {
+        if (fetched.size() <= limit) {
+            return new PointHistoryPage(fetched, null);
+        }
+        List<PointHistory> histories = fetched.subList(0, limit);
+        return new PointHistoryPage(List.copyOf(histories), PointHistoryCursor.after(histories.get(limit - 1)));
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
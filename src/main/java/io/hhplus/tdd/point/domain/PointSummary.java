@@ -0,0 +1,26 @@
+package io.hhplus.tdd.point.domain;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 유저별 포인트 충전/사용 집계
+ * - 전체 기간 합계와 최근 일자별 합계(daily, 오래된 날짜부터)를 함께 담습니다.
+ */
+public record PointSummary(
+        long userId,
+        long totalCharged,
+        long totalUsed,
+        long chargeCount,
+        long useCount,
+        List<Daily> daily
+) {
+    public record Daily(
+            LocalDate date,
+            long charged,
+            long used,
+            long chargeCount,
+            long useCount
+    ) {
+    }
+}
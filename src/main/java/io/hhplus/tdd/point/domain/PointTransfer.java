@@ -0,0 +1,45 @@
+package io.hhplus.tdd.point.domain;
+
+import io.hhplus.tdd.point.domain.PointValidationException.Reason;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+
+/**
+ * 유저 간 포인트 전송 결과
+ * - 보내는 유저에게는 사용(USE), 받는 유저에게는 충전(CHARGE) 내역이 남으며 검증 규칙도 사용/충전과 같습니다.
+ */
+public record PointTransfer(
+        UserPoint from,
+        UserPoint to,
+        long amount
+) {
+
+    // 조회 -> 양쪽 검증 -> 히스토리 저장 -> 포인트 저장 순서로 전송 (두 유저의 락은 호출하는 쪽의 책임)
+    public static PointTransfer execute(long fromUserId, long toUserId, long amount,
+                                        UserPointRepository userPointRepository,
+                                        PointHistoryRepository pointHistoryRepository) {
+        validate(fromUserId, toUserId);
+
+        // 양쪽 모두 검증을 통과한 뒤에만 저장하므로 한쪽만 반영되는 경우가 없음
+        PointCommand use = PointCommand.use(fromUserId, amount);
+        PointCommand charge = PointCommand.charge(toUserId, amount);
+        UserPoint from = use.applyTo(UserPoint.findById(fromUserId, userPointRepository));
+        UserPoint to = charge.applyTo(UserPoint.findById(toUserId, userPointRepository));
+
+        PointHistory.create(fromUserId, amount, use.type()).save(pointHistoryRepository);
+        PointHistory.create(toUserId, amount, charge.type()).save(pointHistoryRepository);
+        userPointRepository.saveOrUpdate(fromUserId, from.point());
+        userPointRepository.saveOrUpdate(toUserId, to.point());
+
+        return new PointTransfer(from, to, amount);
+    }
+
+    public static void validate(long fromUserId, long toUserId) {
+        if (fromUserId == toUserId) {
+            PointValidationException e = new PointValidationException(Reason.SELF_TRANSFER, "자기 자신에게는 포인트를 전송할 수 없습니다.");
+            PointMetrics.validationFailed(e);
+            throw e;
+        }
+    }
+}
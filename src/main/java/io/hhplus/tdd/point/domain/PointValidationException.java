@@ -0,0 +1,29 @@
+package io.hhplus.tdd.point.domain;
+
+/**
+ * 포인트 검증 실패 예외
+ * - 기존과 같이 IllegalArgumentException 으로 다뤄지며, 지표 집계를 위해 실패 사유를 함께 가집니다.
+ */
+public class PointValidationException extends IllegalArgumentException {
+
+    public enum Reason {
+        USER_NOT_FOUND,          // 유저가 존재하지 않음
+        INVALID_CHARGE_AMOUNT,   // 충전 포인트가 0 이하
+        CHARGE_LIMIT_EXCEEDED,   // 1회 충전 한도 초과
+        POINT_OVERFLOW,          // 포인트 합계 오버플로우
+        INVALID_USE_AMOUNT,      // 사용 포인트가 0 이하
+        INSUFFICIENT_POINT,      // 잔여 포인트 부족
+        SELF_TRANSFER            // 자기 자신에게 전송
+    }
+
+    private final Reason reason;
+
+    public PointValidationException(Reason reason, String message) {
+        super(message);
+        this.reason = reason;
+    }
+
+    public Reason reason() {
+        return reason;
+    }
+}
@@ -1,13 +1,22 @@
 package io.hhplus.tdd.point.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.hhplus.tdd.point.domain.PointValidationException.Reason;
+import io.hhplus.tdd.point.metrics.PointMetrics;
 import io.hhplus.tdd.point.repository.UserPointRepository;
 
 public record UserPoint(
         long id,
         long point,
-        long updateMillis
+        long updateMillis,
+        @JsonIgnore long version // 낙관적 동시성 제어에서 비교하는 버전 (응답에는 노출하지 않음)
 ) {
 
+    // 버전을 사용하지 않는 기존 저장소/테스트와의 호환을 위한 생성자
+    public UserPoint(long id, long point, long updateMillis) {
+        this(id, point, updateMillis, 0L);
+    }
+
     public static UserPoint empty(long id) {
         return new UserPoint(id, 0, System.currentTimeMillis());
     }
@@ -16,38 +25,45 @@ public record UserPoint(
     public static UserPoint findById(long id, UserPointRepository userPointRepository) {
         UserPoint userPoint = userPointRepository.findById(id);
         if (userPoint == null) {
-            throw new IllegalArgumentException("유저가 존재하지 않습니다.");
+            throw invalid(Reason.USER_NOT_FOUND, "유저가 존재하지 않습니다.");
         }
         return userPoint;
     }
 
-    // 포인트 충전 및 검증 로직
+    // 포인트 충전 및 검증 로직 (결과는 변경 전 버전을 그대로 가지며, 저장소에 저장될 때 버전이 올라감)
     public UserPoint addPoints(long amount) {
         if (amount <= 0) {
-            throw new IllegalArgumentException("충전 포인트는 0보다 커야 합니다.");
+            throw invalid(Reason.INVALID_CHARGE_AMOUNT, "충전 포인트는 0보다 커야 합니다.");
         } else if (amount > 99999) {
-            throw new IllegalArgumentException("충전 금액의 최대한도는 99999 입니다.");
+            throw invalid(Reason.CHARGE_LIMIT_EXCEEDED, "충전 금액의 최대한도는 99999 입니다.");
         }
 
         long newPoint = this.point + amount;
         if (newPoint < 0) {
-            throw new IllegalArgumentException("포인트 합계가 잘못되었습니다. 비정상적인 금액을 충전하려고 합니다.");
+            throw invalid(Reason.POINT_OVERFLOW, "포인트 합계가 잘못되었습니다. 비정상적인 금액을 충전하려고 합니다.");
         }
 
-        return new UserPoint(this.id, newPoint, System.currentTimeMillis());
+        return new UserPoint(this.id, newPoint, System.currentTimeMillis(), this.version);
     }
 
     // 포인트 차감 로직 (차감할 때 유효성 검증 포함)
     public UserPoint subtractPoints(long amount) {
         if (amount <= 0) {
-            throw new IllegalArgumentException("사용할 포인트는 0보다 커야 합니다.");
+            throw invalid(Reason.INVALID_USE_AMOUNT, "사용할 포인트는 0보다 커야 합니다.");
         }
 
         long newPoint = this.point - amount;
 
         if (newPoint < 0) {
-            throw new IllegalArgumentException("잔여 포인트가 부족합니다.");
+            throw invalid(Reason.INSUFFICIENT_POINT, "잔여 포인트가 부족합니다.");
         }
-        return new UserPoint(this.id, newPoint, System.currentTimeMillis());
+        return new UserPoint(this.id, newPoint, System.currentTimeMillis(), this.version);
+    }
+
+    // 검증 실패 예외를 만들면서 사유별 실패 횟수를 함께 기록
+    private static PointValidationException invalid(Reason reason, String message) {
+        PointValidationException e = new PointValidationException(reason, message);
+        PointMetrics.validationFailed(e);
+        return e;
     }
 }
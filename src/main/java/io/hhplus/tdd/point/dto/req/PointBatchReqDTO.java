@@ -0,0 +1,27 @@
+package io.hhplus.tdd.point.dto.req;
+
+import io.hhplus.tdd.point.domain.PointCommand;
+import io.hhplus.tdd.point.enums.TransactionType;
+
+import java.util.List;
+
+public record PointBatchReqDTO(
+        List<Operation> operations
+) {
+    public List<PointCommand> toCommands() {
+        return operations == null ? List.of() : operations.stream().map(Operation::toCommand).toList();
+    }
+
+    public record Operation(
+            long userId,
+            TransactionType type,
+            long amount
+    ) {
+        public PointCommand toCommand() {
+            if (type == null) {
+                throw new IllegalArgumentException("거래 종류는 필수입니다.");
+            }
+            return new PointCommand(userId, type, amount);
+        }
+    }
+}
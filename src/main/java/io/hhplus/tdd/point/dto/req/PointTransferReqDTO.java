@@ -0,0 +1,8 @@
+package io.hhplus.tdd.point.dto.req;
+
+public record PointTransferReqDTO(
+        long fromUserId,
+        long toUserId,
+        long amount
+) {
+}
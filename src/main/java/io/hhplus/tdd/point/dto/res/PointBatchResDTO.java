@@ -0,0 +1,25 @@
+package io.hhplus.tdd.point.dto.res;
+
+import io.hhplus.tdd.point.domain.PointCommandResult;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.enums.TransactionType;
+
+public record PointBatchResDTO(
+        long userId,
+        TransactionType type,
+        long amount,
+        boolean success,
+        UserPoint userPoint,
+        String message
+) {
+    public static PointBatchResDTO from(PointCommandResult result) {
+        return new PointBatchResDTO(
+                result.command().userId(),
+                result.command().type(),
+                result.command().amount(),
+                result.success(),
+                result.userPoint(),
+                result.success() ? null : result.error().getMessage()
+        );
+    }
+}
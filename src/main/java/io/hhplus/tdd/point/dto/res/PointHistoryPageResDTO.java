@@ -0,0 +1,15 @@
+package io.hhplus.tdd.point.dto.res;
+
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.PointHistoryPage;
+
+import java.util.List;
+
+public record PointHistoryPageResDTO(
+        List<PointHistory> histories,
+        String nextCursor
+) {
+    public static PointHistoryPageResDTO from(PointHistoryPage page) {
+        return new PointHistoryPageResDTO(page.histories(), page.hasNext() ? page.nextCursor().encode() : null);
+    }
+}
@@ -0,0 +1,199 @@
+package io.hhplus.tdd.point.executor;
+
+import io.hhplus.tdd.point.deadline.RequestDeadline;
+import io.hhplus.tdd.point.deadline.RequestDeadlineExceededException;
+import io.hhplus.tdd.point.domain.PointCommand;
+import io.hhplus.tdd.point.domain.PointCommandResult;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.lock.PointServiceLock;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 같은 유저에 몰린 명령을 한 번의 포인트 저장으로 묶어서 처리하는 group commit 실행기입니다.
+ * - 명령은 먼저 유저별 대기 목록에 등록된 뒤 유저 락을 기다립니다.
+ * - 락을 얻은 스레드는 그동안 쌓인 명령을 모두 꺼내 PointCommand.executeAll 로 한 번에 처리합니다.
+ *   (포인트는 마지막 결과로 한 번만 저장, 히스토리는 명령마다 저장)
+ * - 검증에 실패한 명령(잔액 부족 등)만 개별적으로 실패하고, 나머지 명령은 각자의 처리 후 포인트를 반환받습니다.
+ * - 락을 얻었을 때 이미 다른 스레드가 내 명령을 처리했다면 결과만 받아 반환합니다.
+ * - 요청 기한이 있다면 남은 시간까지만 락을 기다리고, 기한이 지난 명령은 대기 목록에서 빼거나 꺼낼 때 걸러내어 실행하지 않습니다.
+ * - 배치는 유저 락 안에서 포인트를 다시 읽고 적용하므로, 같은 락을 잡고 실행하는 포인트 전송과 함께 사용할 수 있습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "point.execution.mode", havingValue = "coalescing")
+public class CoalescingPointCommandExecutor implements PointCommandExecutor {
+    private final UserPointRepository userPointRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final PointServiceLock pointServiceLock;
+
+    private final ConcurrentHashMap<Long, List<PendingCommand>> pendingByUserId = new ConcurrentHashMap<>();
+    private final LongAdder batchCount = new LongAdder();
+    private final LongAdder commandCount = new LongAdder();
+
+    @Override
+    public UserPoint execute(PointCommand command, RequestDeadline deadline) {
+        if (deadline != null) {
+            deadline.checkNotExpired();
+        }
+        long userId = command.userId();
+        PendingCommand pending = new PendingCommand(command, deadline);
+        pendingByUserId.compute(userId, (key, pendings) -> {
+            List<PendingCommand> target = pendings == null ? new ArrayList<>() : pendings;
+            target.add(pending);
+            return target;
+        });
+
+        if (lock(userId, deadline)) {
+            try {
+                if (!pending.result.isDone()) {
+                    apply(userId, drain(userId));
+                }
+            } finally {
+                pointServiceLock.unLock(userId);
+            }
+        } else if (withdraw(userId, pending)) {
+            // 기한 안에 락을 얻지 못했고 아직 아무도 꺼내지 않았다면 실행하지 않고 포기
+            throw new RequestDeadlineExceededException(RequestDeadlineExceededException.Stage.LOCK_WAIT,
+                    deadline.timeoutMillis());
+        }
+        // 락을 얻지 못했어도 이미 다른 스레드가 꺼냈다면 그 스레드가 채워주는 결과를 기다림
+
+        try {
+            return pending.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    // 일괄 처리 요청은 유저 락 한 번으로 묶어서 실행 (기한 안에 락을 얻지 못하면 모두 실패 처리)
+    @Override
+    public List<PointCommandResult> executeAll(long userId, List<PointCommand> commands, RequestDeadline deadline) {
+        try {
+            if (deadline != null) {
+                deadline.checkNotExpired();
+            }
+            pointServiceLock.lock(userId, deadline);
+        } catch (RequestDeadlineExceededException e) {
+            return PointCommandResult.failAll(commands, e);
+        }
+        try {
+            return PointCommand.executeAll(userId, commands, userPointRepository, pointHistoryRepository);
+        } catch (RuntimeException e) {
+            return PointCommandResult.failAll(commands, e);
+        } finally {
+            pointServiceLock.unLock(userId);
+        }
+    }
+
+    @Override
+    public boolean serializesOnUserLock() {
+        return true;
+    }
+
+    // 처리된 배치 수 (포인트 저장 횟수)
+    public long batchCount() {
+        return batchCount.sum();
+    }
+
+    // 처리된 명령 수
+    public long commandCount() {
+        return commandCount.sum();
+    }
+
+    // 기한 안에 락을 얻으면 true (기한이 없으면 얻을 때까지 기다림)
+    private boolean lock(long userId, RequestDeadline deadline) {
+        if (deadline == null) {
+            pointServiceLock.lock(userId);
+            return true;
+        }
+        try {
+            return pointServiceLock.tryLock(userId, deadline.remainingNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("유저 락 대기 중 인터럽트가 발생했습니다.", e);
+        }
+    }
+
+    // 대기 목록에 남아 있다면 빼고 true (이미 다른 스레드가 꺼냈다면 false)
+    private boolean withdraw(long userId, PendingCommand pending) {
+        boolean[] removed = new boolean[1];
+        pendingByUserId.computeIfPresent(userId, (key, pendings) -> {
+            removed[0] = pendings.remove(pending);
+            return pendings.isEmpty() ? null : pendings;
+        });
+        return removed[0];
+    }
+
+    // 쌓인 명령을 모두 꺼내고, 기다리는 동안 기한이 지난 명령은 실행하지 않고 실패 처리
+    private List<PendingCommand> drain(long userId) {
+        List<PendingCommand> drained = new ArrayList<>();
+        pendingByUserId.computeIfPresent(userId, (key, pendings) -> {
+            drained.addAll(pendings);
+            return null;
+        });
+
+        List<PendingCommand> batch = new ArrayList<>(drained.size());
+        for (PendingCommand pending : drained) {
+            if (pending.deadline != null && pending.deadline.isExpired()) {
+                pending.result.completeExceptionally(new RequestDeadlineExceededException(
+                        RequestDeadlineExceededException.Stage.LOCK_WAIT, pending.deadline.timeoutMillis()));
+            } else {
+                batch.add(pending);
+            }
+        }
+        return batch;
+    }
+
+    private void apply(long userId, List<PendingCommand> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        batchCount.increment();
+        commandCount.add(batch.size());
+
+        List<PointCommand> commands = batch.stream().map(pending -> pending.command).toList();
+        List<PointCommandResult> results;
+        try {
+            results = PointCommand.executeAll(userId, commands, userPointRepository, pointHistoryRepository);
+        } catch (RuntimeException e) {
+            // 조회/저장 실패 시 배치의 모든 명령이 실패
+            batch.forEach(pending -> pending.result.completeExceptionally(e));
+            return;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            PointCommandResult result = results.get(i);
+            if (result.success()) {
+                batch.get(i).result.complete(result.userPoint());
+            } else {
+                batch.get(i).result.completeExceptionally(result.error());
+            }
+        }
+    }
+
+    private static final class PendingCommand {
+        private final PointCommand command;
+        private final RequestDeadline deadline;
+        private final CompletableFuture<UserPoint> result = new CompletableFuture<>();
+
+        private PendingCommand(PointCommand command, RequestDeadline deadline) {
+            this.command = command;
+            this.deadline = deadline;
+        }
+    }
+}
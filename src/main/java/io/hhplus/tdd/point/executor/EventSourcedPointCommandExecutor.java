@@ -0,0 +1,39 @@
+package io.hhplus.tdd.point.executor;
+
+import io.hhplus.tdd.point.deadline.RequestDeadline;
+import io.hhplus.tdd.point.domain.PointCommand;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.lock.PointServiceLock;
+import io.hhplus.tdd.point.repository.EventSourcedUserPointRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 잔액 검증 후 히스토리 이벤트 한 건만 추가하는 event sourcing 실행기입니다.
+ * - 잔액은 EventSourcedUserPointRepository 가 이벤트로부터 계산하므로 UserPointTable 에 따로 저장하지 않습니다.
+ * - 검증과 추가 사이에 다른 이벤트가 끼어들지 않도록 같은 유저의 명령은 유저 락으로 직렬화합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "point.execution.mode", havingValue = "event-sourced")
+public class EventSourcedPointCommandExecutor implements PointCommandExecutor {
+    private final EventSourcedUserPointRepository eventSourcedUserPointRepository;
+    private final PointServiceLock pointServiceLock;
+
+    @Override
+    public UserPoint execute(PointCommand command, RequestDeadline deadline) {
+        if (deadline != null) {
+            deadline.checkNotExpired();
+        }
+        pointServiceLock.lock(command.userId(), deadline); // 기한이 있다면 남은 시간까지만 기다림
+        try {
+            // 현재 잔액으로 검증한 뒤 이벤트 추가
+            UserPoint userPoint = UserPoint.findById(command.userId(), eventSourcedUserPointRepository);
+            command.applyTo(userPoint);
+            return eventSourcedUserPointRepository.append(command.userId(), command.amount(), command.type());
+        } finally {
+            pointServiceLock.unLock(command.userId());
+        }
+    }
+}
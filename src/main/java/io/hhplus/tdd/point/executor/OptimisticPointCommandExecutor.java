@@ -0,0 +1,99 @@
+package io.hhplus.tdd.point.executor;
+
+import io.hhplus.tdd.point.deadline.RequestDeadline;
+import io.hhplus.tdd.point.domain.PointCommand;
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.CasUserPointRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 락 없이 버전 비교(CAS)로 포인트를 저장하는 낙관적 실행기입니다.
+ * - 조회 -> 검증 -> saveIfVersion 순서로 실행하고, 그 사이 다른 요청이 먼저 저장했다면 처음부터 다시 시도합니다.
+ * - 재시도 사이에는 시도 횟수에 따라 늘어나는 무작위 대기(지수 백오프 + jitter)를 두며, 최대 대기 시간과 횟수가 제한됩니다.
+ * - 히스토리는 포인트 저장이 성공한 뒤에 저장합니다. (실패한 시도의 히스토리가 남지 않도록)
+ * - 매 시도 전에 요청 기한을 확인하여, 재시도 중 기한이 지나면 RequestDeadlineExceededException 으로 포기합니다.
+ * - 경쟁이 드문 유저는 락 획득 없이 한 번에 처리되고, 한 유저에 요청이 몰리면 재시도 비용이 커집니다.
+ */
+@Component
+@ConditionalOnProperty(name = "point.execution.mode", havingValue = "optimistic")
+public class OptimisticPointCommandExecutor implements PointCommandExecutor {
+    private final CasUserPointRepository userPointRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final int maxAttempts;
+    private final long backoffBaseNanos;
+    private final long backoffMaxNanos;
+
+    private final LongAdder conflictCount = new LongAdder();
+    private final LongAdder exhaustedCount = new LongAdder();
+
+    public OptimisticPointCommandExecutor(
+            CasUserPointRepository userPointRepository,
+            PointHistoryRepository pointHistoryRepository,
+            @Value("${point.execution.optimistic.max-attempts:16}") int maxAttempts,
+            @Value("${point.execution.optimistic.backoff-base-micros:50}") long backoffBaseMicros,
+            @Value("${point.execution.optimistic.backoff-max-micros:5000}") long backoffMaxMicros
+    ) {
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("최대 시도 횟수는 0보다 커야 합니다.");
+        }
+        this.userPointRepository = userPointRepository;
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.maxAttempts = maxAttempts;
+        this.backoffBaseNanos = TimeUnit.MICROSECONDS.toNanos(backoffBaseMicros);
+        this.backoffMaxNanos = TimeUnit.MICROSECONDS.toNanos(backoffMaxMicros);
+    }
+
+    @Override
+    public UserPoint execute(PointCommand command, RequestDeadline deadline) {
+        long userId = command.userId();
+        for (int attempt = 0; attempt < maxAttempts; attempt++) {
+            // 충돌로 다시 시도하는 동안 기한이 지났다면 더 시도하지 않음 (저장에 실패한 시도는 포인트를 변경하지 않음)
+            if (deadline != null) {
+                deadline.checkNotExpired();
+            }
+
+            // 유저 포인트 조회 및 검증 (검증 실패는 재시도하지 않고 바로 던짐)
+            UserPoint userPoint = UserPoint.findById(userId, userPointRepository);
+            UserPoint updatedUserPoint = command.applyTo(userPoint);
+
+            // 조회한 버전 그대로일 때만 저장
+            UserPoint saved = userPointRepository.saveIfVersion(userId, userPoint.version(), updatedUserPoint.point());
+            if (saved != null) {
+                PointHistory.create(userId, command.amount(), command.type()).save(pointHistoryRepository);
+                return saved;
+            }
+
+            conflictCount.increment();
+            backoff(attempt);
+        }
+
+        exhaustedCount.increment();
+        throw new IllegalStateException("동시 요청이 많아 포인트를 변경하지 못했습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    // 버전 충돌로 다시 시도한 횟수
+    public long conflictCount() {
+        return conflictCount.sum();
+    }
+
+    // 최대 시도 횟수를 넘겨 실패한 명령 수
+    public long exhaustedCount() {
+        return exhaustedCount.sum();
+    }
+
+    private void backoff(int attempt) {
+        long ceiling = Math.min(backoffMaxNanos, backoffBaseNanos << Math.min(attempt, 20));
+        if (ceiling > 0) {
+            LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(ceiling) + 1);
+        }
+    }
+}
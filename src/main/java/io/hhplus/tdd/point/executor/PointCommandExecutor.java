@@ -0,0 +1,40 @@
+package io.hhplus.tdd.point.executor;
+
+import io.hhplus.tdd.point.deadline.RequestDeadline;
+import io.hhplus.tdd.point.domain.PointCommand;
+import io.hhplus.tdd.point.domain.PointCommandResult;
+import io.hhplus.tdd.point.domain.UserPoint;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 포인트 충전/사용 명령의 실행 방식
+ * - point.execution.mode 설정에 따라 구현체가 선택되며, 기본(lock) 모드에서는 등록되지 않고
+ *   PointServiceImpl 이 PointServiceLock 으로 직접 실행합니다.
+ * - 같은 유저에 대한 명령은 반드시 순서대로 하나씩 적용되어야 합니다.
+ * - deadline 이 있다면 기다리거나 실행을 시작하기 전에 확인하고, 기한이 지났다면 포인트를 변경하지 않고
+ *   RequestDeadlineExceededException 으로 포기합니다. (null 이면 기한 없이 실행)
+ */
+public interface PointCommandExecutor {
+    UserPoint execute(PointCommand command, RequestDeadline deadline);
+
+    // 명령을 유저 락(PointServiceLock) 안에서 실행한다면 true
+    // (서비스가 두 유저의 락을 함께 잡고 실행하는 포인트 전송과 같은 락으로 직렬화되므로 전송을 허용)
+    default boolean serializesOnUserLock() {
+        return false;
+    }
+
+    // 같은 유저의 명령 여러 건을 순서대로 실행 (실패한 명령은 결과에 예외를 담음)
+    default List<PointCommandResult> executeAll(long userId, List<PointCommand> commands, RequestDeadline deadline) {
+        List<PointCommandResult> results = new ArrayList<>(commands.size());
+        for (PointCommand command : commands) {
+            try {
+                results.add(PointCommandResult.success(command, execute(command, deadline)));
+            } catch (RuntimeException e) {
+                results.add(PointCommandResult.failure(command, e));
+            }
+        }
+        return results;
+    }
+}
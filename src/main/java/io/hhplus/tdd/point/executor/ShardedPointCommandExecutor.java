@@ -0,0 +1,152 @@
+package io.hhplus.tdd.point.executor;
+
+import io.hhplus.tdd.point.deadline.RequestDeadline;
+import io.hhplus.tdd.point.deadline.RequestDeadlineExceededException;
+import io.hhplus.tdd.point.domain.PointCommand;
+import io.hhplus.tdd.point.domain.PointCommandResult;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 유저 ID 로 샤드를 정해 단일 스레드 샤드에서 명령을 실행하는 actor 방식 실행기입니다.
+ * - 같은 유저의 명령은 항상 같은 샤드의 큐(mailbox)에 들어가므로 락 없이 순서대로 적용됩니다.
+ * - 서로 다른 샤드는 병렬로 실행됩니다.
+ * - 호출한 스레드는 샤드가 명령을 처리할 때까지 기다린 뒤 결과를 반환받습니다.
+ * - 요청 기한은 명령을 넣기 전과 샤드가 꺼내 실행하기 직전에 확인하여, 기한이 지난 명령은 실행하지 않습니다.
+ * - 결과도 남은 기한까지만 기다리며, 기한이 지날 때까지 샤드가 꺼내지 않은 명령은 취소하고 RequestDeadlineExceededException 으로 포기합니다.
+ *   (이미 실행을 시작한 명령은 포인트가 바뀔 수 있으므로 끝날 때까지 기다림)
+ * - 샤드의 큐는 point.execution.shard-queue-capacity 로 제한하며, 가득 차면 RejectedExecutionException 으로 거절합니다. (503 응답)
+ * - 샤드 스레드는 데몬 스레드이므로 종료 처리가 늦어져도 JVM 종료를 막지 않습니다.
+ */
+@Component
+@ConditionalOnProperty(name = "point.execution.mode", havingValue = "actor")
+public class ShardedPointCommandExecutor implements PointCommandExecutor {
+    private final UserPointRepository userPointRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final ThreadPoolExecutor[] shards;
+
+    public ShardedPointCommandExecutor(
+            UserPointRepository userPointRepository,
+            PointHistoryRepository pointHistoryRepository,
+            @Value("${point.execution.shards:16}") int shardCount,
+            @Value("${point.execution.shard-queue-capacity:1000}") int queueCapacity
+    ) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("샤드 개수는 0보다 커야 합니다.");
+        }
+        this.userPointRepository = userPointRepository;
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.shards = new ThreadPoolExecutor[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            String name = "point-shard-" + i;
+            shards[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, name);
+                        thread.setDaemon(true);
+                        return thread;
+                    },
+                    (runnable, executor) -> {
+                        // 큐에서 오래 기다린 명령은 어차피 기한을 넘기므로 쌓아두지 않고 바로 거절
+                        throw new RejectedExecutionException("샤드 " + name + " 의 대기열(" + queueCapacity + ")이 가득 차 요청을 거절했습니다.");
+                    });
+        }
+    }
+
+    @Override
+    public UserPoint execute(PointCommand command, RequestDeadline deadline) {
+        checkNotExpired(deadline);
+        ThreadPoolExecutor shard = shards[shardOf(command.userId())];
+        return await(shard, shard.submit(() -> {
+            checkNotExpired(deadline); // 큐에서 기다리는 동안 기한이 지났다면 실행하지 않음
+            return command.execute(userPointRepository, pointHistoryRepository);
+        }), deadline);
+    }
+
+    // 일괄 처리 요청은 샤드에서 한 번에 묶어서 실행
+    @Override
+    public List<PointCommandResult> executeAll(long userId, List<PointCommand> commands, RequestDeadline deadline) {
+        try {
+            ThreadPoolExecutor shard = shards[shardOf(userId)];
+            return await(shard, shard.submit(() -> {
+                try {
+                    checkNotExpired(deadline); // 기한이 지났다면 모두 실패 처리
+                    return PointCommand.executeAll(userId, commands, userPointRepository, pointHistoryRepository);
+                } catch (RuntimeException e) {
+                    return PointCommandResult.failAll(commands, e);
+                }
+            }), deadline);
+        } catch (RequestDeadlineExceededException e) {
+            return PointCommandResult.failAll(commands, e); // 샤드가 꺼내기 전에 기한이 지나 취소됨
+        }
+    }
+
+    public int shardCount() {
+        return shards.length;
+    }
+
+    // 샤드의 대기 중인 명령 수
+    public int queueSize(int shard) {
+        return shards[shard].getQueue().size();
+    }
+
+    public int shardOf(long userId) {
+        return Math.floorMod(Long.hashCode(userId * 0x9E3779B97F4A7C15L), shards.length);
+    }
+
+    private static void checkNotExpired(RequestDeadline deadline) {
+        if (deadline != null) {
+            deadline.checkNotExpired();
+        }
+    }
+
+    private <T> T await(ThreadPoolExecutor shard, Future<T> result, RequestDeadline deadline) {
+        try {
+            if (deadline == null) {
+                return result.get();
+            }
+            try {
+                return result.get(Math.max(deadline.remainingNanos(), 0L), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                if (result.cancel(false)) {
+                    shard.purge(); // 취소한 명령이 대기열 자리를 차지하지 않도록 바로 제거
+                    // 샤드가 아직 꺼내지 않은 명령이므로 포인트 변경 없이 포기 (락 대기와 같은 단계로 기록)
+                    throw new RequestDeadlineExceededException(RequestDeadlineExceededException.Stage.LOCK_WAIT, deadline.timeoutMillis());
+                }
+                return result.get(); // 이미 실행 중인 명령은 결과를 돌려주기 위해 끝날 때까지 대기
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("포인트 명령 처리 대기 중 인터럽트가 발생했습니다.", e);
+        } catch (ExecutionException e) {
+            // 검증 예외 등은 호출한 쪽에 그대로 전달
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        for (ThreadPoolExecutor shard : shards) {
+            shard.shutdown();
+        }
+        for (ThreadPoolExecutor shard : shards) {
+            shard.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+}
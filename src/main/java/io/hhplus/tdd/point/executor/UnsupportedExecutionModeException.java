@@ -0,0 +1,12 @@
+package io.hhplus.tdd.point.executor;
+
+/**
+ * 현재 실행 방식(point.execution.mode)에서는 처리할 수 없는 요청의 예외
+ * - 유저 단위로만 순서를 보장하는 실행 방식에서 두 유저를 함께 묶어야 하는 요청(포인트 전송 등)이 들어온 경우
+ */
+public class UnsupportedExecutionModeException extends RuntimeException {
+
+    public UnsupportedExecutionModeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point.idempotency;
+
+/**
+ * 이미 사용한 Idempotency-Key 로 다른 내용(유저, 충전/사용, 금액)의 요청이 들어온 경우의 예외
+ */
+public class IdempotencyKeyConflictException extends RuntimeException {
+
+    public IdempotencyKeyConflictException(String key) {
+        super("이미 다른 요청에 사용된 Idempotency-Key 입니다. key:" + key);
+    }
+}
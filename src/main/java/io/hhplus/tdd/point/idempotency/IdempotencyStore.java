@@ -0,0 +1,207 @@
+package io.hhplus.tdd.point.idempotency;
+
+import io.hhplus.tdd.point.deadline.RequestDeadline;
+import io.hhplus.tdd.point.deadline.RequestDeadlineExceededException;
+import io.hhplus.tdd.point.domain.PointCommand;
+import io.hhplus.tdd.point.domain.UserPoint;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 별 충전/사용 결과를 보관하여 같은 요청이 다시 들어오면 실행하지 않고 저장된 결과를 반환합니다.
+ * - 처음 들어온 요청만 실행하고, 실행 중에 들어온 같은 키의 요청은 그 결과를 기다렸다가 함께 반환합니다.
+ *   (executeAsync 는 기다리지 않고 같은 결과를 이어받는 CompletableFuture 를 반환)
+ * - 성공한 결과만 보관합니다. 실패한 요청은 포인트가 변경되지 않았으므로 같은 키로 다시 실행할 수 있습니다.
+ * - 같은 키로 다른 유저/종류/금액의 요청이 들어오면 IdempotencyKeyConflictException 으로 거절합니다.
+ * - 결과는 ttl 동안 보관하며, maximum-size 를 넘으면 오래된 결과부터 제거합니다. (실행 중인 요청은 제거하지 않음)
+ */
+@Component
+public class IdempotencyStore {
+    public static final String HEADER = "Idempotency-Key";
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Entry> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final long ttlNanos;
+    private final int maximumSize;
+
+    private final LongAdder executedCount = new LongAdder();
+    private final LongAdder replayedCount = new LongAdder();
+    private final LongAdder joinedCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    public IdempotencyStore(
+            @Value("${point.idempotency.ttl-seconds:600}") long ttlSeconds,
+            @Value("${point.idempotency.maximum-size:100000}") int maximumSize
+    ) {
+        if (ttlSeconds <= 0 || maximumSize <= 0) {
+            throw new IllegalArgumentException("Idempotency 결과 보관 시간과 개수는 0보다 커야 합니다.");
+        }
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.maximumSize = maximumSize;
+    }
+
+    // key 가 없으면 그대로 실행하고, 있으면 같은 key 의 요청을 한 번만 실행
+    public UserPoint execute(String key, PointCommand command, Supplier<UserPoint> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+        return await(lookupOrStart(key, command, () -> {
+            try {
+                return CompletableFuture.completedFuture(action.get());
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }));
+    }
+
+    // execute 의 비동기 버전 (실행 중인 같은 key 의 요청이 있으면 스레드를 막지 않고 그 결과를 이어받음)
+    public CompletableFuture<UserPoint> executeAsync(String key, PointCommand command,
+                                                     Supplier<CompletableFuture<UserPoint>> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+        return lookupOrStart(key, command, action).copy();
+    }
+
+    private CompletableFuture<UserPoint> lookupOrStart(String key, PointCommand command,
+                                                       Supplier<CompletableFuture<UserPoint>> action) {
+        while (true) {
+            Entry created = new Entry(key, command);
+            Entry existing = entries.putIfAbsent(key, created);
+            if (existing == null) {
+                insertionOrder.add(created);
+                evictIfNecessary();
+                start(created, action);
+                return created.result;
+            }
+            if (existing.isExpired(System.nanoTime())) {
+                entries.remove(key, existing); // 만료된 결과는 지우고 새로 실행
+                continue;
+            }
+            if (!existing.command.equals(command)) {
+                throw new IdempotencyKeyConflictException(key);
+            }
+
+            if (existing.result.isDone()) {
+                replayedCount.increment();
+            } else {
+                joinedCount.increment();
+            }
+            return existing.result;
+        }
+    }
+
+    private void start(Entry entry, Supplier<CompletableFuture<UserPoint>> action) {
+        CompletableFuture<UserPoint> started;
+        try {
+            started = action.get();
+        } catch (RuntimeException e) {
+            started = CompletableFuture.failedFuture(e);
+        }
+        started.whenComplete((userPoint, error) -> {
+            if (error == null) {
+                entry.expiresAtNanos = System.nanoTime() + ttlNanos;
+                executedCount.increment();
+                entry.result.complete(userPoint);
+            } else {
+                // 실패한 요청은 보관하지 않고, 기다리던 같은 키의 요청에는 같은 예외를 전달
+                entries.remove(entry.key, entry);
+                entry.result.completeExceptionally(
+                        error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+            }
+        });
+    }
+
+    private UserPoint await(CompletableFuture<UserPoint> result) {
+        RequestDeadline deadline = RequestDeadline.current();
+        try {
+            if (deadline == null) {
+                return result.get();
+            }
+            return result.get(Math.max(0, deadline.remainingNanos()), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("같은 Idempotency-Key 요청의 처리에 실패했습니다.", e.getCause());
+        } catch (TimeoutException e) {
+            throw new RequestDeadlineExceededException(RequestDeadlineExceededException.Stage.DUPLICATE_WAIT,
+                    deadline.timeoutMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("같은 Idempotency-Key 요청의 결과를 기다리는 중 인터럽트가 발생했습니다.", e);
+        }
+    }
+
+    // 먼저 들어온 결과부터 만료되었거나, 개수를 넘었거나, 이미 맵에서 빠진 항목을 제거
+    // 실행 중인 항목은 건너뛰고 그 뒤의 항목을 계속 확인 (느린 요청 하나가 제거를 막지 않도록)
+    private void evictIfNecessary() {
+        synchronized (insertionOrder) {
+            long now = System.nanoTime();
+            Iterator<Entry> iterator = insertionOrder.iterator();
+            while (iterator.hasNext()) {
+                Entry entry = iterator.next();
+                boolean removed = entries.get(entry.key) != entry;
+                if (!removed && !entry.result.isDone()) {
+                    continue;
+                }
+                if (!removed && !entry.isExpired(now) && entries.size() <= maximumSize) {
+                    return;
+                }
+                iterator.remove();
+                if (!removed && entries.remove(entry.key, entry)) {
+                    evictionCount.increment();
+                }
+            }
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long executedCount() {
+        return executedCount.sum();
+    }
+
+    // 완료된 결과를 그대로 반환한 횟수
+    public long replayedCount() {
+        return replayedCount.sum();
+    }
+
+    // 실행 중인 같은 키의 요청을 기다려 결과를 함께 받은 횟수
+    public long joinedCount() {
+        return joinedCount.sum();
+    }
+
+    public long evictionCount() {
+        return evictionCount.sum();
+    }
+
+    private static final class Entry {
+        private final String key;
+        private final PointCommand command;
+        private final CompletableFuture<UserPoint> result = new CompletableFuture<>();
+        private volatile long expiresAtNanos = Long.MAX_VALUE; // 실행이 끝난 뒤에 정해짐
+
+        private Entry(String key, PointCommand command) {
+            this.key = key;
+            this.command = command;
+        }
+
+        private boolean isExpired(long now) {
+            return result.isDone() && now - expiresAtNanos >= 0;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point.journal;
+
+/**
+ * 저널 기록의 디스크 반영 시점
+ * - NONE : 기록 후 바로 반환하고, 백그라운드에서 주기적으로 디스크에 반영 (장애 시 마지막 주기의 기록은 유실될 수 있음)
+ * - GROUP : 백그라운드 스레드가 그동안 쌓인 기록을 한 번에 반영(group commit)할 때까지 기다린 뒤 반환
+ * - SYNC : 기록할 때마다 바로 디스크에 반영한 뒤 반환
+ */
+public enum JournalDurability {
+    NONE, GROUP, SYNC
+}
@@ -0,0 +1,31 @@
+package io.hhplus.tdd.point.journal;
+
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.enums.TransactionType;
+
+/**
+ * 저널에 기록되는 포인트 트랜잭션 한 건
+ * - BALANCE : 유저 포인트 저장 (amount 는 저장된 잔액)
+ * - HISTORY : 포인트 히스토리 저장 (amount 는 충전/사용 금액)
+ */
+public record JournalRecord(
+        Kind kind,
+        long userId,
+        long amount,
+        TransactionType type,
+        long updateMillis
+) {
+    public enum Kind {
+        BALANCE, HISTORY
+    }
+
+    public static JournalRecord balance(UserPoint userPoint) {
+        return new JournalRecord(Kind.BALANCE, userPoint.id(), userPoint.point(), null, userPoint.updateMillis());
+    }
+
+    public static JournalRecord history(PointHistory pointHistory) {
+        return new JournalRecord(Kind.HISTORY, pointHistory.userId(), pointHistory.amount(), pointHistory.type(),
+                pointHistory.updateMillis());
+    }
+}
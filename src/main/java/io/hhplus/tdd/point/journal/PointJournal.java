@@ -0,0 +1,325 @@
+package io.hhplus.tdd.point.journal;
+
+import io.hhplus.tdd.point.enums.TransactionType;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 포인트 트랜잭션을 메모리 매핑된 세그먼트 파일에 순서대로 추가하는 저널입니다.
+ * - 레코드는 고정 길이(30 byte) 바이너리로 기록됩니다.
+ *   [kind 1][type 1][userId 8][amount 8][updateMillis 8][crc32 4]
+ * - 세그먼트가 가득 차면 디스크에 반영한 뒤 다음 세그먼트 파일을 만들어 이어서 기록합니다.
+ * - 디스크 반영(force)은 JournalDurability 에 따라 기록마다, 또는 백그라운드 스레드가 여러 기록을 묶어서 수행합니다.
+ * - 시작 시 기존 세그먼트를 다시 읽을 수 있으며, 마지막 세그먼트의 유효한 레코드 뒤부터 이어서 기록합니다.
+ *   (중간에 끊긴 레코드는 crc 가 맞지 않으므로 버려짐)
+ */
+@Component
+@ConditionalOnProperty(name = "point.journal.enabled", havingValue = "true")
+public class PointJournal {
+    static final int RECORD_SIZE = 30;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final JournalDurability durability;
+    private final long flushIntervalNanos;
+
+    // 기록은 이 객체의 모니터 안에서만 일어남
+    private FileChannel channel;
+    private MappedByteBuffer segment;
+    private long segmentSequence;
+    private volatile long writtenSequence;
+
+    // 디스크 반영 대기
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Condition written = flushLock.newCondition();
+    private final Condition forced = flushLock.newCondition();
+    private volatile long forcedSequence;
+
+    private final Thread flusher;
+    private volatile boolean running = true;
+    private volatile boolean replaying;
+
+    public PointJournal(
+            @Value("${point.journal.directory:./data/journal}") String directory,
+            @Value("${point.journal.segment-size:16777216}") int segmentSize,
+            @Value("${point.journal.durability:GROUP}") JournalDurability durability,
+            @Value("${point.journal.flush-interval-millis:10}") long flushIntervalMillis
+    ) {
+        if (segmentSize < RECORD_SIZE) {
+            throw new IllegalArgumentException("세그먼트 크기는 " + RECORD_SIZE + " byte 이상이어야 합니다.");
+        }
+        this.directory = Path.of(directory);
+        this.segmentSize = segmentSize;
+        this.durability = durability;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        openLastSegment();
+
+        this.flusher = new Thread(this::flushLoop, "point-journal-flusher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    /**
+     * 레코드를 추가하고 설정된 durability 에 따라 디스크 반영을 기다립니다.
+     */
+    public void append(JournalRecord record) {
+        awaitDurable(appendWithoutWaiting(record));
+    }
+
+    /**
+     * 레코드를 추가만 하고 디스크 반영은 기다리지 않습니다. (replay 중이면 기록하지 않고 0 을 반환)
+     * - 호출하는 쪽의 락 안에서 기록 순서만 정하고, 반영은 락을 놓은 뒤 awaitDurable 로 기다릴 때 사용합니다.
+     */
+    public long appendWithoutWaiting(JournalRecord record) {
+        if (replaying) {
+            return 0;
+        }
+        return write(record);
+    }
+
+    // GROUP 이면 sequence 까지 디스크에 반영될 때까지 대기 (SYNC 는 기록할 때 이미 반영되고, NONE 은 기다리지 않음)
+    public void awaitDurable(long sequence) {
+        if (sequence > 0 && durability == JournalDurability.GROUP) {
+            awaitForced(sequence);
+        }
+    }
+
+    // 저장된 모든 세그먼트의 레코드를 순서대로 전달
+    public void forEachRecord(Consumer<JournalRecord> consumer) {
+        for (Path path : segmentPaths()) {
+            readSegment(path, consumer);
+        }
+    }
+
+    // 저널에 이미 있는 내용을 다시 적용하는 동안에는 append 를 기록하지 않음
+    public void withoutJournaling(Runnable runnable) {
+        replaying = true;
+        try {
+            runnable.run();
+        } finally {
+            replaying = false;
+        }
+    }
+
+    public JournalDurability durability() {
+        return durability;
+    }
+
+    public long writtenCount() {
+        return writtenSequence;
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        running = false;
+        flusher.interrupt();
+        flusher.join();
+        synchronized (this) {
+            segment.force();
+            closeChannel();
+        }
+
+        // 반영을 기다리던 스레드가 남아있지 않도록 깨움
+        flushLock.lock();
+        try {
+            forcedSequence = writtenSequence;
+            forced.signalAll();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private synchronized long write(JournalRecord record) {
+        if (segment.remaining() < RECORD_SIZE) {
+            roll();
+        }
+        encode(record, segment);
+        long sequence = ++writtenSequence;
+        if (durability == JournalDurability.SYNC) {
+            segment.force();
+            forcedSequence = sequence;
+        }
+        return sequence;
+    }
+
+    private void awaitForced(long sequence) {
+        flushLock.lock();
+        try {
+            written.signal();
+            while (forcedSequence < sequence) {
+                forced.awaitUninterruptibly();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 그동안 기록된 레코드를 한 번의 force 로 반영하고 기다리던 스레드를 깨움
+    private void flushLoop() {
+        while (running) {
+            flushLock.lock();
+            try {
+                if (writtenSequence == forcedSequence) {
+                    written.awaitNanos(flushIntervalNanos);
+                }
+            } catch (InterruptedException e) {
+                continue; // 종료 요청
+            } finally {
+                flushLock.unlock();
+            }
+
+            long target;
+            MappedByteBuffer current;
+            synchronized (this) {
+                target = writtenSequence;
+                current = segment;
+            }
+            if (target == forcedSequence) {
+                continue;
+            }
+            current.force(); // 이전 세그먼트는 roll 할 때 이미 반영됨
+
+            flushLock.lock();
+            try {
+                forcedSequence = Math.max(forcedSequence, target);
+                forced.signalAll();
+            } finally {
+                flushLock.unlock();
+            }
+        }
+    }
+
+    // 현재 세그먼트를 반영하고 다음 세그먼트를 새로 만듦
+    private void roll() {
+        segment.force();
+        closeChannel();
+        openSegment(segmentSequence + 1, 0);
+    }
+
+    private void openLastSegment() {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널 디렉터리를 만들 수 없습니다. " + directory, e);
+        }
+
+        List<Path> paths = segmentPaths();
+        if (paths.isEmpty()) {
+            openSegment(0, 0);
+            return;
+        }
+
+        // 마지막 세그먼트의 유효한 레코드 뒤부터 이어서 기록
+        Path last = paths.get(paths.size() - 1);
+        int[] validRecords = new int[1];
+        readSegment(last, record -> validRecords[0]++);
+        openSegment(sequenceOf(last), validRecords[0] * RECORD_SIZE);
+    }
+
+    private void openSegment(long sequence, int position) {
+        Path path = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, sequence, SEGMENT_SUFFIX));
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널 세그먼트를 열 수 없습니다. " + path, e);
+        }
+        segment.position(position);
+        segmentSequence = sequence;
+    }
+
+    private void closeChannel() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널 세그먼트를 닫을 수 없습니다.", e);
+        }
+    }
+
+    private List<Path> segmentPaths() {
+        try (Stream<Path> paths = Files.list(directory)) {
+            return paths.filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널 디렉터리를 읽을 수 없습니다. " + directory, e);
+        }
+    }
+
+    private static long sequenceOf(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    // 비어있거나(kind 0) crc 가 맞지 않는 레코드를 만나면 해당 세그먼트는 끝난 것으로 봄
+    private static void readSegment(Path path, Consumer<JournalRecord> consumer) {
+        try (FileChannel readChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = readChannel.map(FileChannel.MapMode.READ_ONLY, 0, readChannel.size());
+            List<JournalRecord> records = new ArrayList<>();
+            while (buffer.remaining() >= RECORD_SIZE) {
+                JournalRecord record = decode(buffer);
+                if (record == null) {
+                    break;
+                }
+                records.add(record);
+            }
+            records.forEach(consumer);
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널 세그먼트를 읽을 수 없습니다. " + path, e);
+        }
+    }
+
+    private static void encode(JournalRecord record, MappedByteBuffer buffer) {
+        int start = buffer.position();
+        buffer.put((byte) (record.kind().ordinal() + 1));
+        buffer.put(record.type() == null ? 0 : (byte) (record.type().ordinal() + 1));
+        buffer.putLong(record.userId());
+        buffer.putLong(record.amount());
+        buffer.putLong(record.updateMillis());
+        buffer.putInt(checksum(buffer, start));
+    }
+
+    private static JournalRecord decode(MappedByteBuffer buffer) {
+        int start = buffer.position();
+        byte kind = buffer.get();
+        byte type = buffer.get();
+        long userId = buffer.getLong();
+        long amount = buffer.getLong();
+        long updateMillis = buffer.getLong();
+        int crc = buffer.getInt();
+        if (kind == 0 || crc != checksum(buffer, start)) {
+            return null;
+        }
+        return new JournalRecord(JournalRecord.Kind.values()[kind - 1], userId, amount,
+                type == 0 ? null : TransactionType.values()[type - 1], updateMillis);
+    }
+
+    private static int checksum(MappedByteBuffer buffer, int start) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(buffer.slice(start, RECORD_SIZE - Integer.BYTES));
+        return (int) crc32.getValue();
+    }
+}
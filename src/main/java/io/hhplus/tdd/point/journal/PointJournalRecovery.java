@@ -0,0 +1,61 @@
+package io.hhplus.tdd.point.journal;
+
+import io.hhplus.tdd.point.repository.PointHistoryStorageRepository;
+import io.hhplus.tdd.point.repository.UserPointStorageRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 애플리케이션 시작 시 저널을 replay 하여 메모리 테이블을 복구합니다.
+ * - 포인트 히스토리는 기록된 순서대로 테이블을 거치지 않고 인덱스에만 복구합니다. (id 도 같은 순서로 1 부터 다시 부여됨)
+ * - 유저 포인트는 저널을 끝까지 읽어 유저별 마지막 잔액을 구한 뒤, 기본값(0)이 아닌 유저만 한 번씩 저장합니다.
+ * - 요청을 받기 전(빈 초기화 단계)에 끝나며, replay 중의 저장은 저널에 다시 기록되지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "point.journal.enabled", havingValue = "true")
+public class PointJournalRecovery {
+    private static final Logger log = LoggerFactory.getLogger(PointJournalRecovery.class);
+
+    private final PointJournal pointJournal;
+    private final UserPointStorageRepository userPointRepository;
+    private final PointHistoryStorageRepository pointHistoryRepository;
+
+    @PostConstruct
+    public void recover() {
+        long startNanos = System.nanoTime();
+        Map<Long, Long> balances = new LinkedHashMap<>();
+        long[] historyCount = new long[1];
+        long[] balanceCount = new long[1];
+
+        pointJournal.withoutJournaling(() -> {
+            pointJournal.forEachRecord(record -> {
+                switch (record.kind()) {
+                    case BALANCE -> balances.put(record.userId(), record.amount());
+                    case HISTORY -> {
+                        pointHistoryRepository.restore(record.userId(), record.amount(), record.type(), record.updateMillis());
+                        historyCount[0]++;
+                    }
+                }
+            });
+
+            // 잔액이 0 인 유저는 테이블에 없어도 같은 값으로 조회되므로 저장하지 않음
+            balances.forEach((userId, amount) -> {
+                if (amount != 0) {
+                    userPointRepository.saveOrUpdate(userId, amount);
+                    balanceCount[0]++;
+                }
+            });
+        });
+
+        log.info("포인트 저널 복구 완료 users:{}, saved-balances:{}, histories:{}, elapsed:{}ms",
+                balances.size(), balanceCount[0], historyCount[0], (System.nanoTime() - startNanos) / 1_000_000);
+    }
+}
@@ -0,0 +1,112 @@
+package io.hhplus.tdd.point.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 관측한 처리 시간으로 동시에 처리할 요청 수의 한도를 조절하는 limiter (gradient 방식)
+ * - 한도만큼 처리 중이면 기다리지 않고 바로 거절합니다.
+ * - windowSize 건마다 평균 처리 시간(short RTT)을 장기 평균(long RTT)과 비교합니다.
+ *   처리 시간이 늘어나면(큐가 쌓이면) 비율만큼 한도를 줄이고, 비슷하면 sqrt(한도) 만큼씩 늘립니다.
+ * - 한도의 절반도 사용하지 않는 구간에서는 늘리지 않습니다. (부하가 적을 때 한도만 끝없이 커지는 것을 방지)
+ */
+public class AdaptiveConcurrencyLimiter {
+    private static final double TOLERANCE = 1.5;     // 장기 평균의 1.5 배까지는 정상 범위로 간주
+    private static final double SMOOTHING = 0.2;     // 새 한도를 반영하는 비율
+    private static final double LONG_RTT_WINDOWS = 50; // 장기 평균에 반영되는 윈도우 수
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final int windowSize;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private volatile int limit;
+
+    // 아래 값은 sample 안에서만 변경됨
+    private double estimatedLimit;
+    private double longRttNanos;
+    private long windowRttNanos;
+    private int windowCount;
+    private int windowMaxInFlight;
+
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit, int windowSize) {
+        if (minLimit <= 0 || minLimit > initialLimit || initialLimit > maxLimit || windowSize <= 0) {
+            throw new IllegalArgumentException("동시 처리 한도는 0 < min <= initial <= max 이고 윈도우 크기는 0보다 커야 합니다.");
+        }
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.windowSize = windowSize;
+        this.estimatedLimit = initialLimit;
+        this.limit = initialLimit;
+    }
+
+    // 한도 안이면 처리 중 요청 수를 올리고 true, 한도에 도달했다면 바로 false
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    // tryAcquire 에 성공한 요청이 끝났을 때 처리 시간과 함께 호출
+    public void release(long rttNanos) {
+        int inFlightBeforeRelease = inFlight.getAndDecrement();
+        sample(rttNanos, inFlightBeforeRelease);
+    }
+
+    private synchronized void sample(long rttNanos, int inFlightBeforeRelease) {
+        windowRttNanos += rttNanos;
+        windowMaxInFlight = Math.max(windowMaxInFlight, inFlightBeforeRelease);
+        if (++windowCount < windowSize) {
+            return;
+        }
+
+        double shortRttNanos = (double) windowRttNanos / windowCount;
+        if (longRttNanos == 0) {
+            longRttNanos = shortRttNanos;
+        } else {
+            longRttNanos += (shortRttNanos - longRttNanos) / LONG_RTT_WINDOWS;
+        }
+        // 처리 시간이 장기 평균보다 크게 줄었다면(과부하 해소) 장기 평균도 빠르게 따라 내려감
+        if (longRttNanos / shortRttNanos > 2) {
+            longRttNanos *= 0.95;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRttNanos / shortRttNanos));
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        if (newLimit > estimatedLimit && windowMaxInFlight < estimatedLimit / 2) {
+            newLimit = estimatedLimit;
+        }
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING));
+        limit = (int) estimatedLimit;
+
+        windowRttNanos = 0;
+        windowCount = 0;
+        windowMaxInFlight = 0;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+}
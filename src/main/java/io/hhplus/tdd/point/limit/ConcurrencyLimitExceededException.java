@@ -0,0 +1,13 @@
+package io.hhplus.tdd.point.limit;
+
+/**
+ * 동시 처리 한도에 도달하여 요청을 처리하지 않고 거절한 경우의 예외
+ * - 서비스 호출 전에 거절하므로 클라이언트는 같은 요청을 안전하게 재시도할 수 있습니다.
+ */
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+    public ConcurrencyLimitExceededException(AdaptiveConcurrencyLimiter limiter) {
+        // 과부하 상황에서 자주 발생하므로 스택 트레이스를 만들지 않음
+        super("동시 처리 한도(" + limiter.name() + ":" + limiter.limit() + ")에 도달하여 요청을 거절했습니다.", null, false, false);
+    }
+}
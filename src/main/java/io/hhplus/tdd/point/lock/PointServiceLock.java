@@ -1,18 +1,152 @@
 package io.hhplus.tdd.point.lock;
 
+import io.hhplus.tdd.point.deadline.RequestDeadline;
+import io.hhplus.tdd.point.deadline.RequestDeadlineExceededException;
+import io.hhplus.tdd.point.metrics.PointMetrics;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * 유저 ID 단위로 락을 관리합니다.
+ * - 같은 유저에 대한 요청은 공정 모드 ReentrantLock 으로 순서대로 처리됩니다.
+ * - 서로 다른 유저에 대한 요청은 이 락에서는 서로를 기다리지 않습니다.
+ *   다만 thread-safe 하지 않은 테이블 쓰기는 저장소에서 전역 락으로 직렬화되므로, 테이블 저장소에서는 테이블 쓰기 외의 구간만 겹칩니다.
+ * - 락을 잡고 있거나 기다리는 스레드가 없어지면 해당 유저의 락은 맵에서 제거됩니다.
+ * - 락 획득 대기 시간과 점유 시간을 지표(point.lock.wait, point.lock.hold)로 기록합니다.
+ * - tryLock 으로 대기 시간을 제한할 수 있으며, 요청 기한이 있다면 남은 시간까지만 기다립니다.
+ * - 두 유저의 락이 함께 필요하면 항상 ID 가 작은 유저부터 잡아 서로를 기다리는 교착 상태를 막습니다.
+ */
 @Component
 public class PointServiceLock {
-    private final ReentrantLock lock = new ReentrantLock(true); // 공정 모드 활성화
+    private final ConcurrentHashMap<Long, LockEntry> locks = new ConcurrentHashMap<>();
+    private final boolean fair;
 
-    public void lock() {
-        lock.lock(); // 공정 모드에서는 먼저 대기한 스레드가 우선권을 가짐
+    public PointServiceLock() {
+        this(true); // 공정 모드 활성화
     }
 
-    public void unLock() {
-        lock.unlock();
+    // 벤치마크 등에서 비공정 모드와 비교하기 위한 생성자
+    public PointServiceLock(boolean fair) {
+        this.fair = fair;
+    }
+
+    public void lock(long id) {
+        LockEntry entry = reference(id);
+        long startNanos = System.nanoTime();
+        entry.lock.lock(); // 공정 모드에서는 먼저 대기한 스레드가 우선권을 가짐
+        acquired(entry, startNanos);
+    }
+
+    // timeout 안에 락을 얻지 못하면 false (대기하며 올려둔 참조 카운트는 되돌림)
+    public boolean tryLock(long id, long timeout, TimeUnit unit) throws InterruptedException {
+        LockEntry entry = reference(id);
+        long startNanos = System.nanoTime();
+        boolean locked = false;
+        try {
+            locked = entry.lock.tryLock(timeout, unit); // 공정 모드에서는 대기 순서를 지킴
+        } finally {
+            if (!locked) {
+                release(id);
+            }
+        }
+        if (!locked) {
+            return false;
+        }
+        acquired(entry, startNanos);
+        return true;
+    }
+
+    // 기한이 없으면 lock 과 같고, 기한이 있으면 남은 시간까지만 기다린 뒤 RequestDeadlineExceededException
+    public void lock(long id, RequestDeadline deadline) {
+        if (deadline == null) {
+            lock(id);
+            return;
+        }
+        try {
+            if (!tryLock(id, deadline.remainingNanos(), TimeUnit.NANOSECONDS)) {
+                throw new RequestDeadlineExceededException(RequestDeadlineExceededException.Stage.LOCK_WAIT,
+                        deadline.timeoutMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("유저 락 대기 중 인터럽트가 발생했습니다.", e);
+        }
+    }
+
+    // 두 유저의 락을 ID 오름차순으로 획득 (두 번째 락을 얻지 못하면 먼저 잡은 락을 풀고 예외)
+    public void lock(long id, long otherId, RequestDeadline deadline) {
+        long first = Math.min(id, otherId);
+        long second = Math.max(id, otherId);
+        lock(first, deadline);
+        try {
+            lock(second, deadline);
+        } catch (RuntimeException e) {
+            unLock(first);
+            throw e;
+        }
+    }
+
+    // 두 유저의 락을 획득의 역순으로 해제
+    public void unLock(long id, long otherId) {
+        try {
+            unLock(Math.max(id, otherId));
+        } finally {
+            unLock(Math.min(id, otherId));
+        }
+    }
+
+    public void unLock(long id) {
+        LockEntry entry = locks.get(id);
+        if (entry == null) {
+            throw new IllegalMonitorStateException("잠금되지 않은 유저입니다. id:" + id);
+        }
+        boolean outermost = entry.lock.getHoldCount() == 1;
+        long acquiredNanos = entry.acquiredNanos;
+        entry.lock.unlock();
+        if (outermost) {
+            PointMetrics.LOCK_HOLD.record(System.nanoTime() - acquiredNanos, TimeUnit.NANOSECONDS);
+        }
+
+        release(id);
+    }
+
+    private LockEntry reference(long id) {
+        // 참조 카운트를 먼저 올려두어야 다른 스레드가 unLock 중에 엔트리를 제거하지 않음
+        return locks.compute(id, (key, current) -> {
+            LockEntry target = current == null ? new LockEntry(fair) : current;
+            target.references++;
+            return target;
+        });
+    }
+
+    private void release(long id) {
+        // 더 이상 사용하는 스레드가 없다면 맵에서 제거하여 메모리를 회수
+        locks.computeIfPresent(id, (key, current) -> --current.references == 0 ? null : current);
+    }
+
+    private void acquired(LockEntry entry, long startNanos) {
+        long acquiredNanos = System.nanoTime();
+        PointMetrics.LOCK_WAIT.record(acquiredNanos - startNanos, TimeUnit.NANOSECONDS);
+        if (entry.lock.getHoldCount() == 1) {
+            entry.acquiredNanos = acquiredNanos; // 재진입이 아닌 경우에만 점유 시작 시각을 기록
+        }
+    }
+
+    // 현재 맵에 유지되고 있는 유저 락의 개수
+    public int activeLockCount() {
+        return locks.size();
+    }
+
+    private static final class LockEntry {
+        private final ReentrantLock lock;
+        private int references; // compute 블록 안에서만 변경됨
+        private long acquiredNanos; // 락을 잡은 스레드만 읽고 씀
+
+        private LockEntry(boolean fair) {
+            this.lock = new ReentrantLock(fair);
+        }
     }
 }
@@ -0,0 +1,169 @@
+package io.hhplus.tdd.point.metrics;
+
+import io.hhplus.tdd.point.executor.CoalescingPointCommandExecutor;
+import io.hhplus.tdd.point.executor.OptimisticPointCommandExecutor;
+import io.hhplus.tdd.point.executor.ShardedPointCommandExecutor;
+import io.hhplus.tdd.point.idempotency.IdempotencyStore;
+import io.hhplus.tdd.point.limit.AdaptiveConcurrencyLimiter;
+import io.hhplus.tdd.point.lock.PointServiceLock;
+import io.hhplus.tdd.point.repository.CachingUserPointRepository;
+import io.hhplus.tdd.point.repository.EventSourcedUserPointRepository;
+import io.hhplus.tdd.point.repository.HedgedReader;
+import io.hhplus.tdd.point.repository.UserPointSnapshot;
+import io.hhplus.tdd.point.repository.WriteBehindPointHistoryRepository;
+import io.hhplus.tdd.point.service.ConcurrencyLimitedPointService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 포인트 컴포넌트들이 이미 집계하고 있는 값을 지표로 노출합니다.
+ * - 값은 지표를 수집할 때만 읽으므로 요청 처리 경로에는 비용이 추가되지 않습니다.
+ * - 설정에 따라 등록되지 않은 컴포넌트(캐시, write-behind, 실행 방식, 동시 처리 한도)는 건너뜁니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PointMeterBinder implements MeterBinder {
+    private final PointServiceLock pointServiceLock;
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectProvider<CachingUserPointRepository> cachingUserPointRepository;
+    private final ObjectProvider<UserPointSnapshot> userPointSnapshot;
+    private final ObjectProvider<HedgedReader> hedgedReader;
+    private final ObjectProvider<EventSourcedUserPointRepository> eventSourcedUserPointRepository;
+    private final ObjectProvider<WriteBehindPointHistoryRepository> writeBehindPointHistoryRepository;
+    private final ObjectProvider<ShardedPointCommandExecutor> shardedPointCommandExecutor;
+    private final ObjectProvider<CoalescingPointCommandExecutor> coalescingPointCommandExecutor;
+    private final ObjectProvider<OptimisticPointCommandExecutor> optimisticPointCommandExecutor;
+    private final ObjectProvider<ConcurrencyLimitedPointService> concurrencyLimitedPointService;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("point.lock.active", pointServiceLock, PointServiceLock::activeLockCount)
+                .description("맵에 유지되고 있는 유저 락 개수")
+                .register(registry);
+
+        FunctionCounter.builder("point.idempotency.requests", idempotencyStore, IdempotencyStore::executedCount)
+                .description("Idempotency-Key 가 있는 충전/사용 요청 수")
+                .tag("result", "executed")
+                .register(registry);
+        FunctionCounter.builder("point.idempotency.requests", idempotencyStore, IdempotencyStore::replayedCount)
+                .description("Idempotency-Key 가 있는 충전/사용 요청 수")
+                .tag("result", "replayed")
+                .register(registry);
+        FunctionCounter.builder("point.idempotency.requests", idempotencyStore, IdempotencyStore::joinedCount)
+                .description("Idempotency-Key 가 있는 충전/사용 요청 수")
+                .tag("result", "joined")
+                .register(registry);
+        FunctionCounter.builder("point.idempotency.evictions", idempotencyStore, IdempotencyStore::evictionCount)
+                .register(registry);
+        Gauge.builder("point.idempotency.size", idempotencyStore, IdempotencyStore::size)
+                .register(registry);
+
+        cachingUserPointRepository.ifAvailable(cache -> {
+            FunctionCounter.builder("point.cache.requests", cache, CachingUserPointRepository::hitCount)
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("point.cache.requests", cache, CachingUserPointRepository::missCount)
+                    .tag("result", "miss")
+                    .register(registry);
+            FunctionCounter.builder("point.cache.evictions", cache, CachingUserPointRepository::evictionCount)
+                    .register(registry);
+            Gauge.builder("point.cache.size", cache, CachingUserPointRepository::size)
+                    .register(registry);
+        });
+
+        userPointSnapshot.ifAvailable(snapshot -> {
+            FunctionCounter.builder("point.snapshot.reads", snapshot, UserPointSnapshot::hitCount)
+                    .description("게시된 포인트 조회 수")
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("point.snapshot.reads", snapshot, UserPointSnapshot::missCount)
+                    .description("게시된 포인트 조회 수")
+                    .tag("result", "miss")
+                    .register(registry);
+            Gauge.builder("point.snapshot.size", snapshot, UserPointSnapshot::size)
+                    .register(registry);
+        });
+
+        hedgedReader.ifAvailable(reader -> {
+            FunctionCounter.builder("point.hedged-read.reads", reader, HedgedReader::readCount)
+                    .register(registry);
+            FunctionCounter.builder("point.hedged-read.hedged", reader, HedgedReader::hedgedCount)
+                    .description("지연되어 한 번 더 보낸 조회 수")
+                    .register(registry);
+            FunctionCounter.builder("point.hedged-read.hedge-wins", reader, HedgedReader::hedgeWinCount)
+                    .description("추가로 보낸 조회가 먼저 끝난 횟수")
+                    .register(registry);
+            FunctionCounter.builder("point.hedged-read.budget-exhausted", reader, HedgedReader::budgetExhaustedCount)
+                    .description("추가 조회 비율 한도로 한 번 더 조회하지 못한 횟수")
+                    .register(registry);
+            FunctionCounter.builder("point.hedged-read.rejected", reader, HedgedReader::hedgeRejectedCount)
+                    .description("헤지 스레드가 모두 사용 중이어서 한 번 더 조회하지 못한 횟수")
+                    .register(registry);
+            Gauge.builder("point.hedged-read.delay", reader, HedgedReader::delayMillis)
+                    .description("한 번 더 조회하기까지 기다리는 시간 (ms)")
+                    .register(registry);
+        });
+
+        eventSourcedUserPointRepository.ifAvailable(eventSourced ->
+                FunctionCounter.builder("point.event-sourcing.snapshots", eventSourced,
+                                EventSourcedUserPointRepository::snapshotCount)
+                        .register(registry));
+
+        writeBehindPointHistoryRepository.ifAvailable(writeBehind ->
+                Gauge.builder("point.history.write-behind.pending", writeBehind,
+                                WriteBehindPointHistoryRepository::pendingCount)
+                        .description("아직 테이블에 저장되지 않은 포인트 히스토리 개수")
+                        .register(registry));
+
+        shardedPointCommandExecutor.ifAvailable(executor -> {
+            for (int shard = 0; shard < executor.shardCount(); shard++) {
+                int target = shard;
+                Gauge.builder("point.execution.shard.queue", executor, e -> e.queueSize(target))
+                        .tag("shard", String.valueOf(shard))
+                        .register(registry);
+            }
+        });
+
+        coalescingPointCommandExecutor.ifAvailable(executor -> {
+            FunctionCounter.builder("point.execution.coalescing.batches", executor,
+                            CoalescingPointCommandExecutor::batchCount)
+                    .register(registry);
+            FunctionCounter.builder("point.execution.coalescing.commands", executor,
+                            CoalescingPointCommandExecutor::commandCount)
+                    .register(registry);
+        });
+
+        optimisticPointCommandExecutor.ifAvailable(executor -> {
+            FunctionCounter.builder("point.execution.optimistic.conflicts", executor,
+                            OptimisticPointCommandExecutor::conflictCount)
+                    .register(registry);
+            FunctionCounter.builder("point.execution.optimistic.exhausted", executor,
+                            OptimisticPointCommandExecutor::exhaustedCount)
+                    .register(registry);
+        });
+
+        concurrencyLimitedPointService.ifAvailable(service -> {
+            for (AdaptiveConcurrencyLimiter limiter : List.of(service.readLimiter(), service.writeLimiter())) {
+                Gauge.builder("point.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::limit)
+                        .description("현재 동시 처리 한도")
+                        .tag("path", limiter.name())
+                        .register(registry);
+                Gauge.builder("point.concurrency.in-flight", limiter, AdaptiveConcurrencyLimiter::inFlight)
+                        .description("처리 중인 요청 수")
+                        .tag("path", limiter.name())
+                        .register(registry);
+                FunctionCounter.builder("point.concurrency.rejected", limiter, AdaptiveConcurrencyLimiter::rejectedCount)
+                        .description("동시 처리 한도로 거절된 요청 수")
+                        .tag("path", limiter.name())
+                        .register(registry);
+            }
+        });
+    }
+}
@@ -0,0 +1,85 @@
+package io.hhplus.tdd.point.metrics;
+
+import io.hhplus.tdd.point.deadline.RequestDeadlineExceededException;
+import io.hhplus.tdd.point.domain.PointValidationException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 포인트 도메인에서 사용하는 지표 모음
+ * - 스프링 부트가 등록한 레지스트리(Prometheus 등)가 연결되는 전역 레지스트리에 미리 등록해두고,
+ *   호출 경로에서는 이름/태그 조회 없이 기록만 합니다.
+ * - 레지스트리가 연결되지 않은 단위 테스트에서는 아무것도 기록하지 않습니다.
+ * - 지연 시간은 p50/p95/p99 와 Prometheus 히스토그램 버킷을 함께 노출합니다.
+ */
+public final class PointMetrics {
+
+    // 유저 락 획득까지 기다린 시간
+    public static final Timer LOCK_WAIT = timer("point.lock.wait", "유저 락 획득 대기 시간");
+    // 유저 락을 잡고 있던 시간 (재진입한 경우 가장 바깥 구간만 기록)
+    public static final Timer LOCK_HOLD = timer("point.lock.hold", "유저 락 점유 시간");
+
+    // 테이블 호출 지연 시간
+    public static final Timer USER_POINT_SELECT = repositoryTimer("user_point", "findById");
+    public static final Timer USER_POINT_SAVE = repositoryTimer("user_point", "saveOrUpdate");
+    public static final Timer POINT_HISTORY_SAVE = repositoryTimer("point_history", "save");
+    public static final Timer POINT_HISTORY_FIND_ALL = repositoryTimer("point_history", "findAllByUserId");
+    public static final Timer POINT_HISTORY_FIND_BETWEEN = repositoryTimer("point_history", "findAllByUserIdBetween");
+    public static final Timer POINT_HISTORY_FIND_PAGE = repositoryTimer("point_history", "findPageByUserId");
+
+    // 검증 실패 사유별 횟수
+    private static final Map<PointValidationException.Reason, Counter> VALIDATION_FAILURES =
+            new EnumMap<>(PointValidationException.Reason.class);
+
+    // 요청 기한 초과로 포기한 단계별 횟수
+    private static final Map<RequestDeadlineExceededException.Stage, Counter> DEADLINE_EXCEEDED =
+            new EnumMap<>(RequestDeadlineExceededException.Stage.class);
+
+    static {
+        for (PointValidationException.Reason reason : PointValidationException.Reason.values()) {
+            VALIDATION_FAILURES.put(reason, Counter.builder("point.validation.failures")
+                    .description("포인트 검증 실패 횟수")
+                    .tag("reason", reason.name().toLowerCase())
+                    .register(Metrics.globalRegistry));
+        }
+        for (RequestDeadlineExceededException.Stage stage : RequestDeadlineExceededException.Stage.values()) {
+            DEADLINE_EXCEEDED.put(stage, Counter.builder("point.deadline.exceeded")
+                    .description("요청 기한 초과로 포기한 요청 수")
+                    .tag("stage", stage.name().toLowerCase())
+                    .register(Metrics.globalRegistry));
+        }
+    }
+
+    private PointMetrics() {
+    }
+
+    public static void validationFailed(PointValidationException e) {
+        VALIDATION_FAILURES.get(e.reason()).increment();
+    }
+
+    public static void deadlineExceeded(RequestDeadlineExceededException e) {
+        DEADLINE_EXCEEDED.get(e.stage()).increment();
+    }
+
+    private static Timer repositoryTimer(String repository, String method) {
+        return Timer.builder("point.repository")
+                .description("포인트 테이블 호출 지연 시간")
+                .tag("repository", repository)
+                .tag("method", method)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(Metrics.globalRegistry);
+    }
+
+    private static Timer timer(String name, String description) {
+        return Timer.builder(name)
+                .description(description)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(Metrics.globalRegistry);
+    }
+}
@@ -0,0 +1,92 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.cache.SegmentedLruCache;
+import io.hhplus.tdd.point.domain.UserPoint;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * UserPointRepository 앞단의 read-through / write-through 캐시입니다.
+ * - findById 는 캐시에 없을 때만 테이블을 조회하고 결과를 캐시에 넣습니다.
+ * - saveOrUpdate 는 테이블에 저장한 결과로 캐시를 갱신합니다.
+ * - 조회 도중 같은 유저에 쓰기가 일어났다면 조회 결과는 캐시에 넣지 않아 오래된 잔액이 남지 않습니다.
+ * - optimistic, event-sourced 실행 방식에서는 각 방식의 저장소가 조회를 메모리에서 처리하므로 등록되지 않습니다.
+ */
+@Primary
+@Repository
+@ConditionalOnExpression("${point.cache.enabled:false} and !{'optimistic', 'event-sourced'}.contains('${point.execution.mode:lock}')")
+public class CachingUserPointRepository implements UserPointRepository {
+    private static final int WRITE_STRIPES = 1024;
+
+    private final UserPointStorageRepository userPointRepository;
+    private final SegmentedLruCache<Long, UserPoint> cache;
+
+    // 유저별 마지막 쓰기 순번 (유저 ID 를 해시하여 고정 크기 배열에 기록)
+    private final AtomicLong writeSequence = new AtomicLong();
+    private final AtomicLongArray lastWriteSequences = new AtomicLongArray(WRITE_STRIPES);
+
+    public CachingUserPointRepository(
+            UserPointStorageRepository userPointRepository,
+            @Value("${point.cache.maximum-size:10000}") int maximumSize
+    ) {
+        this.userPointRepository = userPointRepository;
+        this.cache = new SegmentedLruCache<>(maximumSize);
+    }
+
+    @Override
+    public UserPoint findById(Long id) {
+        UserPoint cached = cache.get(id);
+        if (cached != null) {
+            return cached;
+        }
+
+        long sequence = writeSequence.get();
+        UserPoint userPoint = userPointRepository.findById(id);
+        if (userPoint == null) {
+            return null;
+        }
+
+        // 조회하는 동안 같은 유저에 쓰기가 없었던 경우에만 캐시에 반영
+        synchronized (cache) {
+            if (lastWriteSequences.get(stripe(id)) <= sequence) {
+                cache.putIfAbsent(id, userPoint);
+            }
+        }
+        return userPoint;
+    }
+
+    @Override
+    public UserPoint saveOrUpdate(Long id, Long amount) {
+        UserPoint userPoint = userPointRepository.saveOrUpdate(id, amount);
+        synchronized (cache) {
+            lastWriteSequences.set(stripe(id), writeSequence.incrementAndGet());
+            cache.put(id, userPoint);
+        }
+        return userPoint;
+    }
+
+    public long hitCount() {
+        return cache.hitCount();
+    }
+
+    public long missCount() {
+        return cache.missCount();
+    }
+
+    public long evictionCount() {
+        return cache.evictionCount();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    private static int stripe(long id) {
+        return Long.hashCode(id * 0x9E3779B97F4A7C15L) & (WRITE_STRIPES - 1);
+    }
+}
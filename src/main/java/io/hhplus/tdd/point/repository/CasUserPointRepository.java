@@ -0,0 +1,13 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.domain.UserPoint;
+
+/**
+ * 버전 비교(compare-and-set) 저장을 지원하는 유저 포인트 저장소
+ * - 버전을 보관하는 저장소만 구현하며, 낙관적 실행 방식(OptimisticPointCommandExecutor)이 이 타입으로 주입받습니다.
+ */
+public interface CasUserPointRepository extends UserPointRepository {
+
+    // 저장된 버전이 expectedVersion 과 같을 때만 저장하고 올라간 버전의 포인트를 반환 (다르면 null)
+    UserPoint saveIfVersion(Long id, long expectedVersion, Long amount);
+}
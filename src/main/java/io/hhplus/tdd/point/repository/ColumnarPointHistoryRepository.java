@@ -0,0 +1,78 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.PointHistoryCursor;
+import io.hhplus.tdd.point.enums.TransactionType;
+import io.hhplus.tdd.point.journal.JournalRecord;
+import io.hhplus.tdd.point.journal.PointJournal;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ColumnarPointHistoryStore 를 사용하는 포인트 히스토리 저장소 (point.history.storage=columnar)
+ * - 저장소가 유저별로 직접 동기화하므로 테이블 락을 잡지 않으며, 저널 복구도 지연 없이 그대로 저장합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "point.history.storage", havingValue = "columnar")
+public class ColumnarPointHistoryRepository implements PointHistoryStorageRepository {
+    private final ColumnarPointHistoryStore columnarPointHistoryStore;
+
+    // 지금까지 저장된 가장 큰 id
+    private final AtomicLong lastInsertedId = new AtomicLong();
+
+    // point.journal.enabled=true 일 때만 주입되며, 저장한 내용을 저널에도 기록
+    @Autowired(required = false)
+    private PointJournal pointJournal;
+
+    @Override
+    public PointHistory save(long userId, long amount, TransactionType type, long updateMillis) {
+        PointHistory pointHistory = insert(userId, amount, type, updateMillis);
+        if (pointJournal != null) {
+            pointJournal.append(JournalRecord.history(pointHistory));
+        }
+        return pointHistory;
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        return PointMetrics.POINT_HISTORY_SAVE.record(() -> {
+            PointHistory inserted = columnarPointHistoryStore.insert(userId, amount, type, updateMillis);
+            lastInsertedId.accumulateAndGet(inserted.id(), Math::max);
+            return inserted;
+        });
+    }
+
+    @Override
+    public PointHistory restore(long userId, long amount, TransactionType type, long updateMillis) {
+        return insert(userId, amount, type, updateMillis);
+    }
+
+    @Override
+    public long lastInsertedId() {
+        return lastInsertedId.get();
+    }
+
+    @Override
+    public List<PointHistory> findAllByUserId(long userId) {
+        return PointMetrics.POINT_HISTORY_FIND_ALL.record(() -> columnarPointHistoryStore.findAllByUserId(userId));
+    }
+
+    @Override
+    public List<PointHistory> findAllByUserIdBetween(long userId, long fromMillis, long toMillis) {
+        return PointMetrics.POINT_HISTORY_FIND_BETWEEN.record(
+                () -> columnarPointHistoryStore.findAllByUserIdBetween(userId, fromMillis, toMillis));
+    }
+
+    @Override
+    public List<PointHistory> findPageByUserId(long userId, PointHistoryCursor cursor, int limit, TransactionType type) {
+        return PointMetrics.POINT_HISTORY_FIND_PAGE.record(
+                () -> columnarPointHistoryStore.findPageByUserId(userId, cursor, limit, type));
+    }
+}
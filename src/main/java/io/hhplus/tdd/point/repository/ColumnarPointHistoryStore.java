@@ -0,0 +1,152 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.PointHistoryCursor;
+import io.hhplus.tdd.point.enums.TransactionType;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 포인트 히스토리를 유저별 primitive 컬럼(id, amount, type, updateMillis)으로 보관하는 저장소입니다.
+ * (point.history.storage=columnar)
+ * - 유저별로 나누어 저장하므로 userId 는 컬럼으로 두지 않고, type 은 byte 하나로 저장합니다. (내역당 25 byte)
+ * - PointHistory 객체는 조회 결과를 반환할 때만 만듭니다.
+ * - 내역은 updateMillis 순서로 보관하며, 기간/커서 조회는 이진 탐색으로 시작 위치를 찾습니다. (PointHistoryIndex 와 같음)
+ * - 합계 같은 집계는 객체를 만들지 않고 컬럼을 바로 순회합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "point.history.storage", havingValue = "columnar")
+public class ColumnarPointHistoryStore {
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private final ConcurrentHashMap<Long, UserColumns> partitions = new ConcurrentHashMap<>();
+    private final AtomicLong idSequence = new AtomicLong();
+    private final AtomicLong size = new AtomicLong();
+
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        long id = idSequence.incrementAndGet();
+        partitions.computeIfAbsent(userId, key -> new UserColumns()).add(id, amount, type, updateMillis);
+        size.incrementAndGet();
+        return new PointHistory(id, userId, amount, type, updateMillis);
+    }
+
+    public List<PointHistory> findAllByUserId(long userId) {
+        UserColumns columns = partitions.get(userId);
+        return columns == null ? List.of() : columns.between(userId, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    // fromMillis 이상, toMillis 미만의 내역 조회
+    public List<PointHistory> findAllByUserIdBetween(long userId, long fromMillis, long toMillis) {
+        UserColumns columns = partitions.get(userId);
+        return columns == null || fromMillis >= toMillis ? List.of() : columns.between(userId, fromMillis, toMillis);
+    }
+
+    public List<PointHistory> findPageByUserId(long userId, PointHistoryCursor cursor, int limit, TransactionType type) {
+        UserColumns columns = partitions.get(userId);
+        return columns == null ? List.of() : columns.page(userId, cursor, limit, type);
+    }
+
+    // fromMillis 이상, toMillis 미만 내역의 거래 종류별 금액 합계 (PointHistory 객체를 만들지 않음)
+    public long sumAmount(long userId, TransactionType type, long fromMillis, long toMillis) {
+        UserColumns columns = partitions.get(userId);
+        return columns == null || fromMillis >= toMillis ? 0L : columns.sum(type, fromMillis, toMillis);
+    }
+
+    public long size() {
+        return size.get();
+    }
+
+    private static final class UserColumns {
+        private long[] ids = new long[4];
+        private long[] amounts = new long[4];
+        private byte[] types = new byte[4];
+        private long[] millis = new long[4];
+        private int count;
+
+        synchronized void add(long id, long amount, TransactionType type, long updateMillis) {
+            if (count == ids.length) {
+                grow();
+            }
+
+            // 대부분 시간 순서대로 들어오므로 뒤에 붙이고, 순서가 어긋난 경우에만 위치를 찾아 삽입
+            int position = count == 0 || millis[count - 1] <= updateMillis ? count : lowerBound(updateMillis + 1);
+            if (position < count) {
+                int moved = count - position;
+                System.arraycopy(ids, position, ids, position + 1, moved);
+                System.arraycopy(amounts, position, amounts, position + 1, moved);
+                System.arraycopy(types, position, types, position + 1, moved);
+                System.arraycopy(millis, position, millis, position + 1, moved);
+            }
+            ids[position] = id;
+            amounts[position] = amount;
+            types[position] = (byte) type.ordinal();
+            millis[position] = updateMillis;
+            count++;
+        }
+
+        synchronized List<PointHistory> between(long userId, long fromMillis, long toMillis) {
+            int from = lowerBound(fromMillis);
+            int to = toMillis == Long.MAX_VALUE ? count : lowerBound(toMillis);
+            List<PointHistory> result = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                result.add(materialize(userId, i));
+            }
+            return result;
+        }
+
+        synchronized List<PointHistory> page(long userId, PointHistoryCursor cursor, int limit, TransactionType type) {
+            List<PointHistory> result = new ArrayList<>(Math.min(limit, count));
+            for (int i = lowerBound(cursor.updateMillis()); i < count && result.size() < limit; i++) {
+                boolean afterCursor = millis[i] != cursor.updateMillis() ? millis[i] > cursor.updateMillis() : ids[i] > cursor.id();
+                if (afterCursor && (type == null || types[i] == type.ordinal())) {
+                    result.add(materialize(userId, i));
+                }
+            }
+            return result;
+        }
+
+        synchronized long sum(TransactionType type, long fromMillis, long toMillis) {
+            byte target = (byte) type.ordinal();
+            long sum = 0;
+            for (int i = lowerBound(fromMillis), to = lowerBound(toMillis); i < to; i++) {
+                if (types[i] == target) {
+                    sum += amounts[i];
+                }
+            }
+            return sum;
+        }
+
+        private PointHistory materialize(long userId, int i) {
+            return new PointHistory(ids[i], userId, amounts[i], TYPES[types[i]], millis[i]);
+        }
+
+        private void grow() {
+            int capacity = ids.length + (ids.length >> 1);
+            ids = Arrays.copyOf(ids, capacity);
+            amounts = Arrays.copyOf(amounts, capacity);
+            types = Arrays.copyOf(types, capacity);
+            millis = Arrays.copyOf(millis, capacity);
+        }
+
+        // updateMillis 가 value 이상인 첫 위치
+        private int lowerBound(long value) {
+            int low = 0;
+            int high = count;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (millis[mid] < value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.cache.SegmentedLruCache;
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.PointHistoryCursor;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.enums.TransactionType;
+import io.hhplus.tdd.point.repository.PointEventSnapshotStore.Snapshot;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 포인트 히스토리를 원본(이벤트)으로 삼아 잔액을 계산하는 저장소입니다. (point.execution.mode=event-sourced)
+ * - 충전/사용은 히스토리 한 건을 추가(append)하는 것으로 끝나며, UserPointTable 에는 쓰지 않습니다.
+ * - 유저별로 이벤트를 적용한 잔액(running balance)을 유지하므로 조회는 이벤트 수와 관계없이 O(1) 입니다.
+ * - 마지막 스냅샷 이후 이벤트가 snapshot-interval 건 쌓이면 잔액과 마지막 이벤트 커서를 PointEventSnapshotStore 에 스냅샷으로 저장합니다.
+ * - 유저별 잔액은 maximum-size 명까지만 보관하며 (Segmented LRU), 보관되지 않은 유저는 마지막 스냅샷부터
+ *   그 이후의 이벤트만 커서로 한 페이지씩 조회(findPageByUserId)하여 다시 적용합니다. (스냅샷이 없으면 처음 이벤트부터)
+ * - 다시 적용하는 동안에는 캐시를 잠그지 않으며, 동시에 다시 적용한 경우 먼저 보관된 쪽을 사용합니다.
+ * - 버전은 지금까지 적용된 이벤트 수입니다.
+ * - 같은 유저의 append 순서는 호출하는 쪽(유저 락)이 보장해야 합니다.
+ */
+@Primary
+@Repository
+@ConditionalOnProperty(name = "point.execution.mode", havingValue = "event-sourced")
+public class EventSourcedUserPointRepository implements UserPointRepository {
+    private final PointHistoryRepository pointHistoryRepository;
+    private final PointEventSnapshotStore pointEventSnapshotStore;
+    private final int snapshotInterval;
+    private final SegmentedLruCache<Long, EventStream> streams;
+    private final LongAdder snapshotCount = new LongAdder();
+
+    public EventSourcedUserPointRepository(
+            PointHistoryRepository pointHistoryRepository,
+            PointEventSnapshotStore pointEventSnapshotStore,
+            @Value("${point.event-sourcing.snapshot-interval:100}") int snapshotInterval,
+            @Value("${point.event-sourcing.maximum-size:10000}") int maximumSize
+    ) {
+        if (snapshotInterval <= 0) {
+            throw new IllegalArgumentException("스냅샷 간격은 0보다 커야 합니다.");
+        }
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.pointEventSnapshotStore = pointEventSnapshotStore;
+        this.snapshotInterval = snapshotInterval;
+        this.streams = new SegmentedLruCache<>(maximumSize);
+    }
+
+    @Override
+    public UserPoint findById(Long id) {
+        return stream(id).state(id);
+    }
+
+    // 잔액을 직접 지정하는 경우 현재 잔액과의 차이를 충전/사용 이벤트로 추가
+    @Override
+    public UserPoint saveOrUpdate(Long id, Long amount) {
+        long difference = amount - findById(id).point();
+        if (difference == 0) {
+            return findById(id);
+        }
+        return difference > 0
+                ? append(id, difference, TransactionType.CHARGE)
+                : append(id, -difference, TransactionType.USE);
+    }
+
+    // 이벤트(히스토리) 한 건을 추가하고 반영된 잔액을 반환 (검증은 호출하는 쪽의 책임)
+    public UserPoint append(long userId, long amount, TransactionType type) {
+        EventStream stream = stream(userId); // 보관되지 않은 유저라면 추가하기 전에 기존 내역부터 적용
+        PointHistory event = pointHistoryRepository.save(userId, amount, type, System.currentTimeMillis());
+        return stream.append(userId, event);
+    }
+
+    // 지금까지 만들어진 스냅샷 수
+    public long snapshotCount() {
+        return snapshotCount.sum();
+    }
+
+    // 마지막 스냅샷 이후 쌓인 이벤트 수
+    public int eventsSinceSnapshot(long userId) {
+        return stream(userId).eventsSinceSnapshot();
+    }
+
+    private EventStream stream(long userId) {
+        EventStream stream = streams.get(userId);
+        if (stream != null) {
+            return stream;
+        }
+        // 캐시 밖에서 다시 적용한 뒤, 그사이 다른 스레드가 먼저 보관했다면 그쪽을 사용
+        EventStream replayed = replay(userId);
+        streams.putIfAbsent(userId, replayed);
+        EventStream cached = streams.get(userId);
+        return cached != null ? cached : replayed;
+    }
+
+    // 마지막 스냅샷에 그 이후의 이벤트를 한 페이지(snapshot-interval 건)씩 적용
+    private EventStream replay(long userId) {
+        EventStream stream = new EventStream(pointEventSnapshotStore.find(userId));
+        List<PointHistory> events;
+        do {
+            events = pointHistoryRepository.findPageByUserId(userId, stream.cursor, snapshotInterval, null);
+            for (PointHistory event : events) {
+                stream.append(userId, event);
+            }
+        } while (events.size() == snapshotInterval);
+        return stream;
+    }
+
+    private final class EventStream {
+        private long balance;
+        private long version;
+        private long updateMillis = System.currentTimeMillis();
+        private PointHistoryCursor cursor = PointHistoryCursor.FIRST; // 마지막으로 적용한 이벤트
+        private long snapshotVersion; // 마지막 스냅샷의 버전
+
+        private EventStream(Snapshot snapshot) {
+            if (snapshot != null) {
+                balance = snapshot.balance();
+                version = snapshot.version();
+                updateMillis = snapshot.updateMillis();
+                cursor = snapshot.cursor();
+                snapshotVersion = snapshot.version();
+            }
+        }
+
+        private synchronized UserPoint state(long userId) {
+            return new UserPoint(userId, balance, updateMillis, version);
+        }
+
+        private synchronized UserPoint append(long userId, PointHistory event) {
+            balance = switch (event.type()) {
+                case CHARGE -> balance + event.amount();
+                case USE -> balance - event.amount();
+            };
+            updateMillis = event.updateMillis();
+            cursor = PointHistoryCursor.after(event);
+            version++;
+            if (version - snapshotVersion >= snapshotInterval) {
+                snapshot(userId);
+            }
+            return state(userId);
+        }
+
+        private synchronized int eventsSinceSnapshot() {
+            return (int) (version - snapshotVersion);
+        }
+
+        private void snapshot(long userId) {
+            pointEventSnapshotStore.save(new Snapshot(userId, balance, version, updateMillis, cursor));
+            snapshotVersion = version;
+            snapshotCount.increment();
+        }
+    }
+}
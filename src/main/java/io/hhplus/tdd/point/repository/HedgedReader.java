@@ -0,0 +1,277 @@
+package io.hhplus.tdd.point.repository;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 지연 시간 편차가 큰 조회의 꼬리 지연을 줄이기 위한 헤지(hedged) 조회입니다.
+ * - 첫 조회는 호출한 스레드에서 바로 실행하고, delay 안에 끝나지 않으면 같은 조회를 헤지 스레드에서 한 번 더 보냅니다.
+ *   대부분의 조회는 delay 안에 끝나므로 스레드를 옮기지 않습니다.
+ * - 추가 조회가 먼저 끝나면 호출한 스레드를 인터럽트하여 첫 조회의 대기(테이블의 sleep 등)를 깨우고 먼저 끝난 결과를 반환합니다.
+ *   인터럽트에 반응하지 않는 조회라면 첫 조회가 끝날 때까지 기다린 뒤 먼저 끝난 결과를 반환합니다.
+ * - delay 는 최근 조회 시간들의 delay-percentile 값으로 주기적으로 다시 계산합니다. (기본 p90)
+ * - 추가 조회는 전체 조회 수의 max-extra-ratio 비율까지, 동시에 max-concurrent-hedges 건까지만 보내므로
+ *   저장소가 느려져도 부하와 스레드 수가 그 이상 늘지 않습니다.
+ * - 두 조회가 모두 실패한 경우에만 예외를 던지며, 늦게 끝난 조회의 결과는 버립니다. (읽기 전용 조회에만 사용)
+ */
+@Component
+@ConditionalOnProperty(name = "point.hedged-read.enabled", havingValue = "true")
+public class HedgedReader {
+    private static final int SAMPLE_SIZE = 1024; // delay 계산에 사용하는 최근 조회 시간 개수
+    private static final int RECALCULATE_INTERVAL = 64; // 이 개수만큼 조회가 끝날 때마다 delay 를 다시 계산
+    private static final long BUDGET_UNIT = 1_000_000L; // 추가 조회 1건에 필요한 예산
+    private static final long MAX_BUDGET = 10 * BUDGET_UNIT; // 한동안 쌓아둘 수 있는 추가 조회 수
+
+    private final double delayPercentile;
+    private final long budgetPerRead;
+    private final ScheduledExecutorService timer;
+    private final ExecutorService hedgeExecutor;
+
+    private final AtomicLongArray samples = new AtomicLongArray(SAMPLE_SIZE);
+    private final AtomicLong sampleCount = new AtomicLong();
+    private final AtomicLong budget = new AtomicLong();
+    private volatile long delayNanos;
+
+    private final LongAdder readCount = new LongAdder();
+    private final LongAdder hedgedCount = new LongAdder();
+    private final LongAdder hedgeWinCount = new LongAdder();
+    private final LongAdder budgetExhaustedCount = new LongAdder();
+    private final LongAdder hedgeRejectedCount = new LongAdder();
+
+    public HedgedReader(
+            @Value("${point.hedged-read.delay-percentile:0.9}") double delayPercentile,
+            @Value("${point.hedged-read.initial-delay-millis:50}") long initialDelayMillis,
+            @Value("${point.hedged-read.max-extra-ratio:0.2}") double maxExtraRatio,
+            @Value("${point.hedged-read.max-concurrent-hedges:16}") int maxConcurrentHedges
+    ) {
+        if (delayPercentile <= 0 || delayPercentile >= 1) {
+            throw new IllegalArgumentException("헤지 조회 기준 백분위는 0과 1 사이여야 합니다.");
+        }
+        if (maxExtraRatio < 0 || maxExtraRatio > 1) {
+            throw new IllegalArgumentException("추가 조회 비율은 0 이상 1 이하여야 합니다.");
+        }
+        if (maxConcurrentHedges <= 0) {
+            throw new IllegalArgumentException("동시 추가 조회 수는 0보다 커야 합니다.");
+        }
+        this.delayPercentile = delayPercentile;
+        this.delayNanos = TimeUnit.MILLISECONDS.toNanos(initialDelayMillis);
+        this.budgetPerRead = (long) (maxExtraRatio * BUDGET_UNIT);
+
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, namedThreadFactory("point-hedged-read-timer-"));
+        scheduler.setRemoveOnCancelPolicy(true); // delay 안에 끝난 조회의 예약은 바로 제거
+        this.timer = scheduler;
+
+        // 대기열 없이 스레드 수만큼만 실행 (늦게 시작하는 추가 조회는 의미가 없으므로 바로 거절)
+        ThreadPoolExecutor hedges = new ThreadPoolExecutor(maxConcurrentHedges, maxConcurrentHedges, 60L, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), namedThreadFactory("point-hedged-read-"));
+        hedges.allowCoreThreadTimeOut(true);
+        this.hedgeExecutor = hedges;
+    }
+
+    public <T> T read(Supplier<T> reader) {
+        readCount.increment();
+        budget.accumulateAndGet(budgetPerRead, (current, added) -> Math.min(current + added, MAX_BUDGET));
+
+        Attempts<T> attempts = new Attempts<>(Thread.currentThread());
+        attempts.pending.incrementAndGet();
+        ScheduledFuture<?> hedge = timer.schedule(() -> hedge(reader, attempts), delayNanos, TimeUnit.NANOSECONDS);
+
+        // 첫 조회는 호출한 스레드에서 실행
+        long startNanos = System.nanoTime();
+        try {
+            T value = reader.get();
+            attempts.result.complete(value);
+        } catch (Throwable e) {
+            if (attempts.pending.decrementAndGet() == 0) {
+                attempts.result.completeExceptionally(e);
+            }
+        } finally {
+            hedge.cancel(false);
+            // 인터럽트로 깨어난 경우에도 delay 이상 걸렸으므로 기록해야 꼬리 지연이 delay 에 반영됨
+            record(System.nanoTime() - startNanos);
+            attempts.finishPrimary();
+        }
+        return await(attempts.result);
+    }
+
+    // delay 가 지나도록 첫 조회가 끝나지 않았다면 예산과 헤지 스레드가 남아있을 때만 한 번 더 조회
+    private <T> void hedge(Supplier<T> reader, Attempts<T> attempts) {
+        if (attempts.result.isDone()) {
+            return;
+        }
+        if (!tryAcquireBudget()) {
+            budgetExhaustedCount.increment();
+            return;
+        }
+        attempts.pending.incrementAndGet();
+        hedgedCount.increment();
+        try {
+            hedgeExecutor.execute(() -> {
+                long startNanos = System.nanoTime();
+                try {
+                    T value = reader.get();
+                    record(System.nanoTime() - startNanos);
+                    if (attempts.result.complete(value)) {
+                        hedgeWinCount.increment();
+                        attempts.interruptPrimary();
+                    }
+                } catch (Throwable e) {
+                    if (attempts.pending.decrementAndGet() == 0) {
+                        attempts.result.completeExceptionally(e);
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            hedgedCount.decrement();
+            attempts.pending.decrementAndGet();
+            budget.addAndGet(BUDGET_UNIT);
+            hedgeRejectedCount.increment();
+        }
+    }
+
+    private boolean tryAcquireBudget() {
+        while (true) {
+            long current = budget.get();
+            if (current < BUDGET_UNIT) {
+                return false;
+            }
+            if (budget.compareAndSet(current, current - BUDGET_UNIT)) {
+                return true;
+            }
+        }
+    }
+
+    private void record(long elapsedNanos) {
+        long count = sampleCount.getAndIncrement();
+        samples.set((int) (count % SAMPLE_SIZE), elapsedNanos);
+        if ((count + 1) % RECALCULATE_INTERVAL == 0) {
+            recalculateDelay((int) Math.min(count + 1, SAMPLE_SIZE));
+        }
+    }
+
+    // 최근 조회 시간의 delayPercentile 값을 다음 delay 로 사용
+    private void recalculateDelay(int size) {
+        long[] sorted = new long[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = samples.get(i);
+        }
+        Arrays.sort(sorted);
+        delayNanos = sorted[Math.max(0, (int) Math.ceil(delayPercentile * size) - 1)];
+    }
+
+    private static <T> T await(CompletableFuture<T> result) {
+        try {
+            return result.get();
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("조회 대기 중 인터럽트가 발생했습니다.", e);
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    public long readCount() {
+        return readCount.sum();
+    }
+
+    public long hedgedCount() {
+        return hedgedCount.sum();
+    }
+
+    public long hedgeWinCount() {
+        return hedgeWinCount.sum();
+    }
+
+    public long budgetExhaustedCount() {
+        return budgetExhaustedCount.sum();
+    }
+
+    public long hedgeRejectedCount() {
+        return hedgeRejectedCount.sum();
+    }
+
+    public double delayMillis() {
+        return delayNanos / 1_000_000.0;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+        hedgeExecutor.shutdown();
+    }
+
+    private static ThreadFactory namedThreadFactory(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    // 한 번의 조회에서 보낸 조회들이 함께 사용하는 결과
+    private static final class Attempts<T> {
+        private static final int RUNNING = 0;
+        private static final int FINISHED = 1;
+        private static final int INTERRUPTING = 2;
+        private static final int INTERRUPTED = 3;
+
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final AtomicInteger pending = new AtomicInteger(); // 아직 끝나지 않은 조회 수
+        private final Thread caller; // 첫 조회를 실행하는 스레드
+        private final AtomicInteger primaryState = new AtomicInteger(RUNNING);
+
+        private Attempts(Thread caller) {
+            this.caller = caller;
+        }
+
+        // 첫 조회가 아직 실행 중일 때만 인터럽트
+        void interruptPrimary() {
+            if (primaryState.compareAndSet(RUNNING, INTERRUPTING)) {
+                caller.interrupt();
+                primaryState.set(INTERRUPTED);
+            }
+        }
+
+        // 첫 조회가 끝난 뒤 호출하며, 추가 조회가 보낸 인터럽트는 조회 밖으로 새지 않도록 지움
+        void finishPrimary() {
+            if (primaryState.compareAndSet(RUNNING, FINISHED)) {
+                return;
+            }
+            while (primaryState.get() != INTERRUPTED) {
+                Thread.onSpinWait();
+            }
+            Thread.interrupted();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.domain.PointHistoryCursor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * event-sourced 실행 방식에서 유저별 마지막 잔액 스냅샷을 보관합니다.
+ * - 스냅샷은 어느 이벤트까지 적용했는지를 커서로 함께 보관하므로, 잔액을 다시 계산할 때는 커서 이후의 이벤트만 적용하면 됩니다.
+ * - 같은 유저의 스냅샷은 가장 많은 이벤트를 적용한(버전이 가장 높은) 것만 남깁니다.
+ * - 테이블과 마찬가지로 메모리에 보관하며, 저널에는 기록하지 않으므로 재시작 후에는 처음 이벤트부터 다시 적용합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "point.execution.mode", havingValue = "event-sourced")
+public class PointEventSnapshotStore {
+    private final ConcurrentHashMap<Long, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    // 스냅샷이 없으면 null
+    public Snapshot find(long userId) {
+        return snapshots.get(userId);
+    }
+
+    public void save(Snapshot snapshot) {
+        snapshots.merge(snapshot.userId(), snapshot,
+                (saved, created) -> created.version() >= saved.version() ? created : saved);
+    }
+
+    public int size() {
+        return snapshots.size();
+    }
+
+    /**
+     * @param version 스냅샷까지 적용된 이벤트 수
+     * @param cursor  스냅샷에 마지막으로 적용된 이벤트 (다음 이벤트부터 다시 적용)
+     */
+    public record Snapshot(
+            long userId,
+            long balance,
+            long version,
+            long updateMillis,
+            PointHistoryCursor cursor
+    ) {
+    }
+}
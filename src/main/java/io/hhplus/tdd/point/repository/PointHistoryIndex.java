@@ -0,0 +1,98 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.PointHistoryCursor;
+import io.hhplus.tdd.point.enums.TransactionType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 유저 ID 별로 포인트 히스토리를 updateMillis 순서로 보관하는 보조 인덱스입니다.
+ * - 유저의 전체 내역 조회는 해당 유저의 내역 수(k)에만 비례합니다. O(k)
+ * - 기간 조회는 이진 탐색으로 시작/끝 위치를 찾습니다. O(log k)
+ * - 페이지 조회는 커서 위치를 이진 탐색으로 찾은 뒤 필요한 만큼만 읽습니다.
+ */
+public class PointHistoryIndex {
+    private final ConcurrentHashMap<Long, UserHistories> index = new ConcurrentHashMap<>();
+    private final AtomicLong size = new AtomicLong();
+
+    public void add(PointHistory pointHistory) {
+        index.computeIfAbsent(pointHistory.userId(), key -> new UserHistories()).add(pointHistory);
+        size.incrementAndGet();
+    }
+
+    public List<PointHistory> findAllByUserId(long userId) {
+        UserHistories histories = index.get(userId);
+        return histories == null ? List.of() : histories.all();
+    }
+
+    // fromMillis 이상, toMillis 미만의 내역 조회
+    public List<PointHistory> findAllByUserIdBetween(long userId, long fromMillis, long toMillis) {
+        UserHistories histories = index.get(userId);
+        return histories == null ? List.of() : histories.between(fromMillis, toMillis);
+    }
+
+    public List<PointHistory> findPageByUserId(long userId, PointHistoryCursor cursor, int limit, TransactionType type) {
+        UserHistories histories = index.get(userId);
+        return histories == null ? List.of() : histories.page(cursor, limit, type);
+    }
+
+    public long size() {
+        return size.get();
+    }
+
+    private static final class UserHistories {
+        private final List<PointHistory> entries = new ArrayList<>();
+
+        synchronized void add(PointHistory pointHistory) {
+            // 대부분 시간 순서대로 들어오므로 뒤에 붙이고, 순서가 어긋난 경우에만 위치를 찾아 삽입
+            int size = entries.size();
+            if (size == 0 || entries.get(size - 1).updateMillis() <= pointHistory.updateMillis()) {
+                entries.add(pointHistory);
+            } else {
+                entries.add(lowerBound(pointHistory.updateMillis() + 1), pointHistory);
+            }
+        }
+
+        synchronized List<PointHistory> all() {
+            return List.copyOf(entries);
+        }
+
+        synchronized List<PointHistory> between(long fromMillis, long toMillis) {
+            if (fromMillis >= toMillis) {
+                return List.of();
+            }
+            return List.copyOf(entries.subList(lowerBound(fromMillis), lowerBound(toMillis)));
+        }
+
+        synchronized List<PointHistory> page(PointHistoryCursor cursor, int limit, TransactionType type) {
+            List<PointHistory> result = new ArrayList<>(Math.min(limit, entries.size()));
+            int size = entries.size();
+            for (int i = lowerBound(cursor.updateMillis()); i < size && result.size() < limit; i++) {
+                PointHistory pointHistory = entries.get(i);
+                if (cursor.isBefore(pointHistory) && (type == null || pointHistory.type() == type)) {
+                    result.add(pointHistory);
+                }
+            }
+            return result;
+        }
+
+        // updateMillis 가 millis 이상인 첫 위치
+        private int lowerBound(long millis) {
+            int low = 0;
+            int high = entries.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (entries.get(mid).updateMillis() < millis) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
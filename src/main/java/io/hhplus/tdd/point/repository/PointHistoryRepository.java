@@ -1,12 +1,31 @@
 package io.hhplus.tdd.point.repository;
 
 import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.PointHistoryCursor;
 import io.hhplus.tdd.point.enums.TransactionType;
 
+import java.util.Comparator;
 import java.util.List;
 
 public interface PointHistoryRepository {
     PointHistory save(long userId, long amount, TransactionType type, long updateMillis);
 
     List<PointHistory> findAllByUserId(long userId);
+
+    // fromMillis 이상, toMillis 미만의 내역 조회
+    default List<PointHistory> findAllByUserIdBetween(long userId, long fromMillis, long toMillis) {
+        return findAllByUserId(userId).stream()
+                .filter(pointHistory -> pointHistory.updateMillis() >= fromMillis && pointHistory.updateMillis() < toMillis)
+                .toList();
+    }
+
+    // 커서 이후의 내역을 (updateMillis, id) 순서로 최대 limit 건 조회 (type 이 null 이면 전체)
+    default List<PointHistory> findPageByUserId(long userId, PointHistoryCursor cursor, int limit, TransactionType type) {
+        return findAllByUserId(userId).stream()
+                .filter(cursor::isBefore)
+                .filter(pointHistory -> type == null || pointHistory.type() == type)
+                .sorted(Comparator.comparingLong(PointHistory::updateMillis).thenComparingLong(PointHistory::id))
+                .limit(limit)
+                .toList();
+    }
 }
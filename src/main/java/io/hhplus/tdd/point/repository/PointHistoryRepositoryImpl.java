@@ -2,24 +2,117 @@ package io.hhplus.tdd.point.repository;
 
 import io.hhplus.tdd.database.PointHistoryTable;
 import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.PointHistoryCursor;
 import io.hhplus.tdd.point.enums.TransactionType;
+import io.hhplus.tdd.point.journal.JournalRecord;
+import io.hhplus.tdd.point.journal.PointJournal;
+import io.hhplus.tdd.point.metrics.PointMetrics;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * PointHistoryTable 을 사용하는 포인트 히스토리 저장소 (point.history.storage=table, 기본값)
+ * - PointHistoryTable 은 ArrayList 와 id 카운터를 그대로 사용하므로, 저장은 락을 잡고 한 번에 하나씩 호출합니다.
+ *   (락 없이 동시에 저장하면 id 가 중복되거나 내역이 누락될 수 있음)
+ * - 인덱스에도 같은 락 안에서 추가하므로 인덱스에는 id 순서대로 들어갑니다.
+ * - 조회는 인덱스에서만 하므로, 저널 복구(restore)는 테이블을 거치지 않고 인덱스에만 내역을 넣습니다.
+ */
 @Repository
 @RequiredArgsConstructor
-public class PointHistoryRepositoryImpl implements PointHistoryRepository {
+@ConditionalOnProperty(name = "point.history.storage", havingValue = "table", matchIfMissing = true)
+public class PointHistoryRepositoryImpl implements PointHistoryStorageRepository {
     private final PointHistoryTable pointHistoryTable;
 
+    // 테이블 저장을 한 번에 하나씩만 허용 (가상 스레드 고정을 피하기 위해 synchronized 대신 ReentrantLock 사용)
+    private final ReentrantLock tableLock = new ReentrantLock();
+
+    // 저널에서 인덱스로만 복구한 내역 수 (tableLock 안에서만 사용)
+    private long restoredCount;
+
+    // 지금까지 저장된 가장 큰 id
+    private final AtomicLong lastInsertedId = new AtomicLong();
+
+    // 테이블 전체를 순회하지 않도록 저장된 내역을 유저별로 함께 색인
+    private final PointHistoryIndex pointHistoryIndex = new PointHistoryIndex();
+
+    // point.journal.enabled=true 일 때만 주입되며, 테이블에 저장한 내용을 저널에도 기록
+    @Autowired(required = false)
+    private PointJournal pointJournal;
+
     @Override
     public PointHistory save(long userId, long amount, TransactionType type, long updateMillis) {
-        return pointHistoryTable.insert(userId, amount, type, updateMillis);
+        PointHistory pointHistory = insert(userId, amount, type, updateMillis);
+        if (pointJournal != null) {
+            pointJournal.append(JournalRecord.history(pointHistory));
+        }
+        return pointHistory;
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        return PointMetrics.POINT_HISTORY_SAVE.record(() -> {
+            tableLock.lock();
+            try {
+                PointHistory inserted = pointHistoryTable.insert(userId, amount, type, updateMillis);
+                if (restoredCount > 0) {
+                    inserted = new PointHistory(inserted.id() + restoredCount, userId, amount, type, updateMillis);
+                }
+                pointHistoryIndex.add(inserted);
+                lastInsertedId.accumulateAndGet(inserted.id(), Math::max);
+                return inserted;
+            } finally {
+                tableLock.unlock();
+            }
+        });
+    }
+
+    /**
+     * 저널에서 읽은 내역을 테이블을 거치지 않고 인덱스에만 복구합니다. (요청을 받기 전 시작 단계에서만 호출)
+     * - 조회는 인덱스에서만 하므로 테이블의 insert 지연 없이 복구할 수 있습니다.
+     * - 이후 테이블에 저장되는 내역의 id 는 복구한 내역 수만큼 더해 복구한 내역 뒤로 이어집니다.
+     */
+    @Override
+    public PointHistory restore(long userId, long amount, TransactionType type, long updateMillis) {
+        tableLock.lock();
+        try {
+            if (lastInsertedId.get() != restoredCount) {
+                throw new IllegalStateException("테이블에 저장된 내역이 있으면 저널을 복구할 수 없습니다.");
+            }
+            PointHistory restored = new PointHistory(restoredCount + 1, userId, amount, type, updateMillis);
+            pointHistoryIndex.add(restored);
+            restoredCount++;
+            lastInsertedId.set(restoredCount);
+            return restored;
+        } finally {
+            tableLock.unlock();
+        }
+    }
+
+    @Override
+    public long lastInsertedId() {
+        return lastInsertedId.get();
     }
 
     @Override
     public List<PointHistory> findAllByUserId(long userId) {
-        return pointHistoryTable.selectAllByUserId(userId);
+        return PointMetrics.POINT_HISTORY_FIND_ALL.record(() -> pointHistoryIndex.findAllByUserId(userId));
+    }
+
+    @Override
+    public List<PointHistory> findAllByUserIdBetween(long userId, long fromMillis, long toMillis) {
+        return PointMetrics.POINT_HISTORY_FIND_BETWEEN.record(
+                () -> pointHistoryIndex.findAllByUserIdBetween(userId, fromMillis, toMillis));
+    }
+
+    @Override
+    public List<PointHistory> findPageByUserId(long userId, PointHistoryCursor cursor, int limit, TransactionType type) {
+        return PointMetrics.POINT_HISTORY_FIND_PAGE.record(
+                () -> pointHistoryIndex.findPageByUserId(userId, cursor, limit, type));
     }
 }
@@ -0,0 +1,21 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.enums.TransactionType;
+
+/**
+ * 포인트 히스토리를 실제로 보관하는 저장소
+ * - point.history.storage 에 따라 PointHistoryRepositoryImpl(table) 또는 ColumnarPointHistoryRepository(columnar) 중 하나만 등록됩니다.
+ * - write-behind 저장소와 저널 복구는 이 타입으로 주입받습니다.
+ */
+public interface PointHistoryStorageRepository extends PointHistoryRepository {
+
+    // 저널에 기록하지 않고 저장 (write-behind 저장소는 호출한 스레드에서 이미 저널에 기록함)
+    PointHistory insert(long userId, long amount, TransactionType type, long updateMillis);
+
+    // 저널에서 읽은 내역을 복구 (요청을 받기 전 시작 단계에서만 호출)
+    PointHistory restore(long userId, long amount, TransactionType type, long updateMillis);
+
+    // 지금까지 저장된 가장 큰 id (write-behind 저장소가 다음에 저장될 id 를 미리 정할 때 사용)
+    long lastInsertedId();
+}
@@ -0,0 +1,184 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.cache.SegmentedLruCache;
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.PointSummary;
+import io.hhplus.tdd.point.enums.TransactionType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 유저별 포인트 충전/사용 집계를 충전/사용 시점에 바로 갱신하여 보관합니다.
+ * - 조회는 히스토리 건수와 관계없이 집계값만 읽습니다. O(1) (일자별 합계는 조회 일수에 비례)
+ * - 집계는 maximum-size 명까지만 보관하며 (Segmented LRU), 보관되지 않은 유저는 처음 조회할 때 히스토리로 다시 집계합니다.
+ *   따라서 재시작하거나 밀려난 뒤에도 히스토리와 같은 값으로 복원됩니다.
+ * - 일자별 합계는 기록이 있는 날짜만 만들고, 가장 최근 날짜로부터 retention-days 가 지난 날짜는 제거합니다.
+ * - 충전/사용은 beginWrite ~ endWrite 구간 안에서 기록하며, 이미 보관 중인 집계에만 더합니다.
+ *   히스토리로 다시 집계하는 동안 같은 유저의 쓰기가 있었다면 결과를 보관하지 않아 같은 내역이 두 번 집계되지 않습니다.
+ */
+@Component
+public class PointSummaryStore {
+    private static final int WRITE_STRIPES = 1024;
+
+    private final PointHistoryRepository pointHistoryRepository;
+    private final SegmentedLruCache<Long, UserSummary> summaries;
+    private final int retentionDays;
+    private final ZoneId zoneId = ZoneId.systemDefault();
+
+    // 유저별 진행 중인 쓰기 수와 마지막으로 쓰기를 시작/종료한 순번 (유저 ID 를 해시하여 고정 크기 배열에 기록)
+    private final AtomicLong writeSequence = new AtomicLong();
+    private final AtomicIntegerArray writesInProgress = new AtomicIntegerArray(WRITE_STRIPES);
+    private final AtomicLongArray lastWriteSequences = new AtomicLongArray(WRITE_STRIPES);
+
+    public PointSummaryStore(
+            @Value("${point.summary.retention-days:30}") int retentionDays,
+            @Value("${point.summary.maximum-size:10000}") int maximumSize,
+            PointHistoryRepository pointHistoryRepository
+    ) {
+        if (retentionDays <= 0) {
+            throw new IllegalArgumentException("집계 보관 일수는 0보다 커야 합니다.");
+        }
+        this.retentionDays = retentionDays;
+        this.summaries = new SegmentedLruCache<>(maximumSize);
+        this.pointHistoryRepository = pointHistoryRepository;
+    }
+
+    // 히스토리를 저장하기 전에 호출 (같은 유저의 다시 집계한 결과가 보관되지 않도록 표시)
+    public void beginWrite(long userId) {
+        int stripe = stripe(userId);
+        writesInProgress.incrementAndGet(stripe);
+        lastWriteSequences.set(stripe, writeSequence.incrementAndGet());
+    }
+
+    // 집계에 반영한 뒤 호출 (beginWrite 와 짝을 맞춰 finally 에서 호출)
+    public void endWrite(long userId) {
+        int stripe = stripe(userId);
+        lastWriteSequences.set(stripe, writeSequence.incrementAndGet());
+        writesInProgress.decrementAndGet(stripe);
+    }
+
+    // 보관 중인 집계가 없다면 다음 조회에서 히스토리로 다시 집계하므로 기록하지 않음
+    public void record(long userId, TransactionType type, long amount, long updateMillis) {
+        UserSummary summary;
+        synchronized (summaries) {
+            summary = summaries.get(userId);
+        }
+        if (summary != null) {
+            summary.add(type, amount, epochDayOf(updateMillis), retentionDays);
+        }
+    }
+
+    // 전체 합계와 오늘을 포함한 최근 days 일의 일자별 합계
+    public PointSummary find(long userId, int days) {
+        if (days < 0 || days > retentionDays) {
+            throw new IllegalArgumentException("조회 일수는 0 이상 " + retentionDays + " 이하여야 합니다.");
+        }
+        LocalDate today = LocalDate.now(zoneId);
+        UserSummary summary;
+        synchronized (summaries) {
+            summary = summaries.get(userId);
+        }
+        if (summary == null) {
+            summary = rebuild(userId);
+        }
+        return summary.snapshot(userId, today, days);
+    }
+
+    public int retentionDays() {
+        return retentionDays;
+    }
+
+    public int size() {
+        return summaries.size();
+    }
+
+    // 히스토리로 다시 집계하고, 집계하는 동안 같은 유저의 쓰기가 없었던 경우에만 보관
+    private UserSummary rebuild(long userId) {
+        int stripe = stripe(userId);
+        long sequence = writeSequence.get();
+        boolean quiet = writesInProgress.get(stripe) == 0;
+
+        UserSummary rebuilt = new UserSummary();
+        for (PointHistory pointHistory : pointHistoryRepository.findAllByUserId(userId)) {
+            rebuilt.add(pointHistory.type(), pointHistory.amount(), epochDayOf(pointHistory.updateMillis()), retentionDays);
+        }
+
+        synchronized (summaries) {
+            if (quiet && writesInProgress.get(stripe) == 0 && lastWriteSequences.get(stripe) <= sequence) {
+                summaries.putIfAbsent(userId, rebuilt);
+            }
+        }
+        return rebuilt;
+    }
+
+    private long epochDayOf(long updateMillis) {
+        return Instant.ofEpochMilli(updateMillis).atZone(zoneId).toLocalDate().toEpochDay();
+    }
+
+    private static int stripe(long userId) {
+        return (int) Math.floorMod(userId, (long) WRITE_STRIPES);
+    }
+
+    private static final class UserSummary {
+        private long totalCharged;
+        private long totalUsed;
+        private long chargeCount;
+        private long useCount;
+
+        // 기록이 있는 날짜만 보관 (epochDay -> charged, used, chargeCount, useCount)
+        private final TreeMap<Long, long[]> dailyTotals = new TreeMap<>();
+
+        synchronized void add(TransactionType type, long amount, long epochDay, int retentionDays) {
+            switch (type) {
+                case CHARGE -> {
+                    totalCharged += amount;
+                    chargeCount++;
+                }
+                case USE -> {
+                    totalUsed += amount;
+                    useCount++;
+                }
+            }
+
+            // 가장 최근 날짜로부터 보관 기간이 지난 날짜는 전체 합계에만 반영
+            long latestEpochDay = dailyTotals.isEmpty() ? epochDay : Math.max(dailyTotals.lastKey(), epochDay);
+            long oldestEpochDay = latestEpochDay - retentionDays + 1;
+            dailyTotals.headMap(oldestEpochDay).clear();
+            if (epochDay < oldestEpochDay) {
+                return;
+            }
+            long[] daily = dailyTotals.computeIfAbsent(epochDay, key -> new long[4]);
+            switch (type) {
+                case CHARGE -> {
+                    daily[0] += amount;
+                    daily[2]++;
+                }
+                case USE -> {
+                    daily[1] += amount;
+                    daily[3]++;
+                }
+            }
+        }
+
+        synchronized PointSummary snapshot(long userId, LocalDate today, int days) {
+            List<PointSummary.Daily> daily = new ArrayList<>(days);
+            for (long epochDay = today.toEpochDay() - days + 1; epochDay <= today.toEpochDay(); epochDay++) {
+                long[] totals = dailyTotals.get(epochDay);
+                daily.add(totals != null
+                        ? new PointSummary.Daily(LocalDate.ofEpochDay(epochDay), totals[0], totals[1], totals[2], totals[3])
+                        : new PointSummary.Daily(LocalDate.ofEpochDay(epochDay), 0, 0, 0, 0));
+            }
+            return new PointSummary(userId, totalCharged, totalUsed, chargeCount, useCount, daily);
+        }
+    }
+}
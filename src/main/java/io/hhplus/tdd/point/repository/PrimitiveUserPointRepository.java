@@ -0,0 +1,39 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.journal.JournalRecord;
+import io.hhplus.tdd.point.journal.PointJournal;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+/**
+ * PrimitiveUserPointStore 를 사용하는 유저 포인트 저장소 (point.user-point.storage=primitive)
+ * - 저장소가 직접 동기화하므로 테이블 락을 잡지 않으며, 조회는 메모리에서 바로 처리하므로 hedged read 와 스냅샷은 사용하지 않습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "point.user-point.storage", havingValue = "primitive")
+public class PrimitiveUserPointRepository implements UserPointStorageRepository {
+    private final PrimitiveUserPointStore primitiveUserPointStore;
+
+    // point.journal.enabled=true 일 때만 주입되며, 저장한 내용을 저널에도 기록
+    @Autowired(required = false)
+    private PointJournal pointJournal;
+
+    @Override
+    public UserPoint findById(Long id) {
+        return PointMetrics.USER_POINT_SELECT.record(() -> primitiveUserPointStore.findById(id));
+    }
+
+    @Override
+    public UserPoint saveOrUpdate(Long id, Long amount) {
+        UserPoint userPoint = PointMetrics.USER_POINT_SAVE.record(() -> primitiveUserPointStore.insertOrUpdate(id, amount));
+        if (pointJournal != null) {
+            pointJournal.append(JournalRecord.balance(userPoint));
+        }
+        return userPoint;
+    }
+}
@@ -0,0 +1,164 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.domain.UserPoint;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 유저 ID -> (포인트, 수정 시각) 을 long 배열 하나에 저장하는 open addressing 해시 맵입니다.
+ * (point.user-point.storage=primitive)
+ * - 슬롯 하나는 [유저 ID, 포인트, 수정 시각] 3개의 long 으로 이루어지며 선형 탐사(linear probing)로 찾습니다.
+ * - 유저마다 Long 키, 엔트리, UserPoint 객체를 두는 HashMap 과 달리 객체를 만들지 않으므로
+ *   유저 수가 많아져도 힙 사용량과 GC 대상이 늘지 않습니다. UserPoint 는 조회 결과를 반환할 때만 만듭니다.
+ * - 쓰기(및 확장)는 쓰기 락 안에서, 조회는 락 없이 낙관적 읽기 후 검증하여 수행합니다.
+ * - 비어있는 슬롯은 Long.MIN_VALUE 로 표시하며, 이 값을 ID 로 쓰는 유저는 별도 필드에 저장합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "point.user-point.storage", havingValue = "primitive")
+public class PrimitiveUserPointStore {
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final int SLOT = 3;
+    private static final double LOAD_FACTOR = 0.75;
+
+    private final StampedLock lock = new StampedLock();
+    private volatile long[] slots;
+    private int size;
+    private int resizeThreshold;
+
+    // ID 가 EMPTY 와 같은 유저
+    private boolean hasEmptyKey;
+    private long emptyKeyPoint;
+    private long emptyKeyMillis;
+
+    public PrimitiveUserPointStore(@Value("${point.user-point.initial-capacity:1024}") int initialCapacity) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("초기 용량은 0보다 커야 합니다.");
+        }
+        allocate(tableSizeFor((int) Math.ceil(initialCapacity / LOAD_FACTOR)));
+    }
+
+    // 저장되지 않은 유저는 UserPointTable 과 같이 0 포인트로 반환
+    public UserPoint findById(long id) {
+        long stamp = lock.tryOptimisticRead();
+        UserPoint userPoint = read(id);
+        if (lock.validate(stamp)) {
+            return userPoint;
+        }
+
+        // 읽는 도중 쓰기가 있었다면 읽기 락을 잡고 다시 조회
+        stamp = lock.readLock();
+        try {
+            return read(id);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public UserPoint insertOrUpdate(long id, long point) {
+        long millis = System.currentTimeMillis();
+        long stamp = lock.writeLock();
+        try {
+            if (id == EMPTY) {
+                size += hasEmptyKey ? 0 : 1;
+                hasEmptyKey = true;
+                emptyKeyPoint = point;
+                emptyKeyMillis = millis;
+            } else {
+                int index = indexOf(slots, id);
+                if (slots[index] == EMPTY) {
+                    slots[index] = id;
+                    if (++size > resizeThreshold) {
+                        resize();
+                        index = indexOf(slots, id);
+                    }
+                }
+                slots[index + 1] = point;
+                slots[index + 2] = millis;
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        return new UserPoint(id, point, millis);
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // 확장 없이 저장할 수 있는 슬롯 수
+    public int capacity() {
+        return slots.length / SLOT;
+    }
+
+    private UserPoint read(long id) {
+        if (id == EMPTY) {
+            return hasEmptyKey ? new UserPoint(id, emptyKeyPoint, emptyKeyMillis) : UserPoint.empty(id);
+        }
+
+        long[] current = slots;
+        int index = indexOf(current, id);
+        if (index < 0 || current[index] != id) {
+            return UserPoint.empty(id);
+        }
+        return new UserPoint(id, current[index + 1], current[index + 2]);
+    }
+
+    // 유저 ID 가 있는 슬롯 또는 들어갈 빈 슬롯의 시작 위치 (낙관적 읽기 중 끝까지 찾지 못하면 -1)
+    private static int indexOf(long[] slots, long id) {
+        int mask = slots.length / SLOT - 1;
+        int slot = mix(id) & mask;
+        for (int probe = 0; probe <= mask; probe++) {
+            int index = slot * SLOT;
+            long key = slots[index];
+            if (key == id || key == EMPTY) {
+                return index;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void resize() {
+        long[] old = slots;
+        long[] resized = newSlots(old.length / SLOT * 2);
+        for (int index = 0; index < old.length; index += SLOT) {
+            if (old[index] != EMPTY) {
+                int target = indexOf(resized, old[index]);
+                System.arraycopy(old, index, resized, target, SLOT);
+            }
+        }
+        slots = resized;
+        resizeThreshold = (int) (resized.length / SLOT * LOAD_FACTOR);
+    }
+
+    private void allocate(int capacity) {
+        slots = newSlots(capacity);
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static long[] newSlots(int capacity) {
+        long[] slots = new long[capacity * SLOT];
+        for (int index = 0; index < slots.length; index += SLOT) {
+            slots[index] = EMPTY;
+        }
+        return slots;
+    }
+
+    private static int tableSizeFor(int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+        return Math.max(size, 2);
+    }
+
+    private static int mix(long id) {
+        long hash = id * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+}
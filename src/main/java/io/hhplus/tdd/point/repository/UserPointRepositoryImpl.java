@@ -2,21 +2,77 @@ package io.hhplus.tdd.point.repository;
 
 import io.hhplus.tdd.database.UserPointTable;
 import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.journal.JournalRecord;
+import io.hhplus.tdd.point.journal.PointJournal;
+import io.hhplus.tdd.point.metrics.PointMetrics;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * UserPointTable 을 사용하는 유저 포인트 저장소 (point.user-point.storage=table, 기본값)
+ * - UserPointTable 은 HashMap 기반이라 thread-safe 하지 않으므로, 테이블 조회는 읽기 락을, 저장은 쓰기 락을 잡고 호출합니다.
+ *   (유저별 락은 같은 유저만 직렬화하므로 서로 다른 유저의 저장이 동시에 테이블에 들어오는 것을 막지 못함)
+ */
 @Repository
 @RequiredArgsConstructor
-public class UserPointRepositoryImpl implements UserPointRepository {
+@ConditionalOnProperty(name = "point.user-point.storage", havingValue = "table", matchIfMissing = true)
+public class UserPointRepositoryImpl implements UserPointStorageRepository {
     private final UserPointTable userPointTable;
 
+    // 조회끼리는 동시에, 저장은 다른 조회/저장과 겹치지 않도록 테이블 접근을 보호
+    private final ReentrantReadWriteLock tableLock = new ReentrantReadWriteLock();
+
+    // point.journal.enabled=true 일 때만 주입되며, 테이블에 저장한 내용을 저널에도 기록
+    @Autowired(required = false)
+    private PointJournal pointJournal;
+
+    // point.snapshot.enabled=true 일 때만 주입되며, 저장에 성공한 포인트를 락 없이 조회할 수 있도록 게시
+    @Autowired(required = false)
+    private UserPointSnapshot userPointSnapshot;
+
+    // point.hedged-read.enabled=true 일 때만 주입되며, 테이블 조회가 늦어지면 한 번 더 조회하여 먼저 끝난 결과를 사용
+    @Autowired(required = false)
+    private HedgedReader hedgedReader;
+
     @Override
     public UserPoint findById(Long id) {
-        return userPointTable.selectById(id);
+        if (hedgedReader != null) {
+            return PointMetrics.USER_POINT_SELECT.record(() -> hedgedReader.read(() -> selectById(id)));
+        }
+        return PointMetrics.USER_POINT_SELECT.record(() -> selectById(id));
     }
 
     @Override
     public UserPoint saveOrUpdate(Long id, Long amount) {
-        return userPointTable.insertOrUpdate(id, amount);
+        UserPoint userPoint = PointMetrics.USER_POINT_SAVE.record(() -> insertOrUpdate(id, amount));
+        if (pointJournal != null) {
+            pointJournal.append(JournalRecord.balance(userPoint));
+        }
+        if (userPointSnapshot != null) {
+            userPointSnapshot.publish(userPoint);
+        }
+        return userPoint;
+    }
+
+    private UserPoint selectById(long id) {
+        tableLock.readLock().lock();
+        try {
+            return userPointTable.selectById(id);
+        } finally {
+            tableLock.readLock().unlock();
+        }
+    }
+
+    private UserPoint insertOrUpdate(long id, long amount) {
+        tableLock.writeLock().lock();
+        try {
+            return userPointTable.insertOrUpdate(id, amount);
+        } finally {
+            tableLock.writeLock().unlock();
+        }
     }
 }
@@ -0,0 +1,62 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.domain.UserPoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 저장이 끝난 유저 포인트를 게시하여 락 없이 조회할 수 있게 하는 조회 모델입니다.
+ * - 유저별로 불변 객체(UserPoint)를 ConcurrentHashMap 에 보관하므로, 조회는 락이나 테이블을 거치지 않고 마지막으로 게시된 값을 읽습니다.
+ * - 게시는 UserPointRepositoryImpl 이 저장에 성공한 직후에 하며, 유저별로 순서가 보장된 구간(PointServiceLock, 샤드 스레드 등) 안이므로 순서가 뒤바뀌지 않습니다.
+ * - 게시된 적 없는 유저는 테이블에서 읽은 값을 비어 있을 때만 채웁니다.
+ *   항목을 제거하지 않으므로 먼저 시작한 조회의 결과가 더 최근에 게시된 값을 덮어쓰지 않습니다.
+ * - 따라서 크기를 제한하지 않는 테이블(UserPointTable)의 전체 사본이며, 한 번이라도 조회/저장된 유저 수만큼 커집니다.
+ *   테이블과 같은 불변 객체를 참조하므로 유저당 추가 비용은 맵 항목 하나이고, 크기는 size() 로 확인합니다.
+ * - optimistic, event-sourced 실행 방식에서는 각 방식의 저장소가 조회를 메모리에서 처리하므로 등록되지 않습니다.
+ * - primitive 저장 방식(PrimitiveUserPointStore)은 유저별 객체를 만들지 않으려는 것이므로, 유저마다 객체를 보관하는 이 조회 모델은 등록되지 않습니다.
+ *   (primitive 저장소의 조회도 락 없이 메모리에서 처리됨)
+ */
+@Component
+@ConditionalOnExpression("${point.snapshot.enabled:false} and !{'optimistic', 'event-sourced'}.contains('${point.execution.mode:lock}')"
+        + " and '${point.user-point.storage:table}' != 'primitive'")
+public class UserPointSnapshot {
+    private final ConcurrentHashMap<Long, UserPoint> published = new ConcurrentHashMap<>();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    // 게시된 값이 없으면 null
+    public UserPoint find(long id) {
+        UserPoint userPoint = published.get(id);
+        if (userPoint == null) {
+            missCount.increment();
+        } else {
+            hitCount.increment();
+        }
+        return userPoint;
+    }
+
+    // 저장에 성공한 값을 게시 (같은 유저의 저장 순서대로 호출되어야 함)
+    public void publish(UserPoint userPoint) {
+        published.put(userPoint.id(), userPoint);
+    }
+
+    // 테이블에서 읽은 값은 아직 게시된 값이 없을 때만 채움
+    public void publishIfAbsent(UserPoint userPoint) {
+        published.putIfAbsent(userPoint.id(), userPoint);
+    }
+
+    public long hitCount() {
+        return hitCount.sum();
+    }
+
+    public long missCount() {
+        return missCount.sum();
+    }
+
+    public int size() {
+        return published.size();
+    }
+}
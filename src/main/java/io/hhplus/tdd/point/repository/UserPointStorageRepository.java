@@ -0,0 +1,9 @@
+package io.hhplus.tdd.point.repository;
+
+/**
+ * 유저 포인트를 실제로 보관하는 저장소
+ * - point.user-point.storage 에 따라 UserPointRepositoryImpl(table) 또는 PrimitiveUserPointRepository(primitive) 중 하나만 등록됩니다.
+ * - 캐시, 버전 등 다른 저장소를 감싸는 저장소(@Primary)와 저널 복구는 이 타입으로 주입받습니다.
+ */
+public interface UserPointStorageRepository extends UserPointRepository {
+}
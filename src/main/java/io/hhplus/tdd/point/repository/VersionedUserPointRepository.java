@@ -0,0 +1,126 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.domain.UserPoint;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 유저 포인트를 버전과 함께 보관하여 compare-and-set 저장을 지원하는 저장소입니다. (point.execution.mode=optimistic)
+ * - 유저마다 최신 포인트를 AtomicReference 에 보관하고, 조회는 테이블을 거치지 않고 여기서 반환합니다.
+ *   (처음 조회하는 유저만 테이블에서 읽어옴)
+ * - saveIfVersion 은 락 없이 CAS 한 번으로 저장 여부가 결정됩니다.
+ * - 테이블 반영은 CAS 이후에 이루어지며, 같은 유저의 테이블 쓰기는 한 번에 하나씩 최신 값으로 몰아서 처리하므로
+ *   나중에 끝난 쓰기가 더 최신 값을 덮어쓰지 않습니다.
+ * - 진행 중인 쓰기가 없을 때 CAS 에 성공한 요청 스레드는 최신 값을 한 번만 저장하고, 그 사이 쌓인 쓰기는
+ *   전용 작성 스레드(point-versioned-writer)가 이어받습니다. 한 유저에 저장이 계속 몰려도 요청이 반환되지 않는 일이 없습니다.
+ */
+@Primary
+@Repository
+@ConditionalOnProperty(name = "point.execution.mode", havingValue = "optimistic")
+public class VersionedUserPointRepository implements CasUserPointRepository {
+    private final UserPointStorageRepository userPointRepository;
+    private final ConcurrentHashMap<Long, VersionedCell> cells = new ConcurrentHashMap<>();
+
+    // 요청 스레드가 한 번 저장한 뒤에도 남은 테이블 쓰기를 이어받는 스레드 (유저마다 한 번에 하나의 작업만 대기)
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "point-versioned-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public VersionedUserPointRepository(UserPointStorageRepository userPointRepository) {
+        this.userPointRepository = userPointRepository;
+    }
+
+    @Override
+    public UserPoint findById(Long id) {
+        return cell(id).current.get();
+    }
+
+    // 버전과 관계없이 저장 (버전은 하나 올라감)
+    @Override
+    public UserPoint saveOrUpdate(Long id, Long amount) {
+        VersionedCell cell = cell(id);
+        UserPoint saved = cell.current.updateAndGet(current -> next(current, amount));
+        persist(id, cell);
+        return saved;
+    }
+
+    @Override
+    public UserPoint saveIfVersion(Long id, long expectedVersion, Long amount) {
+        VersionedCell cell = cell(id);
+        UserPoint current = cell.current.get();
+        if (current.version() != expectedVersion) {
+            return null;
+        }
+
+        UserPoint saved = next(current, amount);
+        if (!cell.current.compareAndSet(current, saved)) {
+            return null; // 그 사이 다른 요청이 먼저 저장함
+        }
+        persist(id, cell);
+        return saved;
+    }
+
+    private VersionedCell cell(long id) {
+        VersionedCell cell = cells.get(id);
+        if (cell != null) {
+            return cell;
+        }
+
+        // 테이블 조회는 맵 바깥에서 수행하고, 동시에 처음 조회한 경우 먼저 등록된 값을 사용
+        VersionedCell loaded = new VersionedCell(userPointRepository.findById(id));
+        VersionedCell existing = cells.putIfAbsent(id, loaded);
+        return existing == null ? loaded : existing;
+    }
+
+    // 테이블 쓰기를 예약하고, 진행 중인 쓰기가 없다면 현재 스레드가 최신 값을 한 번 저장
+    private void persist(long id, VersionedCell cell) {
+        if (cell.pendingWrites.getAndIncrement() != 0) {
+            return; // 이미 저장 중인 스레드가 최신 값까지 반영함
+        }
+        writeLatest(id, cell);
+    }
+
+    // 최신 값을 한 번 저장하고, 그동안 더 들어온 저장이 있다면 작성 스레드에 넘김
+    // (같은 유저에 저장이 계속 들어와도 요청 스레드는 한 번만 저장하고 반환하며, 작성 스레드도 유저마다 번갈아 저장)
+    private void writeLatest(long id, VersionedCell cell) {
+        int observed = cell.pendingWrites.get();
+        try {
+            userPointRepository.saveOrUpdate(id, cell.current.get().point());
+        } finally {
+            if (cell.pendingWrites.addAndGet(-observed) != 0) {
+                writer.execute(() -> writeLatest(id, cell));
+            }
+        }
+    }
+
+    // 작성 스레드에 넘긴 테이블 쓰기가 모두 끝날 때까지 대기
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        writer.shutdown();
+        writer.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private static UserPoint next(UserPoint current, long amount) {
+        return new UserPoint(current.id(), amount, System.currentTimeMillis(), current.version() + 1);
+    }
+
+    private static final class VersionedCell {
+        private final AtomicReference<UserPoint> current;
+        private final AtomicInteger pendingWrites = new AtomicInteger();
+
+        private VersionedCell(UserPoint userPoint) {
+            this.current = new AtomicReference<>(userPoint);
+        }
+    }
+}
@@ -0,0 +1,331 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.PointHistoryCursor;
+import io.hhplus.tdd.point.enums.TransactionType;
+import io.hhplus.tdd.point.journal.JournalRecord;
+import io.hhplus.tdd.point.journal.PointJournal;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * 포인트 히스토리를 비동기로 저장하는 write-behind 저장소입니다.
+ * - save 는 제한된 크기의 큐에 내역을 넣고 바로 반환합니다. (큐가 가득 차면 빈 자리가 생길 때까지 대기)
+ * - 전용 스레드 하나가 큐를 배치 단위로 꺼내 실제 테이블에 저장합니다.
+ *   PointHistoryTable 은 thread-safe 하지 않으므로 쓰기는 이 스레드 하나에서만 일어납니다.
+ * - 테이블은 저장 순서대로 1씩 증가하는 id 를 부여하므로, 큐에 넣는 순서대로 같은 id 를 미리 정해 둡니다.
+ *   저장 전 내역도 저장 후와 같은 id 를 가지므로, 저장 전 내역으로 만든 페이지 커서도 저장 후에 그대로 유효합니다.
+ * - 아직 저장되지 않은 내역도 findAllByUserId 결과에 합쳐서 반환하므로 자신이 쓴 내역은 바로 조회됩니다.
+ * - 저널을 사용한다면 작성 스레드가 아니라 save 를 호출한 스레드에서 저널에 기록하고 디스크 반영을 기다린 뒤 반환합니다.
+ *   (작성 스레드는 저널 없이 테이블에만 저장하므로 배치마다 반영을 기다리지 않음)
+ * - 테이블에는 여러 건을 한 번에 저장하는 방법이 없어 배치로 꺼내도 한 건씩 저장합니다. (건당 저장 시간은 그대로이며 호출한 쪽의 대기만 줄어듦)
+ *   따라서 큐 크기 × 건당 저장 시간(평균 약 150ms)이 조회와 테이블 사이의 최대 지연이자 종료 시 대기 시간이므로 큐 크기는 작게 유지합니다.
+ * - 저장에 실패한 내역은 버리지 않고 대기 목록에 남긴 채 다시 시도합니다. (종료 중에는 정해진 횟수만 시도)
+ * - 애플리케이션 종료 시 큐에 남은 내역을 모두 저장한 뒤 종료합니다.
+ */
+@Primary
+@Repository
+@ConditionalOnProperty(name = "point.history.write-behind.enabled", havingValue = "true")
+public class WriteBehindPointHistoryRepository implements PointHistoryRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(WriteBehindPointHistoryRepository.class);
+    private static final long RETRY_BACKOFF_MILLIS = 100;
+    private static final long MAX_RETRY_BACKOFF_MILLIS = 1_000;
+    private static final int SHUTDOWN_ATTEMPTS = 3;
+
+    private final PointHistoryStorageRepository pointHistoryRepository;
+    private final BlockingQueue<PendingHistory> queue;
+    private final ConcurrentHashMap<Long, Queue<PendingHistory>> pendingByUserId = new ConcurrentHashMap<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final int batchSize;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    // point.journal.enabled=true 일 때만 주입되며, 큐에 넣은 내역을 호출한 스레드에서 저널에 기록
+    @Autowired(required = false)
+    private PointJournal pointJournal;
+
+    // id 를 정하고 큐에 넣는 순서를 하나로 맞추기 위한 락 (테이블에 저장되는 순서와 같아야 함)
+    private final ReentrantLock enqueueLock = new ReentrantLock();
+    private long nextId; // enqueueLock 안에서만 사용 (0 이면 아직 정하지 않음)
+
+    public WriteBehindPointHistoryRepository(
+            PointHistoryStorageRepository pointHistoryRepository,
+            @Value("${point.history.write-behind.capacity:64}") int capacity,
+            @Value("${point.history.write-behind.batch-size:100}") int batchSize
+    ) {
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.writer = new Thread(this::drain, "point-history-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public PointHistory save(long userId, long amount, TransactionType type, long updateMillis) {
+        PointHistory pointHistory;
+        long journalSequence = 0;
+        enqueueLock.lock();
+        try {
+            pointHistory = new PointHistory(reserveId(), userId, amount, type, updateMillis);
+            PendingHistory pending = new PendingHistory(pointHistory);
+            if (!running) {
+                // 종료 중에는 작성 스레드가 끝나기를 기다린 뒤 남은 내역과 함께 순서대로 바로 저장
+                // (이 내역은 호출한 스레드에서 저장하므로 실패하면 예외가 그대로 전달되어 요청이 실패함)
+                awaitWriter();
+                drainRemaining();
+                persist(pending);
+            } else {
+                // 조회 시 누락되지 않도록 큐에 넣기 전에 대기 목록에 먼저 등록
+                addPending(pending);
+                try {
+                    queue.put(pending);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    removePending(pending);
+                    nextId--; // 큐에 넣지 못한 id 는 다음 내역이 사용
+                    throw new IllegalStateException("포인트 히스토리 저장 대기 중 인터럽트가 발생했습니다.", e);
+                }
+            }
+
+            // 테이블에 저장되는 순서(큐에 넣은 순서)대로 저널에 기록
+            if (pointJournal != null) {
+                journalSequence = pointJournal.appendWithoutWaiting(JournalRecord.history(pointHistory));
+            }
+        } finally {
+            enqueueLock.unlock();
+        }
+
+        // 디스크 반영은 락 밖에서 기다리며, 반영된 뒤에 반환하므로 호출한 쪽에 응답한 내역은 재시작해도 복구됨
+        if (pointJournal != null) {
+            pointJournal.awaitDurable(journalSequence);
+        }
+        return pointHistory;
+    }
+
+    @Override
+    public List<PointHistory> findAllByUserId(long userId) {
+        // 대기 목록을 먼저 읽고 테이블을 읽어야 그 사이 저장된 내역이 누락되지 않음
+        List<PendingHistory> pendingSnapshot = pendingSnapshot(userId);
+        return merge(pointHistoryRepository.findAllByUserId(userId), pendingSnapshot, pointHistory -> true);
+    }
+
+    @Override
+    public List<PointHistory> findAllByUserIdBetween(long userId, long fromMillis, long toMillis) {
+        List<PendingHistory> pendingSnapshot = pendingSnapshot(userId);
+        return merge(pointHistoryRepository.findAllByUserIdBetween(userId, fromMillis, toMillis), pendingSnapshot,
+                pointHistory -> pointHistory.updateMillis() >= fromMillis && pointHistory.updateMillis() < toMillis);
+    }
+
+    @Override
+    public List<PointHistory> findPageByUserId(long userId, PointHistoryCursor cursor, int limit, TransactionType type) {
+        List<PendingHistory> pendingSnapshot = pendingSnapshot(userId);
+        List<PointHistory> persisted = pointHistoryRepository.findPageByUserId(userId, cursor, limit, type);
+        if (pendingSnapshot.isEmpty()) {
+            return persisted;
+        }
+
+        // 저장된 페이지와 대기 중인 내역을 합친 뒤 다시 정렬하여 limit 건만 반환
+        return merge(persisted, pendingSnapshot,
+                pointHistory -> cursor.isBefore(pointHistory) && (type == null || pointHistory.type() == type))
+                .stream()
+                .sorted(Comparator.comparingLong(PointHistory::updateMillis).thenComparingLong(PointHistory::id))
+                .limit(limit)
+                .toList();
+    }
+
+    // 큐에 남은 내역이 모두 저장될 때까지 대기
+    public void flush() {
+        while (pendingCount.get() > 0) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    public int pendingCount() {
+        return pendingCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        enqueueLock.lock();
+        try {
+            running = false;
+        } finally {
+            enqueueLock.unlock();
+        }
+        writer.join();
+
+        // 종료 직전에 들어온 내역까지 모두 저장
+        enqueueLock.lock();
+        try {
+            drainRemaining();
+        } finally {
+            enqueueLock.unlock();
+        }
+    }
+
+    // 다음에 테이블에 저장될 내역의 id (처음 사용할 때 테이블에 이미 저장된 마지막 id 이후부터 시작)
+    private long reserveId() {
+        if (nextId == 0) {
+            nextId = pointHistoryRepository.lastInsertedId() + 1;
+        }
+        return nextId++;
+    }
+
+    private void awaitWriter() {
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("포인트 히스토리 저장 대기 중 인터럽트가 발생했습니다.", e);
+        }
+    }
+
+    private void drainRemaining() {
+        PendingHistory pending;
+        while ((pending = queue.poll()) != null) {
+            persistWithRetry(pending);
+        }
+    }
+
+    private void addPending(PendingHistory pending) {
+        pendingByUserId.compute(pending.pointHistory.userId(), (key, pendings) -> {
+            Queue<PendingHistory> target = pendings == null ? new ConcurrentLinkedQueue<>() : pendings;
+            target.add(pending);
+            return target;
+        });
+        pendingCount.incrementAndGet();
+    }
+
+    private List<PendingHistory> pendingSnapshot(long userId) {
+        Queue<PendingHistory> pendings = pendingByUserId.get(userId);
+        return pendings == null ? List.of() : new ArrayList<>(pendings);
+    }
+
+    // 테이블에 저장된 내역에 아직 저장되지 않은 내역을 중복 없이 합침
+    private List<PointHistory> merge(List<PointHistory> persisted, List<PendingHistory> pendingSnapshot,
+                                     Predicate<PointHistory> filter) {
+        if (pendingSnapshot.isEmpty()) {
+            return persisted;
+        }
+
+        Set<PointHistory> persistedSet = new HashSet<>(persisted);
+        List<PointHistory> result = new ArrayList<>(persisted);
+        for (PendingHistory pending : pendingSnapshot) {
+            PointHistory pointHistory = pending.pointHistory;
+            if (filter.test(pointHistory) && !persistedSet.contains(pointHistory)) {
+                result.add(pointHistory);
+            }
+        }
+        return result;
+    }
+
+    private void drain() {
+        List<PendingHistory> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingHistory first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                batch.forEach(this::persistWithRetry);
+            } catch (InterruptedException e) {
+                // 종료 요청으로 간주하고 남은 내역은 계속 저장
+                running = false;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // 큐에 넣은 내역을 저장하며, 실패하면 대기 목록에 남겨 둔 채 같은 내역을 다시 저장
+    // (뒤의 내역은 미리 정한 id 순서를 지키기 위해 이 내역이 저장될 때까지 기다림)
+    private void persistWithRetry(PendingHistory pending) {
+        PointHistory pointHistory = pending.pointHistory;
+        int attempt = 0;
+        while (true) {
+            try {
+                persist(pending);
+                removePending(pending);
+                return;
+            } catch (RuntimeException e) {
+                attempt++;
+                if (!running && attempt >= SHUTDOWN_ATTEMPTS) {
+                    // 종료 중에는 무한히 기다릴 수 없으므로 정해진 횟수만 시도 (저널을 사용한다면 재시작 시 복구됨)
+                    log.error("종료 중 포인트 히스토리 저장을 포기합니다 userId:{}, amount:{}, type:{}, attempt:{}",
+                            pointHistory.userId(), pointHistory.amount(), pointHistory.type(), attempt, e);
+                    removePending(pending);
+                    return;
+                }
+                log.warn("포인트 히스토리 저장 실패, 다시 시도합니다 userId:{}, amount:{}, type:{}, attempt:{}",
+                        pointHistory.userId(), pointHistory.amount(), pointHistory.type(), attempt, e);
+                backoff(attempt);
+            }
+        }
+    }
+
+    private void persist(PendingHistory pending) {
+        PointHistory pointHistory = pending.pointHistory;
+        PointHistory saved = pointHistoryRepository.insert(
+                pointHistory.userId(), pointHistory.amount(), pointHistory.type(), pointHistory.updateMillis());
+        if (saved.id() != pointHistory.id()) {
+            // 다른 경로로 테이블에 저장된 내역이 있다면 미리 정한 id 와 어긋남 (커서가 저장 후 내역을 다시 반환할 수 있음)
+            log.error("포인트 히스토리 id 가 미리 정한 값과 다릅니다. expected:{}, actual:{}", pointHistory.id(), saved.id());
+        }
+    }
+
+    private void backoff(int attempt) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(Math.min(RETRY_BACKOFF_MILLIS * attempt, MAX_RETRY_BACKOFF_MILLIS));
+        } catch (InterruptedException e) {
+            // 종료 요청으로 간주하고 남은 시도 횟수만큼만 다시 시도
+            running = false;
+        }
+    }
+
+    private void removePending(PendingHistory pending) {
+        long userId = pending.pointHistory.userId();
+        pendingByUserId.computeIfPresent(userId, (key, pendings) -> {
+            pendings.remove(pending);
+            return pendings.isEmpty() ? null : pendings;
+        });
+        pendingCount.decrementAndGet();
+    }
+
+    private static final class PendingHistory {
+        private final PointHistory pointHistory; // 테이블에 저장될 때와 같은 id 를 가짐
+
+        private PendingHistory(PointHistory pointHistory) {
+            this.pointHistory = pointHistory;
+        }
+    }
+}
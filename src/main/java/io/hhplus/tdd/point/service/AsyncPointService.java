@@ -0,0 +1,21 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.UserPoint;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * PointService 의 비동기 버전
+ * - 작업은 별도 스레드 풀에서 실행되므로 호출한 스레드(서블릿 스레드 등)는 결과를 기다리지 않고 반환됩니다.
+ */
+public interface AsyncPointService {
+    CompletableFuture<UserPoint> getUserPoint(long id);
+
+    CompletableFuture<List<PointHistory>> getUserPointHistory(long id);
+
+    CompletableFuture<UserPoint> chargeUserPoint(long id, long amount);
+
+    CompletableFuture<UserPoint> useUserPoint(long id, long amount);
+}
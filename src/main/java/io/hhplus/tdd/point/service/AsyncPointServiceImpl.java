@@ -0,0 +1,60 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.config.PointExecutors;
+import io.hhplus.tdd.point.deadline.RequestDeadline;
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.UserPoint;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * PointService 를 point.async 스레드 풀에서 실행하는 비동기 서비스
+ * - 모든 요청을 PointService 에 그대로 위임하므로 락, 동시 처리 한도, 스냅샷 등은 동기 버전과 같게 적용됩니다.
+ * - 스레드 풀 대기열이 가득 차면 작업을 등록하지 않고 RejectedExecutionException 으로 바로 거절합니다.
+ * - 호출한 스레드의 요청 기한(RequestDeadline)을 작업을 실행하는 스레드로 전달합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class AsyncPointServiceImpl implements AsyncPointService {
+    private final PointService pointService;
+    private final PointExecutors pointExecutors;
+
+    @Override
+    public CompletableFuture<UserPoint> getUserPoint(long id) {
+        return supplyAsync(() -> pointService.getUserPoint(id));
+    }
+
+    @Override
+    public CompletableFuture<List<PointHistory>> getUserPointHistory(long id) {
+        return supplyAsync(() -> pointService.getUserPointHistory(id));
+    }
+
+    @Override
+    public CompletableFuture<UserPoint> chargeUserPoint(long id, long amount) {
+        return supplyAsync(() -> pointService.chargeUserPoint(id, amount));
+    }
+
+    @Override
+    public CompletableFuture<UserPoint> useUserPoint(long id, long amount) {
+        return supplyAsync(() -> pointService.useUserPoint(id, amount));
+    }
+
+    private <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier) {
+        RequestDeadline deadline = RequestDeadline.current();
+        return CompletableFuture.supplyAsync(() -> {
+            if (deadline == null) {
+                return supplier.get();
+            }
+            RequestDeadline.set(deadline);
+            try {
+                return supplier.get();
+            } finally {
+                RequestDeadline.clear();
+            }
+        }, pointExecutors.async());
+    }
+}
@@ -0,0 +1,117 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.domain.PointCommand;
+import io.hhplus.tdd.point.domain.PointCommandResult;
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.PointHistoryCursor;
+import io.hhplus.tdd.point.domain.PointHistoryPage;
+import io.hhplus.tdd.point.domain.PointSummary;
+import io.hhplus.tdd.point.domain.PointTransfer;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.enums.TransactionType;
+import io.hhplus.tdd.point.limit.AdaptiveConcurrencyLimiter;
+import io.hhplus.tdd.point.limit.ConcurrencyLimitExceededException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * PointService 앞단에서 동시에 처리 중인 요청 수를 제한합니다.
+ * - 조회와 충전/사용은 별도의 한도를 가지므로, 쓰기가 몰려 테이블 대기가 길어져도 조회는 자신의 한도 안에서 처리됩니다.
+ * - 한도는 AdaptiveConcurrencyLimiter 가 처리 시간을 보고 조절하며, 한도를 넘는 요청은 기다리지 않고 바로 거절합니다.
+ * - 스트리밍 조회는 첫 페이지를 가져오는 구간까지만 한도에 포함됩니다. (이후 페이지는 응답을 쓰는 스레드에서 조회)
+ */
+@Primary
+@Service
+@ConditionalOnProperty(name = "point.concurrency-limit.enabled", havingValue = "true")
+public class ConcurrencyLimitedPointService implements PointService {
+
+    private final PointServiceImpl pointService;
+    private final AdaptiveConcurrencyLimiter readLimiter;
+    private final AdaptiveConcurrencyLimiter writeLimiter;
+
+    public ConcurrencyLimitedPointService(
+            PointServiceImpl pointService,
+            @Value("${point.concurrency-limit.window-size:20}") int windowSize,
+            @Value("${point.concurrency-limit.read.initial-limit:64}") int readInitialLimit,
+            @Value("${point.concurrency-limit.read.min-limit:8}") int readMinLimit,
+            @Value("${point.concurrency-limit.read.max-limit:400}") int readMaxLimit,
+            @Value("${point.concurrency-limit.write.initial-limit:32}") int writeInitialLimit,
+            @Value("${point.concurrency-limit.write.min-limit:4}") int writeMinLimit,
+            @Value("${point.concurrency-limit.write.max-limit:200}") int writeMaxLimit
+    ) {
+        this.pointService = pointService;
+        this.readLimiter = new AdaptiveConcurrencyLimiter("read", readInitialLimit, readMinLimit, readMaxLimit, windowSize);
+        this.writeLimiter = new AdaptiveConcurrencyLimiter("write", writeInitialLimit, writeMinLimit, writeMaxLimit, windowSize);
+    }
+
+    @Override
+    public UserPoint getUserPoint(long id) {
+        return limited(readLimiter, () -> pointService.getUserPoint(id));
+    }
+
+    @Override
+    public List<PointHistory> getUserPointHistory(long id) {
+        return limited(readLimiter, () -> pointService.getUserPointHistory(id));
+    }
+
+    @Override
+    public PointHistoryPage getUserPointHistoryPage(long id, PointHistoryCursor cursor, int limit, TransactionType type) {
+        return limited(readLimiter, () -> pointService.getUserPointHistoryPage(id, cursor, limit, type));
+    }
+
+    @Override
+    public Stream<PointHistory> streamUserPointHistory(long id, PointHistoryCursor cursor, TransactionType type, int chunkSize) {
+        return limited(readLimiter, () -> pointService.streamUserPointHistory(id, cursor, type, chunkSize));
+    }
+
+    @Override
+    public PointSummary getUserPointSummary(long id, int days) {
+        return limited(readLimiter, () -> pointService.getUserPointSummary(id, days));
+    }
+
+    @Override
+    public UserPoint chargeUserPoint(long id, long amount) {
+        return limited(writeLimiter, () -> pointService.chargeUserPoint(id, amount));
+    }
+
+    @Override
+    public UserPoint useUserPoint(long id, long amount) {
+        return limited(writeLimiter, () -> pointService.useUserPoint(id, amount));
+    }
+
+    @Override
+    public PointTransfer transfer(long fromId, long toId, long amount) {
+        return limited(writeLimiter, () -> pointService.transfer(fromId, toId, amount));
+    }
+
+    @Override
+    public List<PointCommandResult> executeBatch(List<PointCommand> commands) {
+        return limited(writeLimiter, () -> pointService.executeBatch(commands));
+    }
+
+    public AdaptiveConcurrencyLimiter readLimiter() {
+        return readLimiter;
+    }
+
+    public AdaptiveConcurrencyLimiter writeLimiter() {
+        return writeLimiter;
+    }
+
+    private <T> T limited(AdaptiveConcurrencyLimiter limiter, Supplier<T> call) {
+        if (!limiter.tryAcquire()) {
+            throw new ConcurrencyLimitExceededException(limiter);
+        }
+        long startNanos = System.nanoTime();
+        try {
+            return call.get();
+        } finally {
+            limiter.release(System.nanoTime() - startNanos);
+        }
+    }
+}
@@ -1,16 +1,34 @@
 package io.hhplus.tdd.point.service;
 
+import io.hhplus.tdd.point.domain.PointCommand;
+import io.hhplus.tdd.point.domain.PointCommandResult;
 import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.PointHistoryCursor;
+import io.hhplus.tdd.point.domain.PointHistoryPage;
+import io.hhplus.tdd.point.domain.PointSummary;
+import io.hhplus.tdd.point.domain.PointTransfer;
 import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.enums.TransactionType;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface PointService {
     UserPoint getUserPoint(long id);
 
     List<PointHistory> getUserPointHistory(long id);
 
+    PointHistoryPage getUserPointHistoryPage(long id, PointHistoryCursor cursor, int limit, TransactionType type);
+
+    Stream<PointHistory> streamUserPointHistory(long id, PointHistoryCursor cursor, TransactionType type, int chunkSize);
+
+    PointSummary getUserPointSummary(long id, int days);
+
     UserPoint chargeUserPoint(long id, long amount);
 
     UserPoint useUserPoint(long id, long amount);
+
+    PointTransfer transfer(long fromId, long toId, long amount);
+
+    List<PointCommandResult> executeBatch(List<PointCommand> commands);
 }
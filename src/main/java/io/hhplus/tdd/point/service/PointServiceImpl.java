@@ -1,83 +1,281 @@
 package io.hhplus.tdd.point.service;
 
+import io.hhplus.tdd.point.config.PointExecutors;
+import io.hhplus.tdd.point.deadline.RequestDeadline;
+import io.hhplus.tdd.point.deadline.RequestDeadlineExceededException;
+import io.hhplus.tdd.point.domain.PointCommand;
+import io.hhplus.tdd.point.domain.PointCommandResult;
 import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.PointHistoryCursor;
+import io.hhplus.tdd.point.domain.PointHistoryPage;
+import io.hhplus.tdd.point.domain.PointSummary;
+import io.hhplus.tdd.point.domain.PointTransfer;
 import io.hhplus.tdd.point.domain.UserPoint;
 import io.hhplus.tdd.point.enums.TransactionType;
+import io.hhplus.tdd.point.executor.PointCommandExecutor;
+import io.hhplus.tdd.point.executor.UnsupportedExecutionModeException;
 import io.hhplus.tdd.point.lock.PointServiceLock;
 import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointSummaryStore;
 import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.UserPointSnapshot;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class PointServiceImpl implements PointService {
+    private static final int MAX_BATCH_SIZE = 1000;
+
     private final UserPointRepository userPointRepository;
     private final PointHistoryRepository pointHistoryRepository;
     private final PointServiceLock pointServiceLock;
+    private final PointExecutors pointExecutors;
 
-    // readOnly
+    // point.execution.mode 가 lock(기본값)이 아닐 때만 주입됨
+    @Autowired(required = false)
+    private PointCommandExecutor pointCommandExecutor;
+
+    // 충전/사용 집계 (스프링 컨텍스트에서는 항상 주입되며, 목 객체로 생성한 단위 테스트에서는 비어있을 수 있음)
+    @Autowired(required = false)
+    private PointSummaryStore pointSummaryStore;
+
+    // point.snapshot.enabled=true 일 때만 주입되며, 저장소가 게시한 포인트를 락 없이 조회
+    @Autowired(required = false)
+    private UserPointSnapshot userPointSnapshot;
+
+    // readOnly (게시된 포인트가 있다면 테이블을 거치지 않고 락 없이 바로 반환)
     @Override
     public UserPoint getUserPoint(long id) {
-        return UserPoint.findById(id, userPointRepository);
+        if (userPointSnapshot != null) {
+            UserPoint published = userPointSnapshot.find(id);
+            if (published != null) {
+                return published;
+            }
+        }
+
+        UserPoint userPoint = UserPoint.findById(id, userPointRepository);
+        if (userPointSnapshot != null) {
+            userPointSnapshot.publishIfAbsent(userPoint);
+        }
+        return userPoint;
     }
 
     // readOnly
+    // 유저 조회와 히스토리 조회는 서로 의존하지 않으므로 히스토리 조회를 비동기 스레드 풀에서 먼저 시작하고 유저 조회는 호출한 스레드에서 실행
+    // (두 조회 시간의 합이 아니라 느린 쪽만큼 걸리며, 호출한 스레드도 비동기 스레드 풀에서 실행되므로 풀 안에서 서로를 기다리지 않도록 하나만 넘김)
     @Override
     public List<PointHistory> getUserPointHistory(long id) {
-        // 먼저 기존 회원이 존재하는지 먼저 조회
+        RequestDeadline deadline = RequestDeadline.current();
+        CompletableFuture<List<PointHistory>> histories = CompletableFuture.supplyAsync(() -> {
+            if (deadline != null) {
+                deadline.checkNotExpired(); // 대기열에서 기다리는 동안 기한이 지났다면 조회하지 않음
+            }
+            return PointHistory.findAllByUserId(id, pointHistoryRepository);
+        }, pointExecutors.async());
+
+        // 기존 회원이 존재하는지 조회 (게시된 포인트가 있다면 테이블을 거치지 않음), 없다면 조회한 히스토리는 버리고 같은 예외로 실패
+        try {
+            getUserPoint(id);
+        } catch (RuntimeException e) {
+            histories.cancel(false);
+            throw e;
+        }
+
+        try {
+            return histories.join();
+        } catch (CompletionException e) {
+            // 히스토리 조회에서 발생한 예외는 동기 버전과 같이 그대로 전달
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    // readOnly
+    @Override
+    public PointHistoryPage getUserPointHistoryPage(long id, PointHistoryCursor cursor, int limit, TransactionType type) {
+        UserPoint userPoint = UserPoint.findById(id, userPointRepository);
+        return PointHistory.findPageByUserId(userPoint.id(), cursor, limit, type, pointHistoryRepository);
+    }
+
+    // readOnly
+    @Override
+    public Stream<PointHistory> streamUserPointHistory(long id, PointHistoryCursor cursor, TransactionType type, int chunkSize) {
         UserPoint userPoint = UserPoint.findById(id, userPointRepository);
 
-        // 조회가 확인되었다면 해당 회원의 정보로 포인트 히스토리 정보 조회
-        return PointHistory.findAllByUserId(userPoint.id(), pointHistoryRepository);
+        // 전체 내역을 한 번에 올리지 않고 chunkSize 만큼씩 다음 페이지를 조회
+        PointHistoryPage first = PointHistory.findPageByUserId(userPoint.id(), cursor, chunkSize, type, pointHistoryRepository);
+        return Stream.iterate(first, page -> page != null, page -> page.hasNext()
+                        ? PointHistory.findPageByUserId(userPoint.id(), page.nextCursor(), chunkSize, type, pointHistoryRepository)
+                        : null)
+                .flatMap(page -> page.histories().stream());
     }
 
+    // readOnly
     @Override
-    public UserPoint chargeUserPoint(long id, long amount) {
-        pointServiceLock.lock();
-        try {
-            // 유저 포인트 조회를 UserPoint 객체로 위임
-            UserPoint userPoint = UserPoint.findById(id, userPointRepository);
+    public PointSummary getUserPointSummary(long id, int days) {
+        return pointSummaryStore.find(id, days);
+    }
 
-            // 포인트 충전 로직을 UserPoint 객체로 위임
-            UserPoint updatedUserPoint = userPoint.addPoints(amount);
+    @Override
+    public UserPoint chargeUserPoint(long id, long amount) {
+        return execute(PointCommand.charge(id, amount));
+    }
 
-            // 포인트 히스토리 저장
-            PointHistory pointHistory = PointHistory.create(id, amount, TransactionType.CHARGE);
-            pointHistory.save(pointHistoryRepository);
+    @Override
+    public UserPoint useUserPoint(long id, long amount) {
+        return execute(PointCommand.use(id, amount));
+    }
 
-            // 업데이트된 포인트 저장
-            userPointRepository.saveOrUpdate(id, updatedUserPoint.point());
+    // 한 유저의 포인트를 다른 유저에게 전송 (두 유저의 락을 ID 순서대로 잡으므로 관계없는 전송끼리는 병렬로 실행)
+    @Override
+    public PointTransfer transfer(long fromId, long toId, long amount) {
+        PointTransfer.validate(fromId, toId);
+        if (pointCommandExecutor != null && !pointCommandExecutor.serializesOnUserLock()) {
+            // 유저 락을 거치지 않는 실행 방식(샤드, CAS, 이벤트)은 유저 단위로만 순서를 보장하므로 두 유저를 함께 묶을 수 없음
+            throw new UnsupportedExecutionModeException("포인트 전송은 lock, coalescing 실행 방식에서만 지원합니다.");
+        }
 
-            return updatedUserPoint;
+        RequestDeadline deadline = RequestDeadline.current();
+        if (deadline != null) {
+            deadline.checkNotExpired();
+        }
+        pointServiceLock.lock(fromId, toId, deadline);
+        beginSummaryWrite(fromId);
+        beginSummaryWrite(toId);
+        try {
+            PointTransfer transfer = PointTransfer.execute(fromId, toId, amount, userPointRepository, pointHistoryRepository);
+            recordSummary(PointCommandResult.success(PointCommand.use(fromId, amount), transfer.from()));
+            recordSummary(PointCommandResult.success(PointCommand.charge(toId, amount), transfer.to()));
+            return transfer;
         } finally {
-            pointServiceLock.unLock();
+            endSummaryWrite(toId);
+            endSummaryWrite(fromId);
+            pointServiceLock.unLock(fromId, toId);
         }
     }
 
+    // 여러 유저의 충전/사용 요청을 한 번에 처리 (유저별로는 순서대로, 서로 다른 유저는 병렬로 실행)
     @Override
-    public UserPoint useUserPoint(long id, long amount) {
-        pointServiceLock.lock();
-        try {
-            // 유저 포인트 조회를 UserPoint 객체로 위임
-            UserPoint userPoint = UserPoint.findById(id, userPointRepository);
+    public List<PointCommandResult> executeBatch(List<PointCommand> commands) {
+        if (commands.isEmpty() || commands.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("일괄 처리 요청은 1건 이상 " + MAX_BATCH_SIZE + "건 이하여야 합니다.");
+        }
 
-            // 포인트 사용 로직을 UserPoint 객체로 위임
-            UserPoint updatedUserPoint = userPoint.subtractPoints(amount);
+        // 요청 순서를 유지한 채 유저별로 묶음
+        Map<Long, List<Integer>> indexesByUserId = new LinkedHashMap<>();
+        for (int i = 0; i < commands.size(); i++) {
+            indexesByUserId.computeIfAbsent(commands.get(i).userId(), key -> new ArrayList<>()).add(i);
+        }
 
-            // 포인트 히스토리 저장
-            PointHistory pointHistory = PointHistory.create(id, amount, TransactionType.USE);
-            pointHistory.save(pointHistoryRepository);
+        // 유저별 처리는 다른 스레드에서 실행되므로 요청 기한을 꺼내서 전달
+        RequestDeadline deadline = RequestDeadline.current();
+        PointCommandResult[] results = new PointCommandResult[commands.size()];
+        CompletableFuture<?>[] futures = indexesByUserId.entrySet().stream()
+                .map(entry -> CompletableFuture.runAsync(() -> {
+                    List<Integer> indexes = entry.getValue();
+                    List<PointCommand> userCommands = indexes.stream().map(commands::get).toList();
+                    List<PointCommandResult> userResults = executeAll(entry.getKey(), userCommands, deadline);
+                    for (int i = 0; i < indexes.size(); i++) {
+                        results[indexes.get(i)] = userResults.get(i);
+                    }
+                }, pointExecutors.batch()))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(futures).join();
 
-            // 업데이트된 포인트 저장
-            userPointRepository.saveOrUpdate(id, updatedUserPoint.point());
+        return Arrays.asList(results);
+    }
 
-            return updatedUserPoint;
+    private List<PointCommandResult> executeAll(long userId, List<PointCommand> commands, RequestDeadline deadline) {
+        // 차례가 왔을 때 이미 기한이 지났거나 기한 안에 락을 얻지 못하면 시작하지 않고 모두 실패 처리
+        try {
+            if (deadline != null) {
+                deadline.checkNotExpired();
+            }
+            if (pointCommandExecutor == null) {
+                pointServiceLock.lock(userId, deadline);
+            }
+        } catch (RequestDeadlineExceededException e) {
+            return PointCommandResult.failAll(commands, e);
+        }
+        // 성공한 명령은 락을 놓기 전에 집계에 반영
+        beginSummaryWrite(userId);
+        try {
+            List<PointCommandResult> results;
+            if (pointCommandExecutor != null) {
+                results = pointCommandExecutor.executeAll(userId, commands, deadline);
+            } else {
+                try {
+                    results = PointCommand.executeAll(userId, commands, userPointRepository, pointHistoryRepository);
+                } catch (RuntimeException e) {
+                    return PointCommandResult.failAll(commands, e);
+                }
+            }
+            results.stream().filter(PointCommandResult::success).forEach(this::recordSummary);
+            return results;
         } finally {
-            pointServiceLock.unLock();
+            endSummaryWrite(userId);
+            if (pointCommandExecutor == null) {
+                pointServiceLock.unLock(userId);
+            }
+        }
+    }
+
+    private UserPoint execute(PointCommand command) {
+        RequestDeadline deadline = RequestDeadline.current();
+        if (deadline != null) {
+            deadline.checkNotExpired(); // 이미 기한이 지난 요청은 시작하지 않음
+        }
+
+        // 기한이 있다면 남은 시간까지만 락을 기다림 (별도 실행 방식이 설정되어 있다면 해당 실행기가 순서를 보장)
+        if (pointCommandExecutor == null) {
+            pointServiceLock.lock(command.userId(), deadline);
+        }
+        beginSummaryWrite(command.userId());
+        try {
+            UserPoint userPoint = pointCommandExecutor != null
+                    ? pointCommandExecutor.execute(command, deadline)
+                    : command.execute(userPointRepository, pointHistoryRepository);
+            recordSummary(PointCommandResult.success(command, userPoint));
+            return userPoint;
+        } finally {
+            endSummaryWrite(command.userId());
+            if (pointCommandExecutor == null) {
+                pointServiceLock.unLock(command.userId());
+            }
+        }
+    }
+
+    // 집계를 히스토리로 다시 만드는 동안 이 유저의 히스토리가 저장되고 있음을 표시
+    private void beginSummaryWrite(long userId) {
+        if (pointSummaryStore != null) {
+            pointSummaryStore.beginWrite(userId);
+        }
+    }
+
+    private void endSummaryWrite(long userId) {
+        if (pointSummaryStore != null) {
+            pointSummaryStore.endWrite(userId);
         }
     }
-}
 
+    // 성공한 충전/사용을 집계에 반영
+    private void recordSummary(PointCommandResult result) {
+        if (pointSummaryStore != null) {
+            PointCommand command = result.command();
+            pointSummaryStore.record(command.userId(), command.type(), command.amount(), result.userPoint().updateMillis());
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package io.hhplus.intergration;
+
+import io.hhplus.tdd.TddApplication;
+import io.hhplus.tdd.point.deadline.RequestDeadline;
+import io.hhplus.tdd.point.deadline.RequestDeadlineExceededException;
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.executor.CoalescingPointCommandExecutor;
+import io.hhplus.tdd.point.lock.PointServiceLock;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.service.PointService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(classes = TddApplication.class, properties = "point.execution.mode=coalescing") // group commit 실행 방식으로 컨텍스트 로드
+public class CoalescingPointCommandExecutorIntegrationTest {
+
+    @Autowired
+    private PointService pointService; // 실제 서비스 사용
+
+    @Autowired
+    private UserPointRepository userPointRepository; // 실제 리포지토리 사용
+
+    @Autowired
+    private PointHistoryRepository pointHistoryRepository; // 실제 리포지토리 사용
+
+    @Autowired
+    private CoalescingPointCommandExecutor coalescingPointCommandExecutor;
+
+    @Autowired
+    private PointServiceLock pointServiceLock;
+
+    // 같은 유저에 대한 동시 충전이 묶여서 처리되는지 테스트
+    @Test
+    void 동시_충전은_묶여서_한번에_저장되고_각자_결과를_받는다() throws InterruptedException {
+        // given
+        long userId = 7_001L;
+        long chargeAmount = 100L;
+        int threadCount = 20; // 20개의 스레드를 통해 포인트 충전
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        Set<Long> results = ConcurrentHashMap.newKeySet(); // 각 요청이 받은 처리 후 포인트
+        long batchCountBefore = coalescingPointCommandExecutor.batchCount();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    results.add(pointService.chargeUserPoint(userId, chargeAmount).point());
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+
+        // then: 최종 포인트와 히스토리는 요청 수만큼 반영
+        UserPoint resultUserPoint = userPointRepository.findById(userId);
+        assertEquals(chargeAmount * threadCount, resultUserPoint.point());
+        List<PointHistory> pointHistoryList = pointHistoryRepository.findAllByUserId(userId);
+        assertEquals(threadCount, pointHistoryList.size());
+
+        // 각 요청은 서로 다른 처리 후 포인트(100, 200, ... 2000)를 받아야 함
+        assertEquals(threadCount, results.size());
+
+        // 포인트 저장 횟수는 요청 수보다 적어야 함
+        long batches = coalescingPointCommandExecutor.batchCount() - batchCountBefore;
+        assertTrue(batches < threadCount, "저장 횟수: " + batches);
+
+        executorService.shutdown();
+    }
+
+    // 묶여서 처리되더라도 잔액 부족 요청만 개별적으로 실패하는지 테스트
+    @Test
+    void 잔액이_부족한_사용_요청만_실패한다() throws InterruptedException {
+        // given
+        long userId = 7_002L;
+        long initialAmount = 1000L;
+        long useAmount = 100L;
+        int threadCount = 11; // 포인트 총액 이상을 사용하려는 11개의 스레드
+
+        userPointRepository.saveOrUpdate(userId, initialAmount);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        List<Exception> exceptions = new CopyOnWriteArrayList<>();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    pointService.useUserPoint(userId, useAmount);
+                } catch (Exception e) {
+                    exceptions.add(e);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+
+        // then
+        assertEquals(0, userPointRepository.findById(userId).point());
+        assertEquals(1, exceptions.size());
+        assertInstanceOf(IllegalArgumentException.class, exceptions.get(0));
+        assertEquals("잔여 포인트가 부족합니다.", exceptions.get(0).getMessage());
+
+        executorService.shutdown();
+    }
+
+    // 앞선 요청이 유저 락을 오래 잡고 있으면 기한까지만 기다리고, 대기 목록에서 빠져 나중에도 실행되지 않음
+    @Test
+    void 기한_안에_락을_얻지_못한_충전은_포기하고_나중에도_실행되지_않는다() throws Exception {
+        // given
+        long userId = 7_003L;
+        userPointRepository.saveOrUpdate(userId, 1000L);
+        pointServiceLock.lock(userId); // 앞선 요청이 락을 잡고 있는 상황
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+        // when
+        Future<?> future = executorService.submit(() -> {
+            RequestDeadline.set(RequestDeadline.after(100));
+            try {
+                pointService.chargeUserPoint(userId, 500L);
+            } finally {
+                RequestDeadline.clear();
+            }
+        });
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        pointServiceLock.unLock(userId);
+        pointService.chargeUserPoint(userId, 100L); // 다음 요청이 대기 목록을 꺼내도 포기한 충전은 없어야 함
+        executorService.shutdown();
+
+        // then
+        assertInstanceOf(RequestDeadlineExceededException.class, exception.getCause());
+        assertEquals(1100L, userPointRepository.findById(userId).point());
+        assertEquals(1, pointHistoryRepository.findAllByUserId(userId).size());
+    }
+
+    // 전송은 묶여서 처리되는 충전과 같은 유저 락으로 직렬화되므로 동시에 실행해도 포인트가 어긋나지 않음
+    @Test
+    void 동시에_충전하는_동안_전송해도_포인트가_보존된다() throws InterruptedException {
+        // given
+        long fromUserId = 7_004L;
+        long toUserId = 7_005L;
+        long initialAmount = 10_000L;
+        long chargeAmount = 100L;
+        long transferAmount = 50L;
+        int taskCount = 20; // 충전 10건, 전송 10건
+        userPointRepository.saveOrUpdate(fromUserId, initialAmount);
+        userPointRepository.saveOrUpdate(toUserId, initialAmount);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(taskCount);
+        CountDownLatch latch = new CountDownLatch(taskCount);
+        List<Exception> exceptions = new CopyOnWriteArrayList<>();
+
+        // when
+        for (int i = 0; i < taskCount; i++) {
+            boolean transfer = i % 2 == 0;
+            long chargeUserId = i % 4 == 1 ? fromUserId : toUserId;
+            executorService.submit(() -> {
+                try {
+                    if (transfer) {
+                        pointService.transfer(fromUserId, toUserId, transferAmount);
+                    } else {
+                        pointService.chargeUserPoint(chargeUserId, chargeAmount);
+                    }
+                } catch (Exception e) {
+                    exceptions.add(e);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // then: 충전 5건씩, 전송 10건이 모두 반영되어야 함
+        assertTrue(exceptions.isEmpty(), "실패한 요청: " + exceptions);
+        assertEquals(initialAmount + chargeAmount * 5 - transferAmount * 10, userPointRepository.findById(fromUserId).point());
+        assertEquals(initialAmount + chargeAmount * 5 + transferAmount * 10, userPointRepository.findById(toUserId).point());
+        assertEquals(15, pointHistoryRepository.findAllByUserId(fromUserId).size());
+        assertEquals(15, pointHistoryRepository.findAllByUserId(toUserId).size());
+    }
+}
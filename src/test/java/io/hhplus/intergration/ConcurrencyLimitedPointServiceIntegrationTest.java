@@ -0,0 +1,98 @@
+package io.hhplus.intergration;
+
+import io.hhplus.tdd.TddApplication;
+import io.hhplus.tdd.point.limit.ConcurrencyLimitExceededException;
+import io.hhplus.tdd.point.service.ConcurrencyLimitedPointService;
+import io.hhplus.tdd.point.service.PointService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(classes = TddApplication.class, properties = {
+        "point.concurrency-limit.enabled=true",
+        // 쓰기는 한 건씩만 처리하도록 한도를 고정
+        "point.concurrency-limit.write.initial-limit=1",
+        "point.concurrency-limit.write.min-limit=1",
+        "point.concurrency-limit.write.max-limit=1"
+})
+public class ConcurrencyLimitedPointServiceIntegrationTest {
+
+    @Autowired
+    private PointService pointService; // 한도가 적용된 서비스
+
+    @Test
+    void 동시_처리_한도가_적용된_서비스가_등록된다() {
+        assertInstanceOf(ConcurrencyLimitedPointService.class, pointService);
+    }
+
+    // 한도를 넘은 충전은 바로 거절되고, 성공한 충전만 잔액에 반영됨
+    @Test
+    void 쓰기_한도를_넘는_충전은_거절된다() throws InterruptedException {
+        // given
+        long userId = 14_001L;
+        long chargeAmount = 100L;
+        int threadCount = 10;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch ready = new CountDownLatch(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+        AtomicInteger succeeded = new AtomicInteger();
+        List<Exception> rejected = new CopyOnWriteArrayList<>();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    ready.countDown();
+                    start.await();
+                    pointService.chargeUserPoint(userId, chargeAmount);
+                    succeeded.incrementAndGet();
+                } catch (Exception e) {
+                    rejected.add(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.await();
+        start.countDown();
+        done.await();
+        executorService.shutdown();
+
+        // then
+        assertTrue(succeeded.get() >= 1);
+        assertFalse(rejected.isEmpty());
+        assertTrue(rejected.stream().allMatch(e -> e instanceof ConcurrencyLimitExceededException));
+        assertEquals(succeeded.get() * chargeAmount, pointService.getUserPoint(userId).point());
+    }
+
+    // 쓰기 한도가 모두 사용 중이어도 조회는 별도 한도로 처리됨
+    @Test
+    void 쓰기가_한도에_도달해도_조회는_처리된다() throws Exception {
+        // given
+        long userId = 14_002L;
+        ConcurrencyLimitedPointService limitedPointService = (ConcurrencyLimitedPointService) pointService;
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        var charging = executorService.submit(() -> pointService.chargeUserPoint(userId, 100L));
+        while (limitedPointService.writeLimiter().inFlight() == 0 && !charging.isDone()) {
+            Thread.onSpinWait();
+        }
+
+        // when
+        long point = pointService.getUserPoint(userId).point();
+
+        // then
+        assertTrue(point == 0L || point == 100L);
+        charging.get();
+        executorService.shutdown();
+    }
+}
@@ -0,0 +1,91 @@
+package io.hhplus.intergration;
+
+import io.hhplus.tdd.TddApplication;
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.enums.TransactionType;
+import io.hhplus.tdd.point.executor.EventSourcedPointCommandExecutor;
+import io.hhplus.tdd.point.executor.PointCommandExecutor;
+import io.hhplus.tdd.point.repository.EventSourcedUserPointRepository;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.service.PointService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(classes = TddApplication.class, properties = {
+        "point.execution.mode=event-sourced", // event sourcing 실행 방식으로 컨텍스트 로드
+        "point.event-sourcing.snapshot-interval=4"
+})
+public class EventSourcedPointCommandExecutorIntegrationTest {
+
+    @Autowired
+    private PointService pointService; // 실제 서비스 사용
+
+    @Autowired
+    private UserPointRepository userPointRepository; // 실제 리포지토리 사용
+
+    @Autowired
+    private PointHistoryRepository pointHistoryRepository;
+
+    @Autowired
+    private PointCommandExecutor pointCommandExecutor;
+
+    @Test
+    void 이벤트_소싱_실행기와_저장소가_등록된다() {
+        assertInstanceOf(EventSourcedPointCommandExecutor.class, pointCommandExecutor);
+        assertInstanceOf(EventSourcedUserPointRepository.class, userPointRepository);
+    }
+
+    // 같은 유저에 대한 동시 충전/사용 후 잔액이 히스토리 합계와 일치하는지 테스트
+    @Test
+    void 동시_충전_및_사용_후_잔액은_히스토리_합계와_같다() throws InterruptedException {
+        // given
+        long userId = 11_001L;
+        int threadCount = 11;
+        pointService.chargeUserPoint(userId, 1000L);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        List<Exception> exceptions = new CopyOnWriteArrayList<>();
+
+        // when: 포인트 총액 이상을 사용하려는 11개의 스레드
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    pointService.useUserPoint(userId, 100L);
+                } catch (Exception e) {
+                    exceptions.add(e);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+
+        // then: 10번만 성공하고 1번은 잔액 부족으로 실패
+        UserPoint resultUserPoint = pointService.getUserPoint(userId);
+        assertEquals(0, resultUserPoint.point());
+        assertEquals(1, exceptions.size());
+        assertEquals("잔여 포인트가 부족합니다.", exceptions.get(0).getMessage());
+
+        List<PointHistory> histories = pointHistoryRepository.findAllByUserId(userId);
+        long sum = histories.stream()
+                .mapToLong(history -> history.type() == TransactionType.CHARGE ? history.amount() : -history.amount())
+                .sum();
+        assertEquals(11, histories.size());
+        assertEquals(resultUserPoint.point(), sum);
+        assertEquals(11L, resultUserPoint.version());
+
+        executorService.shutdown();
+    }
+}
@@ -0,0 +1,88 @@
+package io.hhplus.intergration;
+
+import io.hhplus.tdd.TddApplication;
+import io.hhplus.tdd.point.domain.PointCommand;
+import io.hhplus.tdd.point.domain.PointCommandResult;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.service.PointService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(classes = TddApplication.class) // Spring 컨텍스트를 로드하여 통합 테스트 수행
+public class ExecuteBatchIntegrationTest {
+
+    @Autowired
+    private PointService pointService; // 실제 서비스 사용
+
+    @Autowired
+    private UserPointRepository userPointRepository; // 실제 리포지토리 사용
+
+    @Autowired
+    private PointHistoryRepository pointHistoryRepository; // 실제 리포지토리 사용
+
+    @Test
+    void 여러_유저의_충전과_사용을_한번에_처리한다() {
+        // given
+        long firstUserId = 8_001L;
+        long secondUserId = 8_002L;
+        userPointRepository.saveOrUpdate(secondUserId, 100L);
+
+        List<PointCommand> commands = List.of(
+                PointCommand.charge(firstUserId, 500L),
+                PointCommand.use(secondUserId, 50L),
+                PointCommand.use(firstUserId, 200L),
+                PointCommand.use(secondUserId, 100L), // 잔액 부족
+                PointCommand.charge(secondUserId, 10L)
+        );
+
+        // when
+        List<PointCommandResult> results = pointService.executeBatch(commands);
+
+        // then: 요청 순서대로 결과가 반환됨
+        assertEquals(commands.size(), results.size());
+        assertEquals(500L, results.get(0).userPoint().point());
+        assertEquals(50L, results.get(1).userPoint().point());
+        assertEquals(300L, results.get(2).userPoint().point());
+        assertFalse(results.get(3).success());
+        assertEquals("잔여 포인트가 부족합니다.", results.get(3).error().getMessage());
+        assertEquals(60L, results.get(4).userPoint().point());
+
+        // 최종 포인트와 성공한 요청의 히스토리 확인
+        assertEquals(300L, userPointRepository.findById(firstUserId).point());
+        assertEquals(60L, userPointRepository.findById(secondUserId).point());
+        assertEquals(2, pointHistoryRepository.findAllByUserId(firstUserId).size());
+        assertEquals(2, pointHistoryRepository.findAllByUserId(secondUserId).size());
+    }
+
+    @Test
+    void 서로_다른_유저는_병렬로_처리된다() {
+        // given: 20명의 유저에게 각각 충전
+        int userCount = 20;
+        List<PointCommand> commands = new ArrayList<>();
+        for (int i = 0; i < userCount; i++) {
+            commands.add(PointCommand.charge(8_100L + i, 100L));
+        }
+
+        // when
+        long start = System.currentTimeMillis();
+        List<PointCommandResult> results = pointService.executeBatch(commands);
+        long elapsed = System.currentTimeMillis() - start;
+
+        // then: 순차 처리라면 평균 0.4초 * 20건이 걸리지만 병렬로 처리되어 훨씬 빨라야 함
+        assertTrue(results.stream().allMatch(PointCommandResult::success));
+        assertTrue(elapsed < 4_000L, "소요 시간: " + elapsed + "ms");
+    }
+
+    @Test
+    void 요청이_없으면_예외가_발생한다() {
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> pointService.executeBatch(List.of()));
+        assertEquals("일괄 처리 요청은 1건 이상 1000건 이하여야 합니다.", exception.getMessage());
+    }
+}
@@ -0,0 +1,80 @@
+package io.hhplus.intergration;
+
+import io.hhplus.tdd.TddApplication;
+import io.hhplus.tdd.point.domain.PointCommand;
+import io.hhplus.tdd.point.domain.PointSummary;
+import io.hhplus.tdd.point.service.PointService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(classes = TddApplication.class) // Spring 컨텍스트를 로드하여 통합 테스트 수행
+public class GetUserPointSummaryIntegrationTest {
+
+    @Autowired
+    private PointService pointService; // 실제 서비스 사용
+
+    @Test
+    void 충전과_사용_후_집계가_갱신된다() {
+        // given
+        long userId = 12_001L;
+        pointService.chargeUserPoint(userId, 1000L);
+        pointService.chargeUserPoint(userId, 500L);
+        pointService.useUserPoint(userId, 300L);
+
+        // when
+        PointSummary result = pointService.getUserPointSummary(userId, 7);
+
+        // then
+        assertEquals(1500L, result.totalCharged());
+        assertEquals(300L, result.totalUsed());
+        assertEquals(2L, result.chargeCount());
+        assertEquals(1L, result.useCount());
+        assertEquals(7, result.daily().size());
+        PointSummary.Daily today = result.daily().get(6);
+        assertEquals(LocalDate.now(), today.date());
+        assertEquals(1500L, today.charged());
+        assertEquals(300L, today.used());
+    }
+
+    @Test
+    void 실패한_요청은_집계에_반영되지_않는다() {
+        // given
+        long userId = 12_002L;
+        pointService.chargeUserPoint(userId, 100L);
+
+        // when
+        assertThrows(IllegalArgumentException.class, () -> pointService.useUserPoint(userId, 1000L));
+        PointSummary result = pointService.getUserPointSummary(userId, 1);
+
+        // then
+        assertEquals(100L, result.totalCharged());
+        assertEquals(0L, result.totalUsed());
+        assertEquals(0L, result.useCount());
+    }
+
+    @Test
+    void 일괄_처리에서_성공한_명령만_집계에_반영된다() {
+        // given
+        long userId = 12_003L;
+        List<PointCommand> commands = List.of(
+                PointCommand.charge(userId, 1000L),
+                PointCommand.use(userId, 5000L), // 잔액 부족으로 실패
+                PointCommand.use(userId, 400L)
+        );
+
+        // when
+        pointService.executeBatch(commands);
+        PointSummary result = pointService.getUserPointSummary(userId, 1);
+
+        // then
+        assertEquals(1000L, result.totalCharged());
+        assertEquals(400L, result.totalUsed());
+        assertEquals(1L, result.useCount());
+    }
+}
@@ -0,0 +1,105 @@
+package io.hhplus.intergration;
+
+import io.hhplus.tdd.TddApplication;
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.executor.OptimisticPointCommandExecutor;
+import io.hhplus.tdd.point.executor.PointCommandExecutor;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.VersionedUserPointRepository;
+import io.hhplus.tdd.point.repository.WriteBehindPointHistoryRepository;
+import io.hhplus.tdd.point.service.PointService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(classes = TddApplication.class, properties = "point.execution.mode=optimistic") // 낙관적 실행 방식으로 컨텍스트 로드
+public class OptimisticPointCommandExecutorIntegrationTest {
+
+    @Autowired
+    private PointService pointService; // 실제 서비스 사용
+
+    @Autowired
+    private UserPointRepository userPointRepository; // 실제 리포지토리 사용
+
+    @Autowired
+    private PointHistoryRepository pointHistoryRepository;
+
+    @Autowired
+    private PointCommandExecutor pointCommandExecutor;
+
+    @Test
+    void 낙관적_실행기와_버전_저장소가_등록된다() {
+        assertInstanceOf(OptimisticPointCommandExecutor.class, pointCommandExecutor);
+        assertInstanceOf(VersionedUserPointRepository.class, userPointRepository);
+    }
+
+    // 같은 유저에 대한 동시 사용이 충돌 후 재시도로 모두 정확히 반영되는지 테스트
+    @Test
+    void 같은_유저의_동시_사용은_재시도를_거쳐_정확히_반영된다() throws InterruptedException {
+        // given
+        long userId = 10_001L;
+        long initialAmount = 1000L;
+        long useAmount = 100L;
+        int threadCount = 11; // 포인트 총액 이상을 사용하려는 11개의 스레드
+
+        // 미리 유저 포인트를 저장
+        userPointRepository.saveOrUpdate(userId, initialAmount);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        List<Exception> exceptions = new CopyOnWriteArrayList<>();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    pointService.useUserPoint(userId, useAmount);
+                } catch (Exception e) {
+                    exceptions.add(e);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+
+        // then: 10번만 성공하고 1번은 잔액 부족으로 실패
+        UserPoint resultUserPoint = userPointRepository.findById(userId);
+        assertEquals(0, resultUserPoint.point());
+        assertEquals(1, exceptions.size());
+        assertEquals("잔여 포인트가 부족합니다.", exceptions.get(0).getMessage());
+
+        // 성공한 요청의 히스토리만 남음
+        if (pointHistoryRepository instanceof WriteBehindPointHistoryRepository writeBehind) {
+            writeBehind.flush();
+        }
+        List<PointHistory> histories = pointHistoryRepository.findAllByUserId(userId);
+        assertEquals(10, histories.size());
+
+        executorService.shutdown();
+    }
+
+    @Test
+    void 충전하면_버전이_올라간_포인트를_반환한다() {
+        // given
+        long userId = 10_002L;
+        UserPoint before = userPointRepository.saveOrUpdate(userId, 100L);
+
+        // when
+        UserPoint result = pointService.chargeUserPoint(userId, 50L);
+
+        // then
+        assertEquals(150L, result.point());
+        assertEquals(before.version() + 1, result.version());
+    }
+}
@@ -0,0 +1,143 @@
+package io.hhplus.intergration;
+
+import io.hhplus.tdd.TddApplication;
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.PointSummary;
+import io.hhplus.tdd.point.domain.PointTransfer;
+import io.hhplus.tdd.point.enums.TransactionType;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.service.PointService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(classes = TddApplication.class) // Spring 컨텍스트를 로드하여 통합 테스트 수행
+public class PointTransferIntegrationTest {
+
+    @Autowired
+    private PointService pointService; // 실제 서비스 사용
+
+    @Autowired
+    private UserPointRepository userPointRepository; // 실제 리포지토리 사용
+
+    @Test
+    void 전송하면_양쪽_포인트와_히스토리_집계가_함께_반영된다() {
+        // given
+        long fromUserId = 16_001L;
+        long toUserId = 16_002L;
+        userPointRepository.saveOrUpdate(fromUserId, 1000L);
+        userPointRepository.saveOrUpdate(toUserId, 200L);
+
+        // when
+        PointTransfer result = pointService.transfer(fromUserId, toUserId, 300L);
+
+        // then
+        assertEquals(700L, result.from().point());
+        assertEquals(500L, result.to().point());
+        assertEquals(700L, pointService.getUserPoint(fromUserId).point());
+        assertEquals(500L, pointService.getUserPoint(toUserId).point());
+
+        List<PointHistory> fromHistories = pointService.getUserPointHistory(fromUserId);
+        List<PointHistory> toHistories = pointService.getUserPointHistory(toUserId);
+        assertEquals(1, fromHistories.size());
+        assertEquals(TransactionType.USE, fromHistories.get(0).type());
+        assertEquals(300L, fromHistories.get(0).amount());
+        assertEquals(1, toHistories.size());
+        assertEquals(TransactionType.CHARGE, toHistories.get(0).type());
+        assertEquals(300L, toHistories.get(0).amount());
+
+        PointSummary fromSummary = pointService.getUserPointSummary(fromUserId, 1);
+        PointSummary toSummary = pointService.getUserPointSummary(toUserId, 1);
+        assertEquals(300L, fromSummary.totalUsed());
+        assertEquals(300L, toSummary.totalCharged());
+    }
+
+    @Test
+    void 잔액이_부족하면_어느_쪽도_변경되지_않는다() {
+        // given
+        long fromUserId = 16_003L;
+        long toUserId = 16_004L;
+        userPointRepository.saveOrUpdate(fromUserId, 100L);
+        userPointRepository.saveOrUpdate(toUserId, 100L);
+
+        // when
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> pointService.transfer(fromUserId, toUserId, 500L));
+
+        // then
+        assertEquals("잔여 포인트가 부족합니다.", exception.getMessage());
+        assertEquals(100L, pointService.getUserPoint(fromUserId).point());
+        assertEquals(100L, pointService.getUserPoint(toUserId).point());
+        assertTrue(pointService.getUserPointHistory(fromUserId).isEmpty());
+        assertTrue(pointService.getUserPointHistory(toUserId).isEmpty());
+    }
+
+    @Test
+    void 자기_자신에게는_전송할_수_없다() {
+        // given
+        long userId = 16_005L;
+        userPointRepository.saveOrUpdate(userId, 100L);
+
+        // when
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> pointService.transfer(userId, userId, 10L));
+
+        // then
+        assertEquals("자기 자신에게는 포인트를 전송할 수 없습니다.", exception.getMessage());
+        assertEquals(100L, pointService.getUserPoint(userId).point());
+    }
+
+    // 적은 수의 유저 사이에서 무작위 방향으로 동시에 전송해도 교착 상태 없이 끝나고 전체 포인트 합이 보존되는지 확인
+    @Test
+    void 무작위_동시_전송에도_전체_포인트가_보존된다() throws InterruptedException {
+        // given
+        long[] userIds = LongStream.rangeClosed(16_101L, 16_108L).toArray();
+        long initialAmount = 10_000L;
+        for (long userId : userIds) {
+            userPointRepository.saveOrUpdate(userId, initialAmount);
+        }
+        int transferCount = 100;
+        ExecutorService executorService = Executors.newFixedThreadPool(16);
+        CountDownLatch latch = new CountDownLatch(transferCount);
+        AtomicInteger succeeded = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < transferCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    int from = random.nextInt(userIds.length);
+                    int to = (from + 1 + random.nextInt(userIds.length - 1)) % userIds.length; // 자기 자신 제외
+                    pointService.transfer(userIds[from], userIds[to], 1 + random.nextInt(3000));
+                    succeeded.incrementAndGet();
+                } catch (IllegalArgumentException e) {
+                    // 잔액 부족은 정상적인 실패
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        // then: 제한 시간 안에 모두 끝나고 합계는 그대로
+        assertTrue(latch.await(120, TimeUnit.SECONDS));
+        executorService.shutdown();
+        long total = LongStream.of(userIds).map(userId -> pointService.getUserPoint(userId).point()).sum();
+        assertEquals(initialAmount * userIds.length, total);
+        assertTrue(succeeded.get() > 0);
+
+        // 성공한 전송마다 보내는 쪽과 받는 쪽에 히스토리가 하나씩 남음
+        long historyCount = LongStream.of(userIds).map(userId -> pointService.getUserPointHistory(userId).size()).sum();
+        assertEquals(succeeded.get() * 2L, historyCount);
+    }
+}
@@ -0,0 +1,108 @@
+package io.hhplus.intergration;
+
+import io.hhplus.tdd.TddApplication;
+import io.hhplus.tdd.point.deadline.RequestDeadline;
+import io.hhplus.tdd.point.deadline.RequestDeadlineExceededException;
+import io.hhplus.tdd.point.domain.PointCommand;
+import io.hhplus.tdd.point.domain.PointCommandResult;
+import io.hhplus.tdd.point.lock.PointServiceLock;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.service.PointService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(classes = TddApplication.class) // Spring 컨텍스트를 로드하여 통합 테스트 수행
+public class RequestDeadlineIntegrationTest {
+
+    @Autowired
+    private PointService pointService; // 실제 서비스 사용
+
+    @Autowired
+    private PointHistoryRepository pointHistoryRepository;
+
+    @Autowired
+    private PointServiceLock pointServiceLock;
+
+    @AfterEach
+    void clearDeadline() {
+        RequestDeadline.clear();
+    }
+
+    // 앞선 요청이 유저 락을 오래 잡고 있으면 기한까지만 기다리고 포인트를 변경하지 않음
+    @Test
+    void 기한_안에_락을_얻지_못한_충전은_포기한다() throws Exception {
+        // given
+        long userId = 13_001L;
+        pointService.chargeUserPoint(userId, 1000L);
+        pointServiceLock.lock(userId); // 앞선 요청이 락을 잡고 있는 상황
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+        // when
+        Future<?> future = executorService.submit(() -> {
+            RequestDeadline.set(RequestDeadline.after(100));
+            try {
+                pointService.chargeUserPoint(userId, 500L);
+            } finally {
+                RequestDeadline.clear();
+            }
+        });
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        pointServiceLock.unLock(userId);
+        executorService.shutdown();
+
+        // then
+        assertInstanceOf(RequestDeadlineExceededException.class, exception.getCause());
+        assertEquals(1000L, pointService.getUserPoint(userId).point());
+        assertEquals(1, pointHistoryRepository.findAllByUserId(userId).size());
+    }
+
+    @Test
+    void 이미_기한이_지난_요청은_시작하지_않는다() throws InterruptedException {
+        // given
+        long userId = 13_002L;
+        pointService.chargeUserPoint(userId, 1000L);
+        RequestDeadline.set(RequestDeadline.after(1));
+        TimeUnit.MILLISECONDS.sleep(5);
+
+        // when
+        RequestDeadlineExceededException exception =
+                assertThrows(RequestDeadlineExceededException.class, () -> pointService.useUserPoint(userId, 100L));
+        RequestDeadline.clear();
+
+        // then
+        assertEquals(RequestDeadlineExceededException.Stage.BEFORE_START, exception.stage());
+        assertEquals(1000L, pointService.getUserPoint(userId).point());
+    }
+
+    // 일괄 처리는 다른 스레드에서 실행되어도 요청 기한을 전달받아 기한이 지난 유저의 명령을 실패 처리
+    @Test
+    void 일괄_처리에서_기한이_지난_명령은_실패로_반환된다() throws InterruptedException {
+        // given
+        long userId = 13_003L;
+        RequestDeadline.set(RequestDeadline.after(1));
+        TimeUnit.MILLISECONDS.sleep(5);
+
+        // when
+        List<PointCommandResult> results = pointService.executeBatch(List.of(
+                PointCommand.charge(userId, 1000L),
+                PointCommand.use(userId, 100L)
+        ));
+        RequestDeadline.clear();
+
+        // then
+        assertTrue(results.stream().noneMatch(PointCommandResult::success));
+        assertTrue(results.stream().allMatch(result -> result.error() instanceof RequestDeadlineExceededException));
+        assertEquals(0L, pointService.getUserPoint(userId).point());
+    }
+}
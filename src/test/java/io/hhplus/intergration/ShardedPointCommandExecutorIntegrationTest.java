@@ -0,0 +1,135 @@
+package io.hhplus.intergration;
+
+import io.hhplus.tdd.TddApplication;
+import io.hhplus.tdd.point.deadline.RequestDeadline;
+import io.hhplus.tdd.point.deadline.RequestDeadlineExceededException;
+import io.hhplus.tdd.point.domain.PointCommand;
+import io.hhplus.tdd.point.domain.PointCommandResult;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.executor.PointCommandExecutor;
+import io.hhplus.tdd.point.executor.ShardedPointCommandExecutor;
+import io.hhplus.tdd.point.executor.UnsupportedExecutionModeException;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.service.PointService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(classes = TddApplication.class, properties = "point.execution.mode=actor") // 샤드 실행 방식으로 컨텍스트 로드
+public class ShardedPointCommandExecutorIntegrationTest {
+
+    @Autowired
+    private PointService pointService; // 실제 서비스 사용
+
+    @Autowired
+    private UserPointRepository userPointRepository; // 실제 리포지토리 사용
+
+    @Autowired
+    private PointCommandExecutor pointCommandExecutor;
+
+    @Test
+    void 샤드_실행기가_등록된다() {
+        assertInstanceOf(ShardedPointCommandExecutor.class, pointCommandExecutor);
+    }
+
+    // 같은 유저에 대한 동시 충전/사용이 샤드에서 순서대로 적용되는지 테스트
+    @Test
+    void 같은_유저의_동시_충전_및_사용이_순서대로_적용된다() throws InterruptedException {
+        // given
+        long userId = 6_001L;
+        long initialAmount = 1000L;
+        long useAmount = 100L;
+        int threadCount = 11; // 포인트 총액 이상을 사용하려는 11개의 스레드
+
+        // 미리 유저 포인트를 저장
+        userPointRepository.saveOrUpdate(userId, initialAmount);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        List<Exception> exceptions = new CopyOnWriteArrayList<>();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    pointService.useUserPoint(userId, useAmount);
+                } catch (Exception e) {
+                    exceptions.add(e);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+
+        // then: 10번만 성공하고 1번은 잔액 부족으로 실패
+        UserPoint resultUserPoint = userPointRepository.findById(userId);
+        assertEquals(0, resultUserPoint.point());
+        assertEquals(1, exceptions.size());
+        assertInstanceOf(IllegalArgumentException.class, exceptions.get(0));
+        assertEquals("잔여 포인트가 부족합니다.", exceptions.get(0).getMessage());
+
+        executorService.shutdown();
+    }
+
+    @Test
+    void 처리가_끝나면_갱신된_포인트를_반환한다() {
+        // given
+        long userId = 6_002L;
+        userPointRepository.saveOrUpdate(userId, 100L);
+
+        // when
+        UserPoint result = pointService.chargeUserPoint(userId, 50L);
+
+        // then
+        assertEquals(150L, result.point());
+    }
+
+    // 유저 단위로만 순서를 보장하는 실행 방식에서는 전송을 4xx 로 매핑되는 예외로 거절하고 포인트는 그대로 유지
+    @Test
+    void 전송은_지원하지_않는_실행_방식_예외로_거절된다() {
+        // given
+        long fromUserId = 6_003L;
+        long toUserId = 6_004L;
+        userPointRepository.saveOrUpdate(fromUserId, 1000L);
+        userPointRepository.saveOrUpdate(toUserId, 200L);
+
+        // when
+        UnsupportedExecutionModeException exception = assertThrows(UnsupportedExecutionModeException.class,
+                () -> pointService.transfer(fromUserId, toUserId, 300L));
+
+        // then
+        assertEquals("포인트 전송은 lock, coalescing 실행 방식에서만 지원합니다.", exception.getMessage());
+        assertEquals(1000L, userPointRepository.findById(fromUserId).point());
+        assertEquals(200L, userPointRepository.findById(toUserId).point());
+    }
+
+    // 서비스를 거치지 않고 실행기에 바로 넘겨도 기한이 지난 명령은 샤드에서 실행하지 않음
+    @Test
+    void 기한이_지난_명령은_샤드에서_실행하지_않는다() throws InterruptedException {
+        // given
+        long userId = 6_005L;
+        userPointRepository.saveOrUpdate(userId, 1000L);
+        RequestDeadline deadline = RequestDeadline.after(1);
+        TimeUnit.MILLISECONDS.sleep(5);
+
+        // when
+        assertThrows(RequestDeadlineExceededException.class,
+                () -> pointCommandExecutor.execute(PointCommand.charge(userId, 500L), deadline));
+        List<PointCommandResult> results = pointCommandExecutor.executeAll(userId,
+                List.of(PointCommand.charge(userId, 500L), PointCommand.use(userId, 100L)), deadline);
+
+        // then
+        assertTrue(results.stream().allMatch(result -> result.error() instanceof RequestDeadlineExceededException));
+        assertEquals(1000L, userPointRepository.findById(userId).point());
+    }
+}
@@ -0,0 +1,95 @@
+package io.hhplus.intergration;
+
+import io.hhplus.tdd.TddApplication;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.lock.PointServiceLock;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.service.PointService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(classes = TddApplication.class, properties = "point.snapshot.enabled=true") // 조회 모델을 켜고 컨텍스트 로드
+public class UserPointSnapshotIntegrationTest {
+
+    @Autowired
+    private PointService pointService; // 실제 서비스 사용
+
+    @Autowired
+    private UserPointRepository userPointRepository; // 실제 리포지토리 사용
+
+    @Autowired
+    private PointServiceLock pointServiceLock;
+
+    @Test
+    void 충전_직후_조회하면_충전된_포인트를_바로_반환한다() {
+        // given
+        long userId = 17_001L;
+        userPointRepository.saveOrUpdate(userId, 1000L);
+
+        // when
+        UserPoint charged = pointService.chargeUserPoint(userId, 500L);
+        UserPoint result = pointService.getUserPoint(userId);
+
+        // then
+        assertEquals(1500L, charged.point());
+        assertEquals(1500L, result.point());
+    }
+
+    // 테이블 조회는 건당 0~200ms 가 걸리므로, 게시된 값을 읽는다면 100번 조회해도 테이블 한 번 조회보다 빨라야 함
+    @Test
+    void 게시된_포인트는_테이블을_거치지_않고_조회된다() {
+        // given
+        long userId = 17_002L;
+        userPointRepository.saveOrUpdate(userId, 1000L);
+
+        // when
+        long start = System.nanoTime();
+        for (int i = 0; i < 100; i++) {
+            assertEquals(1000L, pointService.getUserPoint(userId).point());
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // then
+        assertTrue(elapsedMillis < 100, "elapsed: " + elapsedMillis + "ms");
+    }
+
+    @Test
+    void 다른_스레드가_유저_락을_잡고_있어도_조회는_기다리지_않는다() throws Exception {
+        // given: 다른 스레드가 유저의 락을 잡고 있음
+        long userId = 17_003L;
+        userPointRepository.saveOrUpdate(userId, 700L);
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        executorService.submit(() -> {
+            pointServiceLock.lock(userId);
+            try {
+                locked.countDown();
+                release.await();
+            } finally {
+                pointServiceLock.unLock(userId);
+            }
+            return null;
+        });
+        assertTrue(locked.await(1, TimeUnit.SECONDS));
+
+        // when
+        long start = System.nanoTime();
+        UserPoint result = pointService.getUserPoint(userId);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // then: 마지막으로 저장된 포인트를 바로 반환
+        release.countDown();
+        executorService.shutdown();
+        assertEquals(700L, result.point());
+        assertTrue(elapsedMillis < 50, "elapsed: " + elapsedMillis + "ms");
+    }
+}
@@ -0,0 +1,98 @@
+package io.hhplus.unit;
+
+import io.hhplus.tdd.point.limit.AdaptiveConcurrencyLimiter;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AdaptiveConcurrencyLimiterUnitTest {
+
+    // 한도까지 요청을 받은 뒤 모두 같은 처리 시간으로 끝냄 (max 건까지만 받음)
+    private static void saturate(AdaptiveConcurrencyLimiter limiter, long rttMillis, int max) {
+        int acquired = 0;
+        while (acquired < max && limiter.tryAcquire()) {
+            acquired++;
+        }
+        for (int i = 0; i < acquired; i++) {
+            limiter.release(TimeUnit.MILLISECONDS.toNanos(rttMillis));
+        }
+    }
+
+    @Test
+    void 한도에_도달하면_바로_거절한다() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("write", 2, 1, 10, 10);
+
+        // when
+        boolean first = limiter.tryAcquire();
+        boolean second = limiter.tryAcquire();
+        boolean third = limiter.tryAcquire();
+
+        // then
+        assertTrue(first);
+        assertTrue(second);
+        assertFalse(third);
+        assertEquals(2, limiter.inFlight());
+        assertEquals(1, limiter.rejectedCount());
+
+        limiter.release(1_000L);
+        assertTrue(limiter.tryAcquire());
+    }
+
+    @Test
+    void 처리_시간이_일정하고_한도를_모두_사용하면_한도를_늘린다() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("read", 20, 4, 200, 10);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            saturate(limiter, 10, Integer.MAX_VALUE);
+        }
+
+        // then
+        assertTrue(limiter.limit() > 20);
+        assertTrue(limiter.limit() <= 200);
+    }
+
+    @Test
+    void 처리_시간이_늘어나면_한도를_줄인다() {
+        // given: 10ms 로 처리되던 상태
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("write", 40, 4, 40, 10);
+        for (int i = 0; i < 10; i++) {
+            saturate(limiter, 10, Integer.MAX_VALUE);
+        }
+        assertEquals(40, limiter.limit());
+
+        // when: 큐가 쌓여 처리 시간이 5배로 늘어남
+        for (int i = 0; i < 5; i++) {
+            saturate(limiter, 50, Integer.MAX_VALUE);
+        }
+
+        // then
+        assertTrue(limiter.limit() < 40);
+        assertTrue(limiter.limit() >= 4);
+    }
+
+    @Test
+    void 한도의_절반도_사용하지_않으면_한도를_늘리지_않는다() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("read", 20, 4, 200, 10);
+
+        // when: 동시에 5건씩만 처리
+        for (int i = 0; i < 50; i++) {
+            saturate(limiter, 10, 5);
+        }
+
+        // then
+        assertEquals(20, limiter.limit());
+        assertEquals(0, limiter.inFlight());
+    }
+
+    @Test
+    void 잘못된_한도_설정은_실패한다() {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter("read", 10, 20, 30, 10));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter("read", 10, 0, 30, 10));
+    }
+}
@@ -0,0 +1,129 @@
+package io.hhplus.unit;
+
+import io.hhplus.tdd.point.config.PointExecutors;
+import io.hhplus.tdd.point.deadline.RequestDeadline;
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.PointValidationException;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.enums.TransactionType;
+import io.hhplus.tdd.point.service.AsyncPointServiceImpl;
+import io.hhplus.tdd.point.service.PointService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class AsyncPointServiceUnitTest {
+    @Mock
+    private PointService pointService;
+
+    private PointExecutors pointExecutors;
+    private AsyncPointServiceImpl asyncPointService;
+
+    @BeforeEach
+    void setUp() {
+        pointExecutors = new PointExecutors(false, 1, 4, 100);
+        asyncPointService = new AsyncPointServiceImpl(pointService, pointExecutors);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pointExecutors.shutdown();
+        RequestDeadline.clear();
+    }
+
+    @Test
+    void 히스토리_조회는_PointService_에_위임한다() throws Exception {
+        // given
+        long userId = 1L;
+        List<PointHistory> histories = List.of(
+                new PointHistory(1L, userId, 100L, TransactionType.CHARGE, System.currentTimeMillis()));
+        when(pointService.getUserPointHistory(eq(userId))).thenReturn(histories);
+
+        // when
+        List<PointHistory> result = asyncPointService.getUserPointHistory(userId).get(2, TimeUnit.SECONDS);
+
+        // then
+        assertEquals(histories, result);
+    }
+
+    @Test
+    void 유저가_없으면_히스토리_조회는_실패한다() {
+        // given
+        long userId = 99L;
+        when(pointService.getUserPointHistory(eq(userId)))
+                .thenThrow(new PointValidationException(PointValidationException.Reason.USER_NOT_FOUND, "유저가 존재하지 않습니다."));
+
+        // when
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> asyncPointService.getUserPointHistory(userId).get(2, TimeUnit.SECONDS));
+
+        // then
+        assertInstanceOf(PointValidationException.class, exception.getCause());
+        assertEquals("유저가 존재하지 않습니다.", exception.getCause().getMessage());
+    }
+
+    // 스레드 1개와 대기열 1칸이 모두 차 있으면 세 번째 요청은 등록되지 않고 바로 거절
+    @Test
+    void 대기열이_가득_차면_요청을_바로_거절한다() throws Exception {
+        // given
+        long userId = 1L;
+        PointExecutors boundedExecutors = new PointExecutors(false, 1, 1, 1);
+        AsyncPointServiceImpl boundedService = new AsyncPointServiceImpl(pointService, boundedExecutors);
+        CountDownLatch release = new CountDownLatch(1);
+        when(pointService.getUserPoint(eq(userId))).thenAnswer(invocation -> {
+            release.await(2, TimeUnit.SECONDS);
+            return new UserPoint(userId, 100L, System.currentTimeMillis());
+        });
+
+        try {
+            // when
+            CompletableFuture<UserPoint> running = boundedService.getUserPoint(userId);
+            CompletableFuture<UserPoint> queued = boundedService.getUserPoint(userId);
+
+            // then
+            assertThrows(RejectedExecutionException.class, () -> boundedService.getUserPoint(userId));
+            release.countDown();
+            assertEquals(100L, running.get(2, TimeUnit.SECONDS).point());
+            assertEquals(100L, queued.get(2, TimeUnit.SECONDS).point());
+        } finally {
+            release.countDown();
+            boundedExecutors.shutdown();
+        }
+    }
+
+    @Test
+    void 충전은_호출한_스레드의_요청_기한과_함께_실행된다() throws Exception {
+        // given
+        long userId = 1L;
+        RequestDeadline deadline = RequestDeadline.after(1000);
+        RequestDeadline.set(deadline);
+        AtomicReference<RequestDeadline> propagated = new AtomicReference<>();
+        when(pointService.chargeUserPoint(eq(userId), eq(100L))).thenAnswer(invocation -> {
+            propagated.set(RequestDeadline.current());
+            return new UserPoint(userId, 100L, System.currentTimeMillis());
+        });
+
+        // when
+        UserPoint result = asyncPointService.chargeUserPoint(userId, 100L).get(2, TimeUnit.SECONDS);
+
+        // then
+        assertEquals(100L, result.point());
+        assertSame(deadline, propagated.get());
+    }
+}
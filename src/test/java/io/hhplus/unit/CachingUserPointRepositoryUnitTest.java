@@ -0,0 +1,62 @@
+package io.hhplus.unit;
+
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.repository.CachingUserPointRepository;
+import io.hhplus.tdd.point.repository.UserPointRepositoryImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CachingUserPointRepositoryUnitTest {
+
+    @Mock
+    private UserPointRepositoryImpl userPointRepositoryImpl; // 실제 테이블 대신 사용할 목 객체
+
+    private CachingUserPointRepository userPointRepository;
+
+    @BeforeEach
+    void setUp() {
+        userPointRepository = new CachingUserPointRepository(userPointRepositoryImpl, 100);
+    }
+
+    @Test
+    void 두번째_조회부터는_테이블을_조회하지_않는다() {
+        // given
+        long userId = 1L;
+        UserPoint userPoint = new UserPoint(userId, 1000L, System.currentTimeMillis());
+        when(userPointRepositoryImpl.findById(eq(userId))).thenReturn(userPoint);
+
+        // when
+        userPointRepository.findById(userId);
+        UserPoint result = userPointRepository.findById(userId);
+
+        // then
+        assertEquals(1000L, result.point());
+        verify(userPointRepositoryImpl, times(1)).findById(eq(userId));
+        assertEquals(1, userPointRepository.hitCount());
+        assertEquals(1, userPointRepository.missCount());
+    }
+
+    @Test
+    void 저장한_포인트가_캐시에_바로_반영된다() {
+        // given
+        long userId = 1L;
+        when(userPointRepositoryImpl.saveOrUpdate(eq(userId), eq(500L)))
+                .thenReturn(new UserPoint(userId, 500L, System.currentTimeMillis()));
+
+        // when
+        userPointRepository.saveOrUpdate(userId, 500L);
+        UserPoint result = userPointRepository.findById(userId);
+
+        // then: 테이블 조회 없이 저장된 값이 반환됨
+        assertEquals(500L, result.point());
+        verify(userPointRepositoryImpl, never()).findById(anyLong());
+    }
+}
@@ -0,0 +1,87 @@
+package io.hhplus.unit;
+
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.PointHistoryCursor;
+import io.hhplus.tdd.point.enums.TransactionType;
+import io.hhplus.tdd.point.repository.ColumnarPointHistoryStore;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ColumnarPointHistoryStoreUnitTest {
+
+    private final ColumnarPointHistoryStore store = new ColumnarPointHistoryStore();
+
+    @Test
+    void 유저별로_시간순_내역이_조회된다() {
+        // given: 순서가 어긋난 내역이 섞여서 들어옴
+        store.insert(1L, 100L, TransactionType.CHARGE, 1_000L);
+        store.insert(2L, 100L, TransactionType.CHARGE, 1_500L);
+        store.insert(1L, 50L, TransactionType.USE, 3_000L);
+        store.insert(1L, 70L, TransactionType.USE, 2_000L);
+
+        // when
+        List<PointHistory> pointHistoryList = store.findAllByUserId(1L);
+
+        // then
+        assertEquals(List.of(
+                new PointHistory(1L, 1L, 100L, TransactionType.CHARGE, 1_000L),
+                new PointHistory(4L, 1L, 70L, TransactionType.USE, 2_000L),
+                new PointHistory(3L, 1L, 50L, TransactionType.USE, 3_000L)
+        ), pointHistoryList);
+        assertEquals(4, store.size());
+    }
+
+    @Test
+    void 기간에_해당하는_내역만_조회된다() {
+        // given: 컬럼 확장이 여러 번 일어나도록 저장
+        for (long i = 1; i <= 100; i++) {
+            store.insert(1L, 100L, TransactionType.CHARGE, i * 1_000L);
+        }
+
+        // when: 3000 이상 6000 미만
+        List<PointHistory> pointHistoryList = store.findAllByUserIdBetween(1L, 3_000L, 6_000L);
+
+        // then
+        assertEquals(List.of(3L, 4L, 5L), pointHistoryList.stream().map(PointHistory::id).toList());
+        assertEquals(100, store.findAllByUserId(1L).size());
+    }
+
+    @Test
+    void 커서_이후의_내역을_거래_종류로_걸러서_조회한다() {
+        // given
+        for (long i = 1; i <= 10; i++) {
+            store.insert(1L, i, i % 2 == 0 ? TransactionType.USE : TransactionType.CHARGE, i * 1_000L);
+        }
+        PointHistoryCursor cursor = new PointHistoryCursor(4_000L, 4L);
+
+        // when
+        List<PointHistory> pointHistoryList = store.findPageByUserId(1L, cursor, 2, TransactionType.CHARGE);
+
+        // then
+        assertEquals(List.of(5L, 7L), pointHistoryList.stream().map(PointHistory::id).toList());
+    }
+
+    @Test
+    void 거래_종류별_금액_합계를_계산한다() {
+        // given
+        store.insert(1L, 1_000L, TransactionType.CHARGE, 1_000L);
+        store.insert(1L, 300L, TransactionType.USE, 2_000L);
+        store.insert(1L, 500L, TransactionType.CHARGE, 3_000L);
+        store.insert(2L, 9_999L, TransactionType.CHARGE, 1_000L);
+
+        // when & then
+        assertEquals(1_500L, store.sumAmount(1L, TransactionType.CHARGE, Long.MIN_VALUE, Long.MAX_VALUE));
+        assertEquals(300L, store.sumAmount(1L, TransactionType.USE, Long.MIN_VALUE, Long.MAX_VALUE));
+        assertEquals(1_000L, store.sumAmount(1L, TransactionType.CHARGE, 0L, 2_000L));
+    }
+
+    @Test
+    void 내역이_없는_유저는_빈_목록이_조회된다() {
+        assertTrue(store.findAllByUserId(99L).isEmpty());
+        assertTrue(store.findAllByUserIdBetween(99L, 0L, Long.MAX_VALUE).isEmpty());
+        assertEquals(0L, store.sumAmount(99L, TransactionType.CHARGE, 0L, Long.MAX_VALUE));
+    }
+}
@@ -0,0 +1,140 @@
+package io.hhplus.unit;
+
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.PointHistoryCursor;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.enums.TransactionType;
+import io.hhplus.tdd.point.repository.EventSourcedUserPointRepository;
+import io.hhplus.tdd.point.repository.PointEventSnapshotStore;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class EventSourcedUserPointRepositoryUnitTest {
+
+    @Mock
+    private PointHistoryRepository pointHistoryRepository; // 이벤트 저장소로 사용할 목 객체
+
+    private PointEventSnapshotStore pointEventSnapshotStore;
+
+    private EventSourcedUserPointRepository userPointRepository;
+
+    @BeforeEach
+    void setUp() {
+        pointEventSnapshotStore = new PointEventSnapshotStore();
+        userPointRepository = new EventSourcedUserPointRepository(pointHistoryRepository, pointEventSnapshotStore, 3, 100);
+
+        // 저장한 내용을 그대로 반환
+        lenient().when(pointHistoryRepository.save(anyLong(), anyLong(), any(), anyLong()))
+                .thenAnswer(invocation -> new PointHistory(0L, invocation.getArgument(0), invocation.getArgument(1),
+                        invocation.getArgument(2), invocation.getArgument(3)));
+    }
+
+    @Test
+    void 처음_조회하면_기존_히스토리를_적용하여_잔액을_계산한다() {
+        // given
+        long userId = 1L;
+        when(pointHistoryRepository.findPageByUserId(eq(userId), eq(PointHistoryCursor.FIRST), eq(3), isNull())).thenReturn(List.of(
+                new PointHistory(1L, userId, 1000L, TransactionType.CHARGE, 1L),
+                new PointHistory(2L, userId, 300L, TransactionType.USE, 2L)
+        ));
+
+        // when
+        UserPoint userPoint = userPointRepository.findById(userId);
+
+        // then
+        assertEquals(700L, userPoint.point());
+        assertEquals(2L, userPoint.version());
+    }
+
+    @Test
+    void 충전_사용은_히스토리만_추가하고_잔액에_반영된다() {
+        // given
+        long userId = 1L;
+        when(pointHistoryRepository.findPageByUserId(eq(userId), eq(PointHistoryCursor.FIRST), eq(3), isNull())).thenReturn(List.of());
+
+        // when
+        userPointRepository.append(userId, 500L, TransactionType.CHARGE);
+        UserPoint result = userPointRepository.append(userId, 200L, TransactionType.USE);
+
+        // then
+        assertEquals(300L, result.point());
+        assertEquals(result, userPointRepository.findById(userId));
+        verify(pointHistoryRepository, times(2)).save(eq(userId), anyLong(), any(), anyLong());
+    }
+
+    @Test
+    void 스냅샷_간격만큼_이벤트가_쌓이면_스냅샷을_만든다() {
+        // given: 스냅샷 간격 3
+        long userId = 1L;
+        when(pointHistoryRepository.findPageByUserId(eq(userId), eq(PointHistoryCursor.FIRST), eq(3), isNull())).thenReturn(List.of());
+
+        // when
+        for (int i = 0; i < 7; i++) {
+            userPointRepository.append(userId, 100L, TransactionType.CHARGE);
+        }
+
+        // then: 스냅샷 2번, 스냅샷 이후 이벤트 1건
+        assertEquals(2, userPointRepository.snapshotCount());
+        assertEquals(1, userPointRepository.eventsSinceSnapshot(userId));
+        assertEquals(700L, userPointRepository.findById(userId).point());
+        assertEquals(7L, userPointRepository.findById(userId).version());
+    }
+
+    @Test
+    void 잔액을_직접_지정하면_차이만큼_이벤트를_추가한다() {
+        // given
+        long userId = 1L;
+        when(pointHistoryRepository.findPageByUserId(eq(userId), eq(PointHistoryCursor.FIRST), eq(3), isNull())).thenReturn(List.of());
+        userPointRepository.saveOrUpdate(userId, 1000L);
+
+        // when
+        UserPoint result = userPointRepository.saveOrUpdate(userId, 400L);
+
+        // then
+        assertEquals(400L, result.point());
+        verify(pointHistoryRepository).save(eq(userId), eq(1000L), eq(TransactionType.CHARGE), anyLong());
+        verify(pointHistoryRepository).save(eq(userId), eq(600L), eq(TransactionType.USE), anyLong());
+    }
+
+    // 스냅샷이 저장된 뒤 잔액을 다시 계산할 때는 스냅샷 이후의 이벤트만 조회하여 적용
+    @Test
+    void 다시_계산할_때는_스냅샷_이후의_이벤트만_적용한다() {
+        // given: 이벤트 3건으로 스냅샷이 저장됨
+        long userId = 1L;
+        List<PointHistory> events = List.of(
+                new PointHistory(1L, userId, 1000L, TransactionType.CHARGE, 1L),
+                new PointHistory(2L, userId, 300L, TransactionType.USE, 2L),
+                new PointHistory(3L, userId, 200L, TransactionType.CHARGE, 3L)
+        );
+        when(pointHistoryRepository.findPageByUserId(eq(userId), eq(PointHistoryCursor.FIRST), eq(3), isNull())).thenReturn(events);
+        userPointRepository.findById(userId);
+        PointEventSnapshotStore.Snapshot snapshot = pointEventSnapshotStore.find(userId);
+        assertEquals(900L, snapshot.balance());
+        assertEquals(PointHistoryCursor.after(events.get(2)), snapshot.cursor());
+
+        // when: 잔액을 보관하지 않은 저장소가 같은 스냅샷으로 다시 계산
+        when(pointHistoryRepository.findPageByUserId(eq(userId), eq(snapshot.cursor()), eq(3), isNull())).thenReturn(List.of(
+                new PointHistory(4L, userId, 100L, TransactionType.USE, 4L)
+        ));
+        EventSourcedUserPointRepository restarted = new EventSourcedUserPointRepository(pointHistoryRepository, pointEventSnapshotStore, 3, 100);
+        UserPoint userPoint = restarted.findById(userId);
+
+        // then: 스냅샷 이전의 이벤트는 다시 조회하지 않음
+        assertEquals(800L, userPoint.point());
+        assertEquals(4L, userPoint.version());
+        assertEquals(1, restarted.eventsSinceSnapshot(userId));
+        verify(pointHistoryRepository, times(1)).findPageByUserId(eq(userId), eq(PointHistoryCursor.FIRST), anyInt(), any());
+        verify(pointHistoryRepository, never()).findAllByUserId(anyLong());
+    }
+}
@@ -0,0 +1,103 @@
+package io.hhplus.unit;
+
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.PointHistoryCursor;
+import io.hhplus.tdd.point.domain.PointHistoryPage;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.enums.TransactionType;
+import io.hhplus.tdd.point.repository.PointHistoryIndex;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.service.PointServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT) // 테스트마다 사용하는 stub 이 달라 공통 stub 을 느슨하게 허용
+public class GetUserPointHistoryPageUnitTest {
+
+    @Mock
+    private UserPointRepository userPointRepository;
+
+    @Mock
+    private PointHistoryRepository pointHistoryRepository;
+
+    @InjectMocks
+    private PointServiceImpl pointService;
+
+    private final PointHistoryIndex pointHistoryIndex = new PointHistoryIndex(); // 목 저장소가 돌려줄 실제 페이지 데이터
+
+    @BeforeEach
+    void setUp() {
+        long userId = 1L;
+        for (long i = 1; i <= 5; i++) {
+            TransactionType type = i % 2 == 0 ? TransactionType.USE : TransactionType.CHARGE;
+            pointHistoryIndex.add(new PointHistory(i, userId, 100L, type, i * 1_000L));
+        }
+        when(userPointRepository.findById(eq(userId))).thenReturn(new UserPoint(userId, 100L, System.currentTimeMillis()));
+        when(pointHistoryRepository.findPageByUserId(eq(userId), any(), anyInt(), any())).thenAnswer(invocation ->
+                pointHistoryIndex.findPageByUserId(userId, invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3)));
+    }
+
+    @Test
+    void 커서를_따라_다음_페이지를_조회한다() {
+        // when
+        PointHistoryPage first = pointService.getUserPointHistoryPage(1L, PointHistoryCursor.FIRST, 2, null);
+        PointHistoryPage second = pointService.getUserPointHistoryPage(1L, PointHistoryCursor.decode(first.nextCursor().encode()), 2, null);
+        PointHistoryPage last = pointService.getUserPointHistoryPage(1L, second.nextCursor(), 2, null);
+
+        // then
+        assertEquals(List.of(1L, 2L), ids(first));
+        assertEquals(List.of(3L, 4L), ids(second));
+        assertEquals(List.of(5L), ids(last));
+        assertFalse(last.hasNext());
+    }
+
+    @Test
+    void 거래_종류로_필터링하여_조회한다() {
+        // when
+        PointHistoryPage page = pointService.getUserPointHistoryPage(1L, PointHistoryCursor.FIRST, 10, TransactionType.USE);
+
+        // then
+        assertEquals(List.of(2L, 4L), ids(page));
+        assertFalse(page.hasNext());
+    }
+
+    @Test
+    void 스트리밍_조회는_모든_페이지를_이어서_반환한다() {
+        // when
+        List<PointHistory> histories = pointService.streamUserPointHistory(1L, PointHistoryCursor.FIRST, null, 2).toList();
+
+        // then
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), histories.stream().map(PointHistory::id).toList());
+    }
+
+    @Test
+    void 조회_개수가_범위를_벗어나면_예외가_발생한다() {
+        Exception exception = assertThrows(IllegalArgumentException.class, () ->
+                pointService.getUserPointHistoryPage(1L, PointHistoryCursor.FIRST, 0, null));
+        assertEquals("조회 개수는 1 이상 1000 이하여야 합니다.", exception.getMessage());
+    }
+
+    @Test
+    void 잘못된_커서는_예외가_발생한다() {
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> PointHistoryCursor.decode("!!invalid"));
+        assertEquals("잘못된 커서입니다.", exception.getMessage());
+    }
+
+    private List<Long> ids(PointHistoryPage page) {
+        return page.histories().stream().map(PointHistory::id).toList();
+    }
+}
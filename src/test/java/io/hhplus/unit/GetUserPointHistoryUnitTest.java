@@ -1,22 +1,31 @@
 package io.hhplus.unit;
 
+import io.hhplus.tdd.point.config.PointExecutors;
 import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.PointValidationException;
 import io.hhplus.tdd.point.domain.UserPoint;
 import io.hhplus.tdd.point.enums.TransactionType;
 import io.hhplus.tdd.point.repository.PointHistoryRepository;
 import io.hhplus.tdd.point.repository.UserPointRepository;
 import io.hhplus.tdd.point.service.PointServiceImpl;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -29,9 +38,17 @@ public class GetUserPointHistoryUnitTest {
     @Mock
     private PointHistoryRepository pointHistoryRepository; // PointHistoryRepository도 목 객체로 만듦.
 
+    @Spy
+    private PointExecutors pointExecutors = new PointExecutors(false, 1, 2, 10); // 히스토리 조회를 실행할 실제 스레드 풀
+
     @InjectMocks
     private PointServiceImpl pointService; // 목 객체들을 주입받을 구현체 객체를 생성. 실제 테스트할 대상 클래스.
 
+    @AfterEach
+    void tearDown() {
+        pointExecutors.shutdown();
+    }
+
     @Test
     void 유저의_포인트_이용내역_조회() {
         // given
@@ -56,4 +73,53 @@ public class GetUserPointHistoryUnitTest {
         // findById가 올바르게 호출되었는지 검증
         verify(userPointRepository).findById(eq(currentUserId));
     }
+
+    // 두 조회가 서로 상대 조회가 시작되기를 기다리므로, 순서대로 실행한다면 먼저 실행된 조회가 기다리다가 시간 초과됨
+    @Test
+    void 유저_조회와_히스토리_조회는_동시에_실행된다() {
+        // given
+        long currentUserId = 1L;
+        UserPoint userPoint = new UserPoint(currentUserId, 100L, System.currentTimeMillis());
+        List<PointHistory> pointHistoryList = List.of(
+                new PointHistory(1L, currentUserId, 100L, TransactionType.CHARGE, System.currentTimeMillis()));
+        CountDownLatch userStarted = new CountDownLatch(1);
+        CountDownLatch historyStarted = new CountDownLatch(1);
+        AtomicBoolean overlapped = new AtomicBoolean(true);
+
+        when(userPointRepository.findById(eq(currentUserId))).thenAnswer(invocation -> {
+            userStarted.countDown();
+            if (!historyStarted.await(2, TimeUnit.SECONDS)) {
+                overlapped.set(false);
+            }
+            return userPoint;
+        });
+        when(pointHistoryRepository.findAllByUserId(eq(currentUserId))).thenAnswer(invocation -> {
+            historyStarted.countDown();
+            if (!userStarted.await(2, TimeUnit.SECONDS)) {
+                overlapped.set(false);
+            }
+            return pointHistoryList;
+        });
+
+        // when
+        List<PointHistory> result = pointService.getUserPointHistory(currentUserId);
+
+        // then
+        assertTrue(overlapped.get(), "유저 조회와 히스토리 조회가 겹쳐서 실행되어야 합니다.");
+        assertEquals(pointHistoryList, result);
+    }
+
+    @Test
+    void 유저가_없으면_히스토리_조회는_실패한다() {
+        // given
+        long currentUserId = 99L;
+        when(userPointRepository.findById(eq(currentUserId))).thenReturn(null);
+
+        // when
+        PointValidationException exception = assertThrows(PointValidationException.class,
+                () -> pointService.getUserPointHistory(currentUserId));
+
+        // then
+        assertEquals("유저가 존재하지 않습니다.", exception.getMessage());
+    }
 }
@@ -0,0 +1,173 @@
+package io.hhplus.unit;
+
+import io.hhplus.tdd.point.repository.HedgedReader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HedgedReaderUnitTest {
+
+    private final CountDownLatch release = new CountDownLatch(1); // 느린 조회를 붙잡아 두는 용도
+    private HedgedReader hedgedReader;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        hedgedReader.shutdown();
+    }
+
+    @Test
+    void 조회가_늦어지면_한_번_더_조회하여_먼저_끝난_결과를_반환한다() {
+        // given: 첫 번째 조회만 느림
+        hedgedReader = new HedgedReader(0.9, 20, 1.0, 16);
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        long start = System.nanoTime();
+        String result = hedgedReader.read(() -> calls.incrementAndGet() == 1 ? slow("first") : "second");
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // then
+        assertEquals("second", result);
+        assertTrue(elapsedMillis < 1000, "elapsed: " + elapsedMillis + "ms");
+        assertEquals(1, hedgedReader.hedgedCount());
+    }
+
+    @Test
+    void 추가_조회_비율_한도를_넘으면_한_번_더_조회하지_않는다() {
+        // given: 추가 조회를 허용하지 않음
+        hedgedReader = new HedgedReader(0.9, 1, 0.0, 16);
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        String result = hedgedReader.read(() -> {
+            calls.incrementAndGet();
+            sleep(50);
+            return "only";
+        });
+
+        // then
+        assertEquals("only", result);
+        assertEquals(1, calls.get());
+        assertEquals(0, hedgedReader.hedgedCount());
+        assertEquals(1, hedgedReader.budgetExhaustedCount());
+    }
+
+    @Test
+    void 먼저_끝난_조회가_실패해도_다른_조회가_성공하면_결과를_반환한다() {
+        // given: 첫 번째 조회는 늦게 실패하고 두 번째 조회는 성공
+        hedgedReader = new HedgedReader(0.9, 10, 1.0, 16);
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        String result = hedgedReader.read(() -> {
+            if (calls.incrementAndGet() == 1) {
+                sleep(30);
+                throw new IllegalStateException("first failed");
+            }
+            sleep(100);
+            return "second";
+        });
+
+        // then
+        assertEquals("second", result);
+    }
+
+    @Test
+    void 모든_조회가_실패하면_예외를_그대로_던진다() {
+        // given
+        hedgedReader = new HedgedReader(0.9, 10, 1.0, 16);
+
+        // when
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> hedgedReader.read(() -> {
+            sleep(30);
+            throw new IllegalStateException("failed");
+        }));
+
+        // then
+        assertEquals("failed", exception.getMessage());
+    }
+
+    @Test
+    void 최근_조회_시간에_맞춰_기다리는_시간이_조정된다() {
+        // given
+        hedgedReader = new HedgedReader(0.9, 500, 0.1, 16);
+
+        // when: 빠른 조회가 반복됨
+        for (int i = 0; i < 128; i++) {
+            hedgedReader.read(() -> "fast");
+        }
+
+        // then
+        assertTrue(hedgedReader.delayMillis() < 50, "delay: " + hedgedReader.delayMillis() + "ms");
+        assertEquals(128, hedgedReader.readCount());
+        assertTrue(hedgedReader.hedgedCount() <= 128 * 0.1, "hedged: " + hedgedReader.hedgedCount()); // 추가 조회는 10% 이하
+    }
+
+    @Test
+    void 첫_조회는_호출한_스레드에서_실행된다() {
+        // given
+        hedgedReader = new HedgedReader(0.9, 500, 0.1, 16);
+        Thread caller = Thread.currentThread();
+
+        // when
+        Thread reader = hedgedReader.read(Thread::currentThread);
+
+        // then
+        assertSame(caller, reader);
+        assertFalse(Thread.currentThread().isInterrupted());
+    }
+
+    // 헤지 스레드가 1개뿐이면 동시에 늦어진 두 번째 조회는 한 번 더 조회하지 못하고 첫 조회를 기다림
+    @Test
+    void 헤지_스레드가_모두_사용_중이면_한_번_더_조회하지_않는다() throws Exception {
+        // given: 모든 조회가 release 전까지 끝나지 않음
+        hedgedReader = new HedgedReader(0.9, 10, 1.0, 1);
+        CountDownLatch hedgeStarted = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+
+        // when
+        Future<String> first = callers.submit(() -> hedgedReader.read(() -> {
+            if (!Thread.currentThread().getName().startsWith("pool-")) {
+                hedgeStarted.countDown();
+            }
+            return slow("first");
+        }));
+        assertTrue(hedgeStarted.await(1, TimeUnit.SECONDS));
+        Future<String> second = callers.submit(() -> hedgedReader.read(() -> slow("second")));
+        sleep(100);
+        release.countDown();
+
+        // then
+        assertEquals("first", first.get(2, TimeUnit.SECONDS));
+        assertEquals("second", second.get(2, TimeUnit.SECONDS));
+        assertEquals(1, hedgedReader.hedgedCount());
+        assertEquals(1, hedgedReader.hedgeRejectedCount());
+        callers.shutdown();
+    }
+
+    private String slow(String value) {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return value;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package io.hhplus.unit;
+
+import io.hhplus.tdd.point.domain.PointCommand;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.idempotency.IdempotencyKeyConflictException;
+import io.hhplus.tdd.point.idempotency.IdempotencyStore;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IdempotencyStoreUnitTest {
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    private Supplier<UserPoint> charge(long userId, long amount) {
+        return () -> new UserPoint(userId, amount * executions.incrementAndGet(), System.currentTimeMillis());
+    }
+
+    @Test
+    void 같은_키의_재시도는_실행하지_않고_저장된_결과를_반환한다() {
+        // given
+        IdempotencyStore store = new IdempotencyStore(600, 100);
+        PointCommand command = PointCommand.charge(1L, 100L);
+        UserPoint first = store.execute("key-1", command, charge(1L, 100L));
+
+        // when
+        UserPoint retried = store.execute("key-1", command, charge(1L, 100L));
+
+        // then
+        assertEquals(1, executions.get());
+        assertSame(first, retried);
+        assertEquals(1, store.executedCount());
+        assertEquals(1, store.replayedCount());
+    }
+
+    @Test
+    void 키가_없으면_매번_실행한다() {
+        // given
+        IdempotencyStore store = new IdempotencyStore(600, 100);
+        PointCommand command = PointCommand.charge(1L, 100L);
+
+        // when
+        store.execute(null, command, charge(1L, 100L));
+        store.execute(null, command, charge(1L, 100L));
+
+        // then
+        assertEquals(2, executions.get());
+        assertEquals(0, store.size());
+    }
+
+    // 실행 중인 요청과 같은 키로 들어온 요청은 다시 실행하지 않고 결과를 기다림
+    @Test
+    void 동시에_들어온_같은_키의_요청은_한_번만_실행한다() throws InterruptedException {
+        // given
+        IdempotencyStore store = new IdempotencyStore(600, 100);
+        PointCommand command = PointCommand.use(1L, 100L);
+        int threadCount = 10;
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+        List<UserPoint> results = new CopyOnWriteArrayList<>();
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        Supplier<UserPoint> slowAction = () -> {
+            executions.incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new UserPoint(1L, 900L, System.currentTimeMillis());
+        };
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    results.add(store.execute("key-1", command, slowAction));
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        while (store.joinedCount() < threadCount - 1) {
+            TimeUnit.MILLISECONDS.sleep(1);
+        }
+        release.countDown();
+        done.await();
+        executorService.shutdown();
+
+        // then
+        assertEquals(1, executions.get());
+        assertEquals(threadCount, results.size());
+        assertTrue(results.stream().allMatch(result -> result == results.get(0)));
+        assertEquals(threadCount - 1, store.joinedCount());
+    }
+
+    @Test
+    void 같은_키로_다른_요청을_보내면_거절한다() {
+        // given
+        IdempotencyStore store = new IdempotencyStore(600, 100);
+        store.execute("key-1", PointCommand.charge(1L, 100L), charge(1L, 100L));
+
+        // when & then
+        assertThrows(IdempotencyKeyConflictException.class,
+                () -> store.execute("key-1", PointCommand.charge(1L, 200L), charge(1L, 200L)));
+        assertThrows(IdempotencyKeyConflictException.class,
+                () -> store.execute("key-1", PointCommand.use(1L, 100L), charge(1L, 100L)));
+        assertEquals(1, executions.get());
+    }
+
+    // 실패한 요청은 포인트가 변경되지 않았으므로 같은 키로 다시 실행할 수 있음
+    @Test
+    void 실패한_요청은_보관하지_않는다() {
+        // given
+        IdempotencyStore store = new IdempotencyStore(600, 100);
+        PointCommand command = PointCommand.use(1L, 100L);
+        assertThrows(IllegalArgumentException.class, () -> store.execute("key-1", command, () -> {
+            throw new IllegalArgumentException("잔여 포인트가 부족합니다.");
+        }));
+
+        // when
+        UserPoint result = store.execute("key-1", command, charge(1L, 100L));
+
+        // then
+        assertEquals(100L, result.point());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void 최대_개수를_넘으면_오래된_결과부터_제거한다() {
+        // given
+        IdempotencyStore store = new IdempotencyStore(600, 2);
+
+        // when
+        store.execute("key-1", PointCommand.charge(1L, 100L), charge(1L, 100L));
+        store.execute("key-2", PointCommand.charge(1L, 100L), charge(1L, 100L));
+        store.execute("key-3", PointCommand.charge(1L, 100L), charge(1L, 100L));
+
+        // then: 가장 오래된 key-1 이 제거되어 다시 실행됨
+        assertTrue(store.size() <= 2);
+        assertEquals(1, store.evictionCount());
+        store.execute("key-3", PointCommand.charge(1L, 100L), charge(1L, 100L));
+        assertEquals(3, executions.get());
+        store.execute("key-1", PointCommand.charge(1L, 100L), charge(1L, 100L));
+        assertEquals(4, executions.get());
+    }
+
+    // 가장 먼저 들어온 요청이 실행 중이어도 그 뒤의 완료된 결과는 제거됨
+    @Test
+    void 실행_중인_요청이_맨_앞에_있어도_뒤의_결과를_제거한다() {
+        // given
+        IdempotencyStore store = new IdempotencyStore(600, 2);
+        CompletableFuture<UserPoint> stalled = new CompletableFuture<>();
+        CompletableFuture<UserPoint> slow = store.executeAsync("slow", PointCommand.charge(2L, 100L), () -> stalled);
+
+        // when
+        store.execute("key-1", PointCommand.charge(1L, 100L), charge(1L, 100L));
+        store.execute("key-2", PointCommand.charge(1L, 100L), charge(1L, 100L));
+        store.execute("key-3", PointCommand.charge(1L, 100L), charge(1L, 100L));
+
+        // then: 실행 중인 slow 는 남고 key-1, key-2 가 제거됨
+        assertEquals(2, store.size());
+        assertEquals(2, store.evictionCount());
+        assertFalse(slow.isDone());
+
+        stalled.complete(new UserPoint(2L, 100L, System.currentTimeMillis()));
+        assertEquals(100L, slow.join().point());
+        store.execute("key-1", PointCommand.charge(1L, 100L), charge(1L, 100L));
+        assertEquals(4, executions.get());
+    }
+
+    @Test
+    void 보관_시간이_지나면_다시_실행한다() throws InterruptedException {
+        // given
+        IdempotencyStore store = new IdempotencyStore(1, 100);
+        PointCommand command = PointCommand.charge(1L, 100L);
+        store.execute("key-1", command, charge(1L, 100L));
+
+        // when
+        TimeUnit.MILLISECONDS.sleep(1100);
+        store.execute("key-1", command, charge(1L, 100L));
+
+        // then
+        assertEquals(2, executions.get());
+    }
+}
@@ -0,0 +1,70 @@
+package io.hhplus.unit;
+
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.enums.TransactionType;
+import io.hhplus.tdd.point.repository.PointHistoryIndex;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PointHistoryIndexUnitTest {
+
+    private final PointHistoryIndex pointHistoryIndex = new PointHistoryIndex();
+
+    @Test
+    void 유저별로_시간순_내역이_조회된다() {
+        // given: 순서가 어긋난 내역이 섞여서 들어옴
+        pointHistoryIndex.add(new PointHistory(1L, 1L, 100L, TransactionType.CHARGE, 1_000L));
+        pointHistoryIndex.add(new PointHistory(2L, 2L, 100L, TransactionType.CHARGE, 1_500L));
+        pointHistoryIndex.add(new PointHistory(3L, 1L, 50L, TransactionType.USE, 3_000L));
+        pointHistoryIndex.add(new PointHistory(4L, 1L, 70L, TransactionType.USE, 2_000L));
+
+        // when
+        List<PointHistory> pointHistoryList = pointHistoryIndex.findAllByUserId(1L);
+
+        // then
+        assertEquals(3, pointHistoryList.size());
+        assertEquals(List.of(1L, 4L, 3L), pointHistoryList.stream().map(PointHistory::id).toList());
+        assertEquals(4, pointHistoryIndex.size());
+    }
+
+    @Test
+    void 기간에_해당하는_내역만_조회된다() {
+        // given
+        for (long i = 1; i <= 10; i++) {
+            pointHistoryIndex.add(new PointHistory(i, 1L, 100L, TransactionType.CHARGE, i * 1_000L));
+        }
+
+        // when: 3000 이상 6000 미만
+        List<PointHistory> pointHistoryList = pointHistoryIndex.findAllByUserIdBetween(1L, 3_000L, 6_000L);
+
+        // then
+        assertEquals(List.of(3L, 4L, 5L), pointHistoryList.stream().map(PointHistory::id).toList());
+    }
+
+    @Test
+    void 내역이_없는_유저는_빈_목록이_조회된다() {
+        assertTrue(pointHistoryIndex.findAllByUserId(99L).isEmpty());
+        assertTrue(pointHistoryIndex.findAllByUserIdBetween(99L, 0L, Long.MAX_VALUE).isEmpty());
+    }
+
+    @Test
+    void 다른_유저의_내역이_많아도_해당_유저의_내역만_조회된다() {
+        // given: 다른 유저들의 내역 사이에 1번 유저의 내역 5건이 섞여 있음
+        for (long id = 1; id <= 10_000; id++) {
+            long userId = id % 2_000 == 0 ? 1L : 2L + id % 100;
+            pointHistoryIndex.add(new PointHistory(id, userId, 100L, TransactionType.CHARGE, id));
+        }
+
+        // when
+        List<PointHistory> pointHistoryList = pointHistoryIndex.findAllByUserId(1L);
+        List<PointHistory> betweenList = pointHistoryIndex.findAllByUserIdBetween(1L, 4_000L, 8_000L);
+
+        // then
+        assertEquals(List.of(2_000L, 4_000L, 6_000L, 8_000L, 10_000L), pointHistoryList.stream().map(PointHistory::id).toList());
+        assertEquals(List.of(4_000L, 6_000L), betweenList.stream().map(PointHistory::id).toList());
+        assertEquals(10_000, pointHistoryIndex.size());
+    }
+}
@@ -0,0 +1,90 @@
+package io.hhplus.unit;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.enums.TransactionType;
+import io.hhplus.tdd.point.journal.JournalDurability;
+import io.hhplus.tdd.point.journal.JournalRecord;
+import io.hhplus.tdd.point.journal.PointJournal;
+import io.hhplus.tdd.point.journal.PointJournalRecovery;
+import io.hhplus.tdd.point.repository.PointHistoryRepositoryImpl;
+import io.hhplus.tdd.point.repository.UserPointRepositoryImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PointJournalRecoveryUnitTest {
+
+    private static final int RECORD_SIZE = 30;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void 히스토리는_순서대로_복구하고_잔액은_유저별_마지막_값만_저장한다() throws InterruptedException {
+        // given: 1번 유저는 충전/충전/사용, 2번 유저는 충전 후 전부 사용하여 잔액 0
+        PointJournal written = new PointJournal(directory.toString(), RECORD_SIZE * 100, JournalDurability.SYNC, 10);
+        written.append(new JournalRecord(JournalRecord.Kind.HISTORY, 1L, 100L, TransactionType.CHARGE, 1L));
+        written.append(new JournalRecord(JournalRecord.Kind.BALANCE, 1L, 100L, null, 1L));
+        written.append(new JournalRecord(JournalRecord.Kind.HISTORY, 1L, 200L, TransactionType.CHARGE, 2L));
+        written.append(new JournalRecord(JournalRecord.Kind.BALANCE, 1L, 300L, null, 2L));
+        written.append(new JournalRecord(JournalRecord.Kind.HISTORY, 2L, 50L, TransactionType.CHARGE, 3L));
+        written.append(new JournalRecord(JournalRecord.Kind.BALANCE, 2L, 50L, null, 3L));
+        written.append(new JournalRecord(JournalRecord.Kind.HISTORY, 1L, 150L, TransactionType.USE, 4L));
+        written.append(new JournalRecord(JournalRecord.Kind.BALANCE, 1L, 150L, null, 4L));
+        written.append(new JournalRecord(JournalRecord.Kind.HISTORY, 2L, 50L, TransactionType.USE, 5L));
+        written.append(new JournalRecord(JournalRecord.Kind.BALANCE, 2L, 0L, null, 5L));
+        written.close();
+
+        PointJournal pointJournal = new PointJournal(directory.toString(), RECORD_SIZE * 100, JournalDurability.SYNC, 10);
+        UserPointRepositoryImpl userPointRepository = new UserPointRepositoryImpl(new UserPointTable());
+        PointHistoryRepositoryImpl pointHistoryRepository = new PointHistoryRepositoryImpl(new PointHistoryTable());
+
+        // when
+        new PointJournalRecovery(pointJournal, userPointRepository, pointHistoryRepository).recover();
+
+        // then: id 는 저널 순서대로 다시 부여되고, 복구 중의 저장은 저널에 다시 기록되지 않음
+        assertEquals(List.of(
+                new PointHistory(1L, 1L, 100L, TransactionType.CHARGE, 1L),
+                new PointHistory(2L, 1L, 200L, TransactionType.CHARGE, 2L),
+                new PointHistory(4L, 1L, 150L, TransactionType.USE, 4L)
+        ), pointHistoryRepository.findAllByUserId(1L));
+        assertEquals(List.of(3L, 5L), pointHistoryRepository.findAllByUserId(2L).stream().map(PointHistory::id).toList());
+        assertEquals(150L, userPointRepository.findById(1L).point());
+        assertEquals(0L, userPointRepository.findById(2L).point());
+        assertEquals(10, readAll(pointJournal).size());
+        pointJournal.close();
+    }
+
+    // 복구한 내역은 테이블을 거치지 않으므로, 이후 테이블에 저장한 내역의 id 가 복구한 내역 뒤로 이어져야 함
+    @Test
+    void 복구_후_저장한_내역의_id_는_복구한_내역_뒤로_이어진다() {
+        // given
+        PointHistoryRepositoryImpl pointHistoryRepository = new PointHistoryRepositoryImpl(new PointHistoryTable());
+        pointHistoryRepository.restore(1L, 100L, TransactionType.CHARGE, 1L);
+        pointHistoryRepository.restore(2L, 200L, TransactionType.CHARGE, 2L);
+
+        // when
+        PointHistory saved = pointHistoryRepository.save(1L, 50L, TransactionType.USE, 3L);
+
+        // then
+        assertEquals(3L, saved.id());
+        assertEquals(3L, pointHistoryRepository.lastInsertedId());
+        assertEquals(List.of(1L, 3L), pointHistoryRepository.findAllByUserId(1L).stream().map(PointHistory::id).toList());
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> pointHistoryRepository.restore(1L, 10L, TransactionType.CHARGE, 4L));
+        assertEquals("테이블에 저장된 내역이 있으면 저널을 복구할 수 없습니다.", exception.getMessage());
+    }
+
+    private List<JournalRecord> readAll(PointJournal pointJournal) {
+        List<JournalRecord> records = new ArrayList<>();
+        pointJournal.forEachRecord(records::add);
+        return records;
+    }
+}
@@ -0,0 +1,172 @@
+package io.hhplus.unit;
+
+import io.hhplus.tdd.point.enums.TransactionType;
+import io.hhplus.tdd.point.journal.JournalDurability;
+import io.hhplus.tdd.point.journal.JournalRecord;
+import io.hhplus.tdd.point.journal.PointJournal;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PointJournalUnitTest {
+
+    private static final int RECORD_SIZE = 30;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void 다시_열면_기록한_순서대로_읽고_이어서_기록한다() throws InterruptedException {
+        // given
+        PointJournal pointJournal = new PointJournal(directory.toString(), RECORD_SIZE * 100, JournalDurability.GROUP, 10);
+        pointJournal.append(new JournalRecord(JournalRecord.Kind.HISTORY, 1L, 100L, TransactionType.CHARGE, 1L));
+        pointJournal.append(new JournalRecord(JournalRecord.Kind.BALANCE, 1L, 100L, null, 1L));
+        pointJournal.close();
+
+        // when
+        PointJournal reopened = new PointJournal(directory.toString(), RECORD_SIZE * 100, JournalDurability.GROUP, 10);
+        reopened.append(new JournalRecord(JournalRecord.Kind.HISTORY, 1L, 30L, TransactionType.USE, 2L));
+        List<JournalRecord> records = readAll(reopened);
+        reopened.close();
+
+        // then
+        assertEquals(List.of(
+                new JournalRecord(JournalRecord.Kind.HISTORY, 1L, 100L, TransactionType.CHARGE, 1L),
+                new JournalRecord(JournalRecord.Kind.BALANCE, 1L, 100L, null, 1L),
+                new JournalRecord(JournalRecord.Kind.HISTORY, 1L, 30L, TransactionType.USE, 2L)
+        ), records);
+    }
+
+    @Test
+    void 세그먼트가_가득_차면_다음_세그먼트에_이어서_기록한다() throws InterruptedException, IOException {
+        // given: 세그먼트당 레코드 10건
+        PointJournal pointJournal = new PointJournal(directory.toString(), RECORD_SIZE * 10, JournalDurability.NONE, 10);
+
+        // when
+        for (int i = 0; i < 25; i++) {
+            pointJournal.append(new JournalRecord(JournalRecord.Kind.HISTORY, 1L, i, TransactionType.CHARGE, i));
+        }
+        List<JournalRecord> records = readAll(pointJournal);
+        pointJournal.close();
+
+        // then
+        assertEquals(3, segmentCount());
+        assertEquals(25, records.size());
+        for (int i = 0; i < 25; i++) {
+            assertEquals(i, records.get(i).amount());
+        }
+    }
+
+    @Test
+    void 중간에_끊긴_레코드는_버리고_그_자리부터_이어서_기록한다() throws InterruptedException, IOException {
+        // given: 두 번째 레코드의 일부가 손상된 저널
+        PointJournal pointJournal = new PointJournal(directory.toString(), RECORD_SIZE * 100, JournalDurability.SYNC, 10);
+        pointJournal.append(new JournalRecord(JournalRecord.Kind.HISTORY, 1L, 100L, TransactionType.CHARGE, 1L));
+        pointJournal.append(new JournalRecord(JournalRecord.Kind.HISTORY, 1L, 200L, TransactionType.CHARGE, 2L));
+        pointJournal.close();
+        try (Stream<Path> paths = Files.list(directory);
+             RandomAccessFile file = new RandomAccessFile(paths.findFirst().orElseThrow().toFile(), "rw")) {
+            file.seek(RECORD_SIZE + 10);
+            file.write(0x7F);
+        }
+
+        // when
+        PointJournal reopened = new PointJournal(directory.toString(), RECORD_SIZE * 100, JournalDurability.SYNC, 10);
+        reopened.append(new JournalRecord(JournalRecord.Kind.HISTORY, 1L, 300L, TransactionType.CHARGE, 3L));
+        List<JournalRecord> records = readAll(reopened);
+        reopened.close();
+
+        // then
+        assertEquals(List.of(100L, 300L), records.stream().map(JournalRecord::amount).toList());
+    }
+
+    @Test
+    void 그룹_커밋_모드에서_동시에_기록한_내역이_모두_남는다() throws InterruptedException {
+        // given
+        PointJournal pointJournal = new PointJournal(directory.toString(), RECORD_SIZE * 1000, JournalDurability.GROUP, 10);
+        int threadCount = 8;
+        int recordsPerThread = 200;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        for (int t = 0; t < threadCount; t++) {
+            long userId = t;
+            executorService.submit(() -> {
+                for (int i = 0; i < recordsPerThread; i++) {
+                    pointJournal.append(new JournalRecord(JournalRecord.Kind.HISTORY, userId, 1L, TransactionType.CHARGE, i));
+                }
+                latch.countDown();
+            });
+        }
+        latch.await();
+        pointJournal.close();
+
+        // then
+        PointJournal reopened = new PointJournal(directory.toString(), RECORD_SIZE * 1000, JournalDurability.GROUP, 10);
+        assertEquals(threadCount * recordsPerThread, readAll(reopened).size());
+        reopened.close();
+        executorService.shutdown();
+    }
+
+    @Test
+    void replay_중에는_저널에_기록하지_않는다() throws InterruptedException {
+        // given
+        PointJournal pointJournal = new PointJournal(directory.toString(), RECORD_SIZE * 100, JournalDurability.NONE, 10);
+
+        // when
+        pointJournal.withoutJournaling(() ->
+                pointJournal.append(new JournalRecord(JournalRecord.Kind.BALANCE, 1L, 100L, null, 1L)));
+
+        // then
+        assertEquals(0, readAll(pointJournal).size());
+        pointJournal.close();
+    }
+
+    // 호출하는 쪽의 락 안에서는 기록만 하고, 락을 놓은 뒤 반영을 기다림
+    @Test
+    void 기록만_먼저_하고_디스크_반영은_나중에_기다린다() throws InterruptedException {
+        // given
+        PointJournal pointJournal = new PointJournal(directory.toString(), RECORD_SIZE * 100, JournalDurability.GROUP, 10);
+
+        // when
+        long first = pointJournal.appendWithoutWaiting(new JournalRecord(JournalRecord.Kind.HISTORY, 1L, 100L, TransactionType.CHARGE, 1L));
+        long second = pointJournal.appendWithoutWaiting(new JournalRecord(JournalRecord.Kind.HISTORY, 1L, 200L, TransactionType.CHARGE, 2L));
+        pointJournal.awaitDurable(second);
+        long[] replayed = new long[1];
+        pointJournal.withoutJournaling(() ->
+                replayed[0] = pointJournal.appendWithoutWaiting(new JournalRecord(JournalRecord.Kind.BALANCE, 1L, 300L, null, 3L)));
+        pointJournal.awaitDurable(replayed[0]); // replay 중에 받은 0 은 기다리지 않음
+
+        // then
+        assertEquals(1L, first);
+        assertEquals(2L, second);
+        assertEquals(0L, replayed[0]);
+        assertEquals(List.of(100L, 200L), readAll(pointJournal).stream().map(JournalRecord::amount).toList());
+        pointJournal.close();
+    }
+
+    private List<JournalRecord> readAll(PointJournal pointJournal) {
+        List<JournalRecord> records = new ArrayList<>();
+        pointJournal.forEachRecord(records::add);
+        return records;
+    }
+
+    private long segmentCount() throws IOException {
+        try (Stream<Path> paths = Files.list(directory)) {
+            return paths.count();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package io.hhplus.unit;
+
+import io.hhplus.tdd.point.domain.PointValidationException;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.lock.PointServiceLock;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PointMetricsUnitTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        // 전역 레지스트리에 연결해야 PointMetrics 에 미리 등록된 지표가 기록됨
+        Metrics.globalRegistry.add(registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Metrics.globalRegistry.remove(registry);
+    }
+
+    @Test
+    void 락_대기시간은_획득마다_점유시간은_가장_바깥_구간만_기록된다() {
+        // given
+        PointServiceLock pointServiceLock = new PointServiceLock();
+
+        // when
+        pointServiceLock.lock(1L);
+        pointServiceLock.lock(1L); // 재진입
+        pointServiceLock.unLock(1L);
+        pointServiceLock.unLock(1L);
+
+        // then
+        assertEquals(2, registry.get("point.lock.wait").timer().count());
+        assertEquals(1, registry.get("point.lock.hold").timer().count());
+    }
+
+    @Test
+    void 검증에_실패하면_사유별로_실패_횟수가_기록된다() {
+        // given
+        UserPoint userPoint = new UserPoint(1L, 100L, System.currentTimeMillis());
+
+        // when
+        PointValidationException e = assertThrows(PointValidationException.class, () -> userPoint.subtractPoints(1000L));
+        assertThrows(IllegalArgumentException.class, () -> userPoint.addPoints(0L));
+
+        // then
+        assertEquals(PointValidationException.Reason.INSUFFICIENT_POINT, e.reason());
+        assertEquals(1, registry.get("point.validation.failures").tag("reason", "insufficient_point").counter().count());
+        assertEquals(1, registry.get("point.validation.failures").tag("reason", "invalid_charge_amount").counter().count());
+        assertEquals(0, registry.get("point.validation.failures").tag("reason", "charge_limit_exceeded").counter().count());
+    }
+}
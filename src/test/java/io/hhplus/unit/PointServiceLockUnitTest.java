@@ -0,0 +1,191 @@
+package io.hhplus.unit;
+
+import io.hhplus.tdd.point.deadline.RequestDeadline;
+import io.hhplus.tdd.point.deadline.RequestDeadlineExceededException;
+import io.hhplus.tdd.point.lock.PointServiceLock;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PointServiceLockUnitTest {
+
+    private final PointServiceLock pointServiceLock = new PointServiceLock();
+
+    @Test
+    void 같은_유저의_락은_동시에_하나의_스레드만_획득한다() throws InterruptedException {
+        // given
+        long userId = 1L;
+        int threadCount = 10;
+        AtomicInteger inside = new AtomicInteger();
+        AtomicBoolean overlapped = new AtomicBoolean(false);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                pointServiceLock.lock(userId);
+                try {
+                    if (inside.incrementAndGet() > 1) {
+                        overlapped.set(true);
+                    }
+                    TimeUnit.MILLISECONDS.sleep(10);
+                    inside.decrementAndGet();
+                } catch (InterruptedException ignored) {
+                } finally {
+                    pointServiceLock.unLock(userId);
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+
+        // then
+        assertFalse(overlapped.get());
+        executorService.shutdown();
+    }
+
+    @Test
+    void 다른_유저의_락은_서로를_기다리지_않는다() throws InterruptedException {
+        // given: 1번 유저의 락을 메인 스레드가 잡고 있음
+        pointServiceLock.lock(1L);
+        CountDownLatch acquired = new CountDownLatch(1);
+
+        // when: 다른 스레드가 2번 유저의 락을 요청
+        Thread other = new Thread(() -> {
+            pointServiceLock.lock(2L);
+            acquired.countDown();
+            pointServiceLock.unLock(2L);
+        });
+        other.start();
+
+        // then: 1번 유저의 락이 풀리지 않아도 2번 유저의 락은 바로 획득됨
+        assertTrue(acquired.await(1, TimeUnit.SECONDS));
+        pointServiceLock.unLock(1L);
+        other.join();
+    }
+
+    @Test
+    void 사용이_끝난_유저의_락은_회수된다() {
+        // given
+        pointServiceLock.lock(1L);
+        pointServiceLock.lock(1L); // 재진입
+        pointServiceLock.lock(2L);
+        assertEquals(2, pointServiceLock.activeLockCount());
+
+        // when
+        pointServiceLock.unLock(1L);
+        pointServiceLock.unLock(2L);
+
+        // then: 재진입한 1번 유저의 락은 아직 남아있음
+        assertEquals(1, pointServiceLock.activeLockCount());
+
+        pointServiceLock.unLock(1L);
+        assertEquals(0, pointServiceLock.activeLockCount());
+    }
+
+    @Test
+    void 잠금되지_않은_유저의_락을_해제하면_예외가_발생한다() {
+        assertThrows(IllegalMonitorStateException.class, () -> pointServiceLock.unLock(99L));
+    }
+
+    @Test
+    void 제한_시간_안에_락을_얻지_못하면_false_를_반환하고_참조를_되돌린다() throws Exception {
+        // given: 메인 스레드가 1번 유저의 락을 잡고 있음
+        pointServiceLock.lock(1L);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+        // when
+        boolean acquired = executorService.submit(() -> pointServiceLock.tryLock(1L, 50, TimeUnit.MILLISECONDS)).get();
+
+        // then: 실패한 대기자의 참조가 남지 않아 해제 후 락이 회수됨
+        assertFalse(acquired);
+        pointServiceLock.unLock(1L);
+        assertEquals(0, pointServiceLock.activeLockCount());
+        executorService.shutdown();
+    }
+
+    @Test
+    void 제한_시간_안에_락을_얻으면_true_를_반환한다() throws InterruptedException {
+        // when
+        boolean acquired = pointServiceLock.tryLock(1L, 50, TimeUnit.MILLISECONDS);
+
+        // then
+        assertTrue(acquired);
+        pointServiceLock.unLock(1L);
+        assertEquals(0, pointServiceLock.activeLockCount());
+    }
+
+    @Test
+    void 요청_기한이_지나면_락_대기를_포기한다() throws Exception {
+        // given
+        pointServiceLock.lock(1L);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+        // when
+        Future<?> future = executorService.submit(() -> pointServiceLock.lock(1L, RequestDeadline.after(50)));
+
+        // then
+        ExecutionException exception = assertThrows(ExecutionException.class, future::get);
+        assertInstanceOf(RequestDeadlineExceededException.class, exception.getCause());
+        assertEquals(RequestDeadlineExceededException.Stage.LOCK_WAIT,
+                ((RequestDeadlineExceededException) exception.getCause()).stage());
+        pointServiceLock.unLock(1L);
+        assertEquals(0, pointServiceLock.activeLockCount());
+        executorService.shutdown();
+    }
+
+    @Test
+    void 두_유저의_락을_반대_순서로_요청해도_교착_상태가_생기지_않는다() throws Exception {
+        // given
+        int iterations = 1000;
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+        // when: 한 스레드는 (1, 2), 다른 스레드는 (2, 1) 순서로 반복해서 요청
+        Future<?> forward = executorService.submit(() -> {
+            for (int i = 0; i < iterations; i++) {
+                pointServiceLock.lock(1L, 2L, null);
+                pointServiceLock.unLock(1L, 2L);
+            }
+        });
+        Future<?> backward = executorService.submit(() -> {
+            for (int i = 0; i < iterations; i++) {
+                pointServiceLock.lock(2L, 1L, null);
+                pointServiceLock.unLock(2L, 1L);
+            }
+        });
+
+        // then
+        forward.get(5, TimeUnit.SECONDS);
+        backward.get(5, TimeUnit.SECONDS);
+        assertEquals(0, pointServiceLock.activeLockCount());
+        executorService.shutdown();
+    }
+
+    @Test
+    void 두_번째_락을_기한_안에_얻지_못하면_먼저_잡은_락도_해제한다() throws Exception {
+        // given: 2번 유저의 락을 메인 스레드가 잡고 있음
+        pointServiceLock.lock(2L);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+        // when
+        Future<?> future = executorService.submit(() -> pointServiceLock.lock(1L, 2L, RequestDeadline.after(50)));
+
+        // then: 1번 유저의 락은 남아있지 않음
+        ExecutionException exception = assertThrows(ExecutionException.class, future::get);
+        assertInstanceOf(RequestDeadlineExceededException.class, exception.getCause());
+        pointServiceLock.unLock(2L);
+        assertEquals(0, pointServiceLock.activeLockCount());
+        executorService.shutdown();
+    }
+}
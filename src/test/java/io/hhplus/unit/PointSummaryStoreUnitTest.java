@@ -0,0 +1,222 @@
+package io.hhplus.unit;
+
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.PointSummary;
+import io.hhplus.tdd.point.enums.TransactionType;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointSummaryStore;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PointSummaryStoreUnitTest {
+
+    // 테이블의 sleep 없이 저장된 순서대로 내역을 돌려주는 히스토리 저장소
+    private static class InMemoryPointHistoryRepository implements PointHistoryRepository {
+        private final List<PointHistory> histories = new CopyOnWriteArrayList<>();
+        private final AtomicLong cursor = new AtomicLong();
+
+        @Override
+        public PointHistory save(long userId, long amount, TransactionType type, long updateMillis) {
+            PointHistory pointHistory = new PointHistory(cursor.incrementAndGet(), userId, amount, type, updateMillis);
+            histories.add(pointHistory);
+            return pointHistory;
+        }
+
+        @Override
+        public List<PointHistory> findAllByUserId(long userId) {
+            return histories.stream().filter(pointHistory -> pointHistory.userId() == userId).toList();
+        }
+    }
+
+    private final InMemoryPointHistoryRepository pointHistoryRepository = new InMemoryPointHistoryRepository();
+
+    private static long millisOf(LocalDate date) {
+        return date.atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli() + 1000L;
+    }
+
+    // 서비스와 같은 순서로 히스토리를 저장하고 집계에 기록
+    private void write(PointSummaryStore store, long userId, TransactionType type, long amount, long updateMillis) {
+        store.beginWrite(userId);
+        try {
+            pointHistoryRepository.save(userId, amount, type, updateMillis);
+            store.record(userId, type, amount, updateMillis);
+        } finally {
+            store.endWrite(userId);
+        }
+    }
+
+    @Test
+    void 충전과_사용이_전체_합계와_일자별_합계에_반영된다() {
+        // given
+        PointSummaryStore store = new PointSummaryStore(7, 100, pointHistoryRepository);
+        LocalDate today = LocalDate.now();
+        store.find(1L, 0); // 집계를 보관한 상태에서 기록
+
+        // when
+        write(store, 1L, TransactionType.CHARGE, 1000L, millisOf(today));
+        write(store, 1L, TransactionType.CHARGE, 500L, millisOf(today.minusDays(1)));
+        write(store, 1L, TransactionType.USE, 300L, millisOf(today));
+        PointSummary result = store.find(1L, 3);
+
+        // then
+        assertEquals(1500L, result.totalCharged());
+        assertEquals(300L, result.totalUsed());
+        assertEquals(2L, result.chargeCount());
+        assertEquals(1L, result.useCount());
+        assertEquals(3, result.daily().size());
+        assertEquals(today.minusDays(2), result.daily().get(0).date());
+        assertEquals(0L, result.daily().get(0).charged());
+        assertEquals(500L, result.daily().get(1).charged());
+        assertEquals(1000L, result.daily().get(2).charged());
+        assertEquals(300L, result.daily().get(2).used());
+    }
+
+    @Test
+    void 기록이_없는_유저는_0으로_조회된다() {
+        // given
+        PointSummaryStore store = new PointSummaryStore(7, 100, pointHistoryRepository);
+
+        // when
+        PointSummary result = store.find(99L, 7);
+
+        // then
+        assertEquals(0L, result.totalCharged());
+        assertEquals(0L, result.chargeCount());
+        assertEquals(7, result.daily().size());
+        assertTrue(result.daily().stream().allMatch(daily -> daily.charged() == 0 && daily.used() == 0));
+    }
+
+    // 보관 기간이 지난 날짜의 합계는 제거되고, 보관 기간이 지난 기록은 전체 합계에만 반영
+    @Test
+    void 보관_기간이_지난_날짜는_일자별_합계에서_제외된다() {
+        // given
+        PointSummaryStore store = new PointSummaryStore(3, 100, pointHistoryRepository);
+        LocalDate today = LocalDate.now();
+        store.find(1L, 0);
+        write(store, 1L, TransactionType.CHARGE, 100L, millisOf(today.minusDays(3)));
+
+        // when
+        write(store, 1L, TransactionType.CHARGE, 200L, millisOf(today));
+        write(store, 1L, TransactionType.CHARGE, 400L, millisOf(today.minusDays(3)));
+        PointSummary result = store.find(1L, 3);
+
+        // then
+        assertEquals(700L, result.totalCharged());
+        assertEquals(3L, result.chargeCount());
+        assertEquals(0L, result.daily().get(0).charged());
+        assertEquals(200L, result.daily().get(2).charged());
+        assertEquals(1L, result.daily().get(2).chargeCount());
+    }
+
+    @Test
+    void 보관_일수를_넘는_조회는_실패한다() {
+        // given
+        PointSummaryStore store = new PointSummaryStore(7, 100, pointHistoryRepository);
+
+        // when & then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> store.find(1L, 8));
+        assertEquals("조회 일수는 0 이상 7 이하여야 합니다.", exception.getMessage());
+    }
+
+    @Test
+    void 동시_기록_후_합계가_누락되지_않는다() throws InterruptedException {
+        // given
+        PointSummaryStore store = new PointSummaryStore(7, 100, pointHistoryRepository);
+        store.find(1L, 0);
+        int threadCount = 8;
+        int recordsPerThread = 1000;
+        long now = System.currentTimeMillis();
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    for (int j = 0; j < recordsPerThread; j++) {
+                        write(store, 1L, TransactionType.CHARGE, 10L, now);
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        PointSummary result = store.find(1L, 1);
+        assertEquals(threadCount * recordsPerThread * 10L, result.totalCharged());
+        assertEquals((long) threadCount * recordsPerThread, result.daily().get(0).chargeCount());
+    }
+
+    // 재시작하여 집계가 비어 있어도 처음 조회할 때 히스토리로 다시 집계
+    @Test
+    void 처음_조회할_때_히스토리로_다시_집계한다() {
+        // given
+        LocalDate today = LocalDate.now();
+        pointHistoryRepository.save(1L, 1000L, TransactionType.CHARGE, millisOf(today.minusDays(1)));
+        pointHistoryRepository.save(1L, 300L, TransactionType.USE, millisOf(today));
+        PointSummaryStore store = new PointSummaryStore(7, 100, pointHistoryRepository);
+
+        // when
+        PointSummary result = store.find(1L, 2);
+
+        // then
+        assertEquals(1000L, result.totalCharged());
+        assertEquals(300L, result.totalUsed());
+        assertEquals(1000L, result.daily().get(0).charged());
+        assertEquals(300L, result.daily().get(1).used());
+    }
+
+    // 최대 유저 수를 넘으면 밀려나고, 밀려난 뒤의 기록도 다시 집계할 때 히스토리에서 반영
+    @Test
+    void 밀려난_유저는_다시_조회할_때_히스토리로_집계한다() {
+        // given
+        PointSummaryStore store = new PointSummaryStore(7, 1, pointHistoryRepository);
+        long now = System.currentTimeMillis();
+        store.find(1L, 0);
+        write(store, 1L, TransactionType.CHARGE, 100L, now);
+        store.find(2L, 0);
+
+        // when
+        write(store, 1L, TransactionType.CHARGE, 200L, now);
+        PointSummary result = store.find(1L, 1);
+
+        // then
+        assertEquals(1, store.size());
+        assertEquals(300L, result.totalCharged());
+        assertEquals(2L, result.chargeCount());
+    }
+
+    // 쓰기 도중에 다시 집계했다면 그 결과를 보관하지 않아 같은 내역이 두 번 집계되지 않음
+    @Test
+    void 쓰기_도중에_다시_집계한_결과는_보관하지_않는다() {
+        // given
+        PointSummaryStore store = new PointSummaryStore(7, 100, pointHistoryRepository);
+        long now = System.currentTimeMillis();
+
+        // when: 히스토리를 저장한 뒤 집계에 기록하기 전에 조회
+        store.beginWrite(1L);
+        pointHistoryRepository.save(1L, 100L, TransactionType.CHARGE, now);
+        PointSummary during = store.find(1L, 1);
+        store.record(1L, TransactionType.CHARGE, 100L, now);
+        store.endWrite(1L);
+        PointSummary after = store.find(1L, 1);
+
+        // then
+        assertEquals(100L, during.totalCharged());
+        assertEquals(100L, after.totalCharged());
+        assertEquals(1L, after.chargeCount());
+    }
+}
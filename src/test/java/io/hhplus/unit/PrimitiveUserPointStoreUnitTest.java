@@ -0,0 +1,107 @@
+package io.hhplus.unit;
+
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.repository.PrimitiveUserPointStore;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PrimitiveUserPointStoreUnitTest {
+
+    @Test
+    void 저장한_포인트를_조회한다() {
+        // given
+        PrimitiveUserPointStore store = new PrimitiveUserPointStore(16);
+
+        // when
+        store.insertOrUpdate(1L, 100L);
+        store.insertOrUpdate(1L, 300L);
+        UserPoint result = store.findById(1L);
+
+        // then
+        assertEquals(1L, result.id());
+        assertEquals(300L, result.point());
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void 저장되지_않은_유저는_0_포인트로_조회된다() {
+        // given
+        PrimitiveUserPointStore store = new PrimitiveUserPointStore(16);
+
+        // when
+        UserPoint result = store.findById(99L);
+
+        // then
+        assertEquals(99L, result.id());
+        assertEquals(0L, result.point());
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void 용량을_넘으면_확장하고_기존_포인트를_유지한다() {
+        // given
+        PrimitiveUserPointStore store = new PrimitiveUserPointStore(4);
+        int initialCapacity = store.capacity();
+
+        // when
+        for (long id = 0; id < 10_000; id++) {
+            store.insertOrUpdate(id, id * 10);
+        }
+
+        // then
+        assertTrue(store.capacity() > initialCapacity);
+        assertEquals(10_000, store.size());
+        for (long id = 0; id < 10_000; id++) {
+            assertEquals(id * 10, store.findById(id).point());
+        }
+    }
+
+    @Test
+    void 빈_슬롯_표시값과_같은_ID_도_저장된다() {
+        // given
+        PrimitiveUserPointStore store = new PrimitiveUserPointStore(16);
+
+        // when
+        store.insertOrUpdate(Long.MIN_VALUE, 500L);
+
+        // then
+        assertEquals(500L, store.findById(Long.MIN_VALUE).point());
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void 확장_중에도_이미_저장된_포인트는_항상_조회된다() throws InterruptedException {
+        // given: 1번 유저를 저장해두고 다른 스레드가 계속 유저를 추가하여 확장을 일으킴
+        PrimitiveUserPointStore store = new PrimitiveUserPointStore(4);
+        store.insertOrUpdate(1L, 1000L);
+        AtomicBoolean wrong = new AtomicBoolean(false);
+        CountDownLatch done = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+        // when
+        executorService.submit(() -> {
+            for (long id = 2; id < 200_000; id++) {
+                store.insertOrUpdate(id, id);
+            }
+            done.countDown();
+        });
+        executorService.submit(() -> {
+            while (done.getCount() > 0) {
+                if (store.findById(1L).point() != 1000L) {
+                    wrong.set(true);
+                }
+            }
+        });
+        done.await();
+        executorService.shutdown();
+
+        // then
+        assertFalse(wrong.get());
+    }
+}
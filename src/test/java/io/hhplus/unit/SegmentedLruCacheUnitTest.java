@@ -0,0 +1,65 @@
+package io.hhplus.unit;
+
+import io.hhplus.tdd.point.cache.SegmentedLruCache;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SegmentedLruCacheUnitTest {
+
+    @Test
+    void 최대_크기를_넘으면_항목이_제거된다() {
+        // given
+        SegmentedLruCache<Long, String> cache = new SegmentedLruCache<>(3);
+
+        // when
+        for (long i = 1; i <= 5; i++) {
+            cache.put(i, "value" + i);
+        }
+
+        // then: 가장 먼저 들어온 두 항목이 제거됨
+        assertEquals(3, cache.size());
+        assertEquals(2, cache.evictionCount());
+        assertNull(cache.get(1L));
+        assertNull(cache.get(2L));
+        assertEquals("value5", cache.get(5L));
+    }
+
+    @Test
+    void 자주_조회되는_항목은_한번씩만_조회되는_항목에_밀려나지_않는다() {
+        // given
+        SegmentedLruCache<Long, String> cache = new SegmentedLruCache<>(10);
+        cache.put(1L, "hot");
+        cache.get(1L); // 두 번째 조회로 protected 구간 승격
+
+        // when: 캐시 크기보다 많은 항목을 한 번씩만 넣음
+        for (long i = 100; i < 200; i++) {
+            cache.put(i, "cold" + i);
+        }
+
+        // then
+        assertEquals("hot", cache.get(1L));
+    }
+
+    @Test
+    void 조회_결과에_따라_히트와_미스가_집계된다() {
+        // given
+        SegmentedLruCache<Long, String> cache = new SegmentedLruCache<>(10);
+        cache.put(1L, "value");
+
+        // when
+        cache.get(1L);
+        cache.get(1L);
+        cache.get(2L);
+
+        // then
+        assertEquals(2, cache.hitCount());
+        assertEquals(1, cache.missCount());
+    }
+
+    @Test
+    void 캐시_크기가_0_이하면_예외가_발생한다() {
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> new SegmentedLruCache<Long, String>(0));
+        assertEquals("캐시 크기는 0보다 커야 합니다.", exception.getMessage());
+    }
+}
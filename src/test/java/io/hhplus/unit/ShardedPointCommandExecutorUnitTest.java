@@ -0,0 +1,116 @@
+package io.hhplus.unit;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.deadline.RequestDeadline;
+import io.hhplus.tdd.point.deadline.RequestDeadlineExceededException;
+import io.hhplus.tdd.point.domain.PointCommand;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.executor.ShardedPointCommandExecutor;
+import io.hhplus.tdd.point.repository.PointHistoryRepositoryImpl;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ShardedPointCommandExecutorUnitTest {
+
+    private static final long BLOCKED_USER_ID = 1L;
+
+    private final CountDownLatch started = new CountDownLatch(1); // 샤드가 막힌 유저의 명령을 실행하기 시작함
+    private final CountDownLatch release = new CountDownLatch(1); // 막힌 유저의 명령을 계속 진행
+    private final ConcurrentHashMap<Long, Long> points = new ConcurrentHashMap<>();
+    private volatile boolean shardDaemon;
+
+    // BLOCKED_USER_ID 조회는 release 될 때까지 샤드 스레드를 붙잡아 둠
+    private final UserPointRepository userPointRepository = new UserPointRepository() {
+        @Override
+        public UserPoint findById(Long id) {
+            if (id == BLOCKED_USER_ID) {
+                shardDaemon = Thread.currentThread().isDaemon();
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return new UserPoint(id, points.getOrDefault(id, 0L), 0L);
+        }
+
+        @Override
+        public UserPoint saveOrUpdate(Long id, Long amount) {
+            points.put(id, amount);
+            return new UserPoint(id, amount, 0L);
+        }
+    };
+
+    private ShardedPointCommandExecutor executor;
+    private ExecutorService callers;
+
+    @BeforeEach
+    void setUp() {
+        // 샤드 하나, 대기열 한 칸
+        executor = new ShardedPointCommandExecutor(userPointRepository, new PointHistoryRepositoryImpl(new PointHistoryTable()), 1, 1);
+        callers = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        callers.shutdown();
+        executor.shutdown();
+    }
+
+    @Test
+    void 기한까지_샤드가_꺼내지_않은_명령은_취소하고_포기한다() throws Exception {
+        // given: 샤드가 다른 명령을 처리하느라 막혀 있음
+        Future<UserPoint> blocked = callers.submit(() -> executor.execute(PointCommand.charge(BLOCKED_USER_ID, 100L), null));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        long userId = 2L;
+
+        // when: 기한까지만 기다리고 포기
+        long startNanos = System.nanoTime();
+        RequestDeadlineExceededException exception = assertThrows(RequestDeadlineExceededException.class,
+                () -> executor.execute(PointCommand.charge(userId, 500L), RequestDeadline.after(100)));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+        // then: 막힌 명령이 끝난 뒤에도 포기한 명령은 실행되지 않아야 함
+        assertEquals(RequestDeadlineExceededException.Stage.LOCK_WAIT, exception.stage());
+        assertTrue(elapsedMillis < 1_000L, "기한이 지나면 바로 반환되어야 합니다. elapsed:" + elapsedMillis);
+        release.countDown();
+        assertEquals(100L, blocked.get(5, TimeUnit.SECONDS).point());
+        assertEquals(0, executor.queueSize(0));
+        assertFalse(points.containsKey(userId));
+    }
+
+    @Test
+    void 샤드_대기열이_가득_차면_거절한다() throws Exception {
+        // given: 샤드가 막혀 있고 대기열 한 칸도 차 있음
+        Future<UserPoint> blocked = callers.submit(() -> executor.execute(PointCommand.charge(BLOCKED_USER_ID, 100L), null));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        Future<UserPoint> queued = callers.submit(() -> executor.execute(PointCommand.charge(2L, 100L), null));
+        while (executor.queueSize(0) == 0) {
+            TimeUnit.MILLISECONDS.sleep(1);
+        }
+
+        // when & then
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(PointCommand.charge(3L, 100L), null));
+        assertTrue(shardDaemon, "샤드 스레드는 데몬 스레드여야 합니다.");
+
+        // 막힌 명령이 끝나면 대기열의 명령은 그대로 처리됨
+        release.countDown();
+        assertEquals(100L, blocked.get(5, TimeUnit.SECONDS).point());
+        assertEquals(100L, queued.get(5, TimeUnit.SECONDS).point());
+        assertFalse(points.containsKey(3L));
+    }
+}
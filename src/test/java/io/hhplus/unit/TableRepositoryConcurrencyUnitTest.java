@@ -0,0 +1,90 @@
+package io.hhplus.unit;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.enums.TransactionType;
+import io.hhplus.tdd.point.repository.PointHistoryRepositoryImpl;
+import io.hhplus.tdd.point.repository.UserPointRepositoryImpl;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 유저별 락은 서로 다른 유저의 저장을 동시에 테이블로 보내므로, 저장소가 테이블 접근을 직렬화하는지 확인
+public class TableRepositoryConcurrencyUnitTest {
+
+    private static final int USER_COUNT = 20;
+    private static final int WRITES_PER_USER = 2;
+
+    @Test
+    void 여러_유저의_히스토리를_동시에_저장해도_id_가_중복되거나_누락되지_않는다() throws InterruptedException {
+        // given
+        PointHistoryRepositoryImpl pointHistoryRepository = new PointHistoryRepositoryImpl(new PointHistoryTable());
+
+        // when: 유저마다 다른 스레드에서 동시에 저장
+        runPerUser(userId -> {
+            for (int i = 0; i < WRITES_PER_USER; i++) {
+                pointHistoryRepository.save(userId, 100L, TransactionType.CHARGE, System.currentTimeMillis());
+            }
+        });
+
+        // then
+        Set<Long> ids = new HashSet<>();
+        for (long userId = 1; userId <= USER_COUNT; userId++) {
+            List<PointHistory> histories = pointHistoryRepository.findAllByUserId(userId);
+            assertEquals(WRITES_PER_USER, histories.size());
+            histories.forEach(pointHistory -> ids.add(pointHistory.id()));
+        }
+        assertEquals(USER_COUNT * WRITES_PER_USER, ids.size()); // id 중복 없음
+        assertEquals(LongStream.rangeClosed(1, USER_COUNT * WRITES_PER_USER).boxed().toList(),
+                ids.stream().sorted().toList()); // 빠진 id 없음
+    }
+
+    @Test
+    void 여러_유저의_포인트를_동시에_저장해도_누락되지_않는다() throws InterruptedException {
+        // given
+        UserPointRepositoryImpl userPointRepository = new UserPointRepositoryImpl(new UserPointTable());
+
+        // when: 유저마다 다른 스레드에서 조회와 저장을 동시에 반복
+        runPerUser(userId -> {
+            for (int i = 1; i <= WRITES_PER_USER; i++) {
+                userPointRepository.findById(userId);
+                userPointRepository.saveOrUpdate(userId, userId * 1000 + i);
+            }
+        });
+
+        // then
+        for (long userId = 1; userId <= USER_COUNT; userId++) {
+            assertEquals(userId * 1000 + WRITES_PER_USER, userPointRepository.findById(userId).point());
+        }
+    }
+
+    private void runPerUser(UserTask task) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(USER_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        for (long userId = 1; userId <= USER_COUNT; userId++) {
+            long target = userId;
+            executorService.submit(() -> {
+                start.await();
+                task.run(target);
+                return null;
+            });
+        }
+        start.countDown();
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(2, TimeUnit.MINUTES));
+    }
+
+    private interface UserTask {
+        void run(long userId);
+    }
+}
@@ -0,0 +1,106 @@
+package io.hhplus.unit;
+
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.repository.UserPointSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UserPointSnapshotUnitTest {
+
+    private final UserPointSnapshot userPointSnapshot = new UserPointSnapshot();
+
+    @Test
+    void 게시된_적_없는_유저는_null_을_반환한다() {
+        assertNull(userPointSnapshot.find(1L));
+        assertEquals(1, userPointSnapshot.missCount());
+    }
+
+    @Test
+    void 마지막으로_게시된_포인트를_반환한다() {
+        // given
+        userPointSnapshot.publish(new UserPoint(1L, 100L, 1L));
+        userPointSnapshot.publish(new UserPoint(1L, 300L, 2L));
+
+        // when
+        UserPoint result = userPointSnapshot.find(1L);
+
+        // then
+        assertEquals(300L, result.point());
+        assertEquals(1, userPointSnapshot.hitCount());
+    }
+
+    @Test
+    void 테이블에서_읽은_값은_게시된_값을_덮어쓰지_않는다() {
+        // given: 조회가 테이블을 읽는 사이 저장이 끝나 더 최근 값이 게시됨
+        UserPoint staleRead = new UserPoint(1L, 100L, 1L);
+        userPointSnapshot.publish(new UserPoint(1L, 300L, 2L));
+
+        // when
+        userPointSnapshot.publishIfAbsent(staleRead);
+
+        // then
+        assertEquals(300L, userPointSnapshot.find(1L).point());
+    }
+
+    @Test
+    void 테이블에서_읽은_값은_게시된_값이_없을_때_채워진다() {
+        // when
+        userPointSnapshot.publishIfAbsent(new UserPoint(1L, 100L, 1L));
+
+        // then
+        assertEquals(100L, userPointSnapshot.find(1L).point());
+        assertEquals(1, userPointSnapshot.size());
+    }
+
+    // 게시하는 스레드가 계속 값을 바꾸는 동안 조회하는 스레드는 기다리지 않고 항상 게시된 순서대로 증가하는 값을 읽음
+    @Test
+    void 게시가_이어지는_동안에도_조회는_게시된_값을_순서대로_읽는다() throws Exception {
+        // given
+        int readerCount = 4;
+        long lastPoint = 100_000L;
+        userPointSnapshot.publish(new UserPoint(1L, 0L, 0L));
+        ExecutorService executorService = Executors.newFixedThreadPool(readerCount + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean wentBackwards = new AtomicBoolean(false);
+        AtomicLong reads = new AtomicLong();
+
+        // when
+        for (int i = 0; i < readerCount; i++) {
+            executorService.submit(() -> {
+                start.await();
+                long previous = 0;
+                while (previous < lastPoint) {
+                    long current = userPointSnapshot.find(1L).point();
+                    if (current < previous) {
+                        wentBackwards.set(true);
+                    }
+                    previous = current;
+                    reads.incrementAndGet();
+                }
+                return null;
+            });
+        }
+        executorService.submit(() -> {
+            start.await();
+            for (long point = 1; point <= lastPoint; point++) {
+                userPointSnapshot.publish(new UserPoint(1L, point, point));
+            }
+            return null;
+        });
+        start.countDown();
+        executorService.shutdown();
+
+        // then
+        assertTrue(executorService.awaitTermination(30, TimeUnit.SECONDS));
+        assertFalse(wentBackwards.get());
+        assertTrue(reads.get() >= readerCount);
+    }
+}
@@ -0,0 +1,122 @@
+package io.hhplus.unit;
+
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.repository.UserPointRepositoryImpl;
+import io.hhplus.tdd.point.repository.VersionedUserPointRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class VersionedUserPointRepositoryUnitTest {
+
+    @Mock
+    private UserPointRepositoryImpl userPointRepositoryImpl; // 실제 테이블 대신 사용할 목 객체
+
+    private VersionedUserPointRepository userPointRepository;
+
+    @BeforeEach
+    void setUp() {
+        userPointRepository = new VersionedUserPointRepository(userPointRepositoryImpl);
+    }
+
+    @Test
+    void 조회한_버전과_같으면_저장하고_버전을_올린다() {
+        // given
+        long userId = 1L;
+        when(userPointRepositoryImpl.findById(eq(userId))).thenReturn(new UserPoint(userId, 100L, 0L));
+        UserPoint userPoint = userPointRepository.findById(userId);
+
+        // when
+        UserPoint saved = userPointRepository.saveIfVersion(userId, userPoint.version(), 150L);
+
+        // then
+        assertNotNull(saved);
+        assertEquals(150L, saved.point());
+        assertEquals(userPoint.version() + 1, saved.version());
+        assertEquals(saved, userPointRepository.findById(userId));
+        verify(userPointRepositoryImpl).saveOrUpdate(eq(userId), eq(150L)); // 테이블에도 반영
+    }
+
+    @Test
+    void 조회한_뒤_다른_저장이_있었다면_저장하지_않는다() {
+        // given
+        long userId = 1L;
+        when(userPointRepositoryImpl.findById(eq(userId))).thenReturn(new UserPoint(userId, 100L, 0L));
+        UserPoint userPoint = userPointRepository.findById(userId);
+        userPointRepository.saveIfVersion(userId, userPoint.version(), 150L); // 다른 요청이 먼저 저장
+
+        // when
+        UserPoint saved = userPointRepository.saveIfVersion(userId, userPoint.version(), 200L);
+
+        // then
+        assertNull(saved);
+        assertEquals(150L, userPointRepository.findById(userId).point());
+        verify(userPointRepositoryImpl, never()).saveOrUpdate(eq(userId), eq(200L));
+    }
+
+    @Test
+    void 테이블은_처음_조회할_때만_읽는다() {
+        // given
+        long userId = 1L;
+        when(userPointRepositoryImpl.findById(eq(userId))).thenReturn(new UserPoint(userId, 100L, 0L));
+
+        // when
+        userPointRepository.findById(userId);
+        userPointRepository.saveOrUpdate(userId, 300L);
+        UserPoint result = userPointRepository.findById(userId);
+
+        // then
+        assertEquals(300L, result.point());
+        verify(userPointRepositoryImpl, times(1)).findById(eq(userId));
+    }
+
+    // 테이블에 저장하는 동안 같은 유저의 저장이 더 들어와도 요청 스레드는 한 번만 저장하고, 남은 저장은 작성 스레드가 이어받음
+    @Test
+    void 저장_중에_들어온_저장은_작성_스레드가_이어받는다() throws Exception {
+        // given
+        long userId = 1L;
+        CountDownLatch secondCommitted = new CountDownLatch(1);
+        List<String> savedBy = new CopyOnWriteArrayList<>();
+        when(userPointRepositoryImpl.findById(eq(userId))).thenReturn(new UserPoint(userId, 100L, 0L));
+        doAnswer(invocation -> {
+            savedBy.add(Thread.currentThread().getName() + ":" + invocation.getArgument(1));
+            if (invocation.<Long>getArgument(1) == 150L) {
+                secondCommitted.await(5, TimeUnit.SECONDS); // 첫 저장이 끝나기 전에 다음 저장이 커밋됨
+            }
+            return new UserPoint(userId, invocation.getArgument(1), 0L);
+        }).when(userPointRepositoryImpl).saveOrUpdate(eq(userId), anyLong());
+        UserPoint userPoint = userPointRepository.findById(userId);
+        ExecutorService executorService = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "request"));
+
+        // when
+        Future<UserPoint> first = executorService.submit(() -> userPointRepository.saveIfVersion(userId, userPoint.version(), 150L));
+        while (userPointRepository.findById(userId).point() != 150L) {
+            Thread.onSpinWait();
+        }
+        UserPoint second = userPointRepository.saveIfVersion(userId, userPoint.version() + 1, 200L);
+        secondCommitted.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then: 두 번째 저장은 기다리지 않고 반환되고, 테이블에는 작성 스레드가 최신 값을 저장
+        assertNotNull(second);
+        verify(userPointRepositoryImpl, timeout(5000)).saveOrUpdate(eq(userId), eq(200L));
+        assertEquals(List.of("request:150", "point-versioned-writer:200"), savedBy);
+    }
+}
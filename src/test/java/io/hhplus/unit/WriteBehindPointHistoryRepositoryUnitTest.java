@@ -0,0 +1,160 @@
+package io.hhplus.unit;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.PointHistoryCursor;
+import io.hhplus.tdd.point.domain.PointHistoryPage;
+import io.hhplus.tdd.point.enums.TransactionType;
+import io.hhplus.tdd.point.repository.PointHistoryRepositoryImpl;
+import io.hhplus.tdd.point.repository.WriteBehindPointHistoryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WriteBehindPointHistoryRepositoryUnitTest {
+
+    private PointHistoryRepositoryImpl pointHistoryRepositoryImpl; // 실제 테이블에 저장하는 저장소
+
+    private WriteBehindPointHistoryRepository pointHistoryRepository;
+
+    @BeforeEach
+    void setUp() {
+        pointHistoryRepositoryImpl = new PointHistoryRepositoryImpl(new PointHistoryTable());
+        pointHistoryRepository = new WriteBehindPointHistoryRepository(pointHistoryRepositoryImpl, 100, 10);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        pointHistoryRepository.shutdown();
+    }
+
+    @Test
+    void 저장_직후에도_저장한_내역이_조회된다() {
+        // given
+        long userId = 1L;
+
+        // when
+        pointHistoryRepository.save(userId, 100L, TransactionType.CHARGE, System.currentTimeMillis());
+        pointHistoryRepository.save(userId, 50L, TransactionType.USE, System.currentTimeMillis());
+
+        // then: 테이블 저장 여부와 관계없이 두 건 모두 조회되어야 함
+        List<PointHistory> pointHistoryList = pointHistoryRepository.findAllByUserId(userId);
+        assertEquals(2, pointHistoryList.size());
+        assertEquals(TransactionType.CHARGE, pointHistoryList.get(0).type());
+        assertEquals(TransactionType.USE, pointHistoryList.get(1).type());
+    }
+
+    @Test
+    void flush_후에는_모든_내역이_테이블에_저장된다() {
+        // given
+        long userId = 1L;
+        for (int i = 0; i < 5; i++) {
+            pointHistoryRepository.save(userId, 100L, TransactionType.CHARGE, System.currentTimeMillis());
+        }
+
+        // when
+        pointHistoryRepository.flush();
+
+        // then
+        assertEquals(0, pointHistoryRepository.pendingCount());
+        List<PointHistory> pointHistoryList = pointHistoryRepositoryImpl.findAllByUserId(userId);
+        assertEquals(5, pointHistoryList.size());
+        assertTrue(pointHistoryList.stream().allMatch(pointHistory -> pointHistory.id() > 0));
+
+        // 저장 이후 조회 시 중복 없이 반환되어야 함
+        assertEquals(5, pointHistoryRepository.findAllByUserId(userId).size());
+    }
+
+    @Test
+    void 종료시_대기중인_내역을_모두_저장한다() throws InterruptedException {
+        // given
+        long userId = 2L;
+        for (int i = 0; i < 3; i++) {
+            pointHistoryRepository.save(userId, 100L, TransactionType.CHARGE, System.currentTimeMillis());
+        }
+
+        // when
+        pointHistoryRepository.shutdown();
+
+        // then
+        assertEquals(3, pointHistoryRepositoryImpl.findAllByUserId(userId).size());
+    }
+
+    @Test
+    void 저장_전_내역의_id_는_저장_후에도_같다() {
+        // given
+        long userId = 3L;
+        PointHistory first = pointHistoryRepository.save(userId, 100L, TransactionType.CHARGE, 1_000L);
+        PointHistory second = pointHistoryRepository.save(userId, 50L, TransactionType.USE, 1_000L);
+
+        // when
+        pointHistoryRepository.flush();
+
+        // then
+        assertEquals(List.of(first, second), pointHistoryRepositoryImpl.findAllByUserId(userId));
+    }
+
+    // 저장 전 내역으로 만든 커서로 다음 페이지를 조회해도 저장이 진행되는 동안 중복/누락이 없어야 함
+    @Test
+    void 저장이_진행되는_동안_페이지를_넘겨도_중복이나_누락이_없다() throws InterruptedException {
+        // given: 같은 시각의 내역 여러 건이 아직 저장되지 않은 상태
+        long userId = 4L;
+        int count = 12;
+        for (int i = 0; i < count; i++) {
+            pointHistoryRepository.save(userId, 100L + i, TransactionType.CHARGE, 5_000L);
+        }
+
+        // when: 저장이 진행되는 동안 3건씩 페이지를 넘김
+        List<Long> pagedAmounts = new ArrayList<>();
+        PointHistoryCursor cursor = PointHistoryCursor.FIRST;
+        PointHistoryPage page;
+        do {
+            page = PointHistory.findPageByUserId(userId, cursor, 3, null, pointHistoryRepository);
+            page.histories().forEach(pointHistory -> pagedAmounts.add(pointHistory.amount()));
+            cursor = page.nextCursor();
+            TimeUnit.MILLISECONDS.sleep(100);
+        } while (page.hasNext());
+
+        // then
+        assertEquals(LongStream.range(100L, 100L + count).boxed().toList(), pagedAmounts);
+    }
+
+    @Test
+    void 저장에_실패한_내역은_버리지_않고_다시_저장한다() throws InterruptedException {
+        // given: 처음 두 번은 저장에 실패하는 테이블
+        AtomicInteger remainingFailures = new AtomicInteger(2);
+        PointHistoryTable flakyTable = new PointHistoryTable() {
+            @Override
+            public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+                if (remainingFailures.getAndDecrement() > 0) {
+                    throw new IllegalStateException("저장 실패");
+                }
+                return super.insert(userId, amount, type, updateMillis);
+            }
+        };
+        PointHistoryRepositoryImpl flakyRepositoryImpl = new PointHistoryRepositoryImpl(flakyTable);
+        WriteBehindPointHistoryRepository flakyRepository = new WriteBehindPointHistoryRepository(flakyRepositoryImpl, 100, 10);
+        long userId = 5L;
+
+        try {
+            // when
+            PointHistory first = flakyRepository.save(userId, 100L, TransactionType.CHARGE, 1_000L);
+            PointHistory second = flakyRepository.save(userId, 50L, TransactionType.USE, 1_000L);
+
+            // then: 다시 저장하는 동안에도 조회되며, 저장이 끝나면 두 건 모두 순서와 id 그대로 테이블에 있어야 함
+            assertEquals(2, flakyRepository.findAllByUserId(userId).size());
+            flakyRepository.flush();
+            assertEquals(List.of(first, second), flakyRepositoryImpl.findAllByUserId(userId));
+        } finally {
+            flakyRepository.shutdown();
+        }
+    }
+}